@@ -1,7 +1,7 @@
 package com.doksanbir.productordermanagementpoc.application.port.in.order;
 
-import com.doksanbir.productordermanagementpoc.domain.Order;
 import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
 
 import java.util.List;
 
@@ -14,7 +14,7 @@ public interface AdvancedSearchOrdersUseCase {
      *
      * @param status    the status of the orders to search for (optional)
      * @param productId the ID of the product associated with the orders (optional)
-     * @return the list of matching orders
+     * @return the summaries of the matching orders
      */
-    List<Order> advancedSearchOrders(OrderStatus status, Long productId);
+    List<OrderSummary> advancedSearchOrders(OrderStatus status, Long productId);
 }
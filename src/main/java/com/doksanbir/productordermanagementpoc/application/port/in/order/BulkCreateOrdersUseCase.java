@@ -0,0 +1,24 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.order;
+
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Use case interface for creating a large number of orders in one request.
+ */
+public interface BulkCreateOrdersUseCase {
+    /**
+     * Creates the given orders, persisting them in JDBC batches.
+     * <p>
+     * Orders are pulled from the iterator lazily, so the caller can feed them straight from
+     * a streaming parser. Every item gets its own result; a failing item does not affect the others,
+     * except that a malformed item ends the request since nothing after it can be read.
+     *
+     * @param orders the orders to create
+     * @return one result per item, in request order
+     */
+    List<BulkOrderResult> bulkCreateOrders(Iterator<Order> orders);
+}
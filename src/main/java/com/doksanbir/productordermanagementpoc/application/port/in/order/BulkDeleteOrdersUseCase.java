@@ -0,0 +1,29 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.order;
+
+import com.doksanbir.productordermanagementpoc.domain.OrderDeletionRequest;
+import com.doksanbir.productordermanagementpoc.domain.OrderDeletionResult;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Use case interface for deleting the orders matching a filter in one request.
+ */
+public interface BulkDeleteOrdersUseCase {
+    /**
+     * Starts deleting the orders matching the status, product and age filters of the request in
+     * the background, or only counts them in a dry run.
+     *
+     * @param request the filters and whether to only count the matching orders
+     * @return the number of matching orders in a dry run, otherwise the started deletion job
+     */
+    OrderDeletionResult bulkDeleteOrders(OrderDeletionRequest request);
+
+    /**
+     * Retrieves the progress of a bulk deletion job.
+     *
+     * @param jobId the ID of the job
+     * @return the progress of the job, or empty if it is unknown or has been forgotten
+     */
+    Optional<OrderDeletionResult> retrieveBulkDeletion(UUID jobId);
+}
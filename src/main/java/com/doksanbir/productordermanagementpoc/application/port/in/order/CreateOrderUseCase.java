@@ -13,4 +13,14 @@ public interface CreateOrderUseCase {
      * @return the created order
      */
     Order createOrder(Order order);
+
+    /**
+     * Creates a new order at most once per idempotency key. Repeating a request with the same
+     * key returns the order created by the first request instead of creating another one.
+     *
+     * @param order          the order to create
+     * @param idempotencyKey the idempotency key of the request
+     * @return the order created under the key
+     */
+    Order createOrder(Order order, String idempotencyKey);
 }
@@ -0,0 +1,15 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.order;
+
+/**
+ * Use case interface for releasing the stock reservations of pending orders that were not
+ * confirmed in time.
+ */
+public interface ExpireReservationsUseCase {
+    /**
+     * Cancels the pending orders whose reservation has expired, giving their quantity back to the
+     * stock of their product. Orders confirmed or cancelled in the meantime are left unchanged.
+     *
+     * @return the number of cancelled orders
+     */
+    int expireReservations();
+}
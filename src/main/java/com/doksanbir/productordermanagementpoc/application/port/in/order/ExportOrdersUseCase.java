@@ -0,0 +1,20 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.order;
+
+import com.doksanbir.productordermanagementpoc.domain.Order;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case interface for exporting all orders as a stream.
+ */
+public interface ExportOrdersUseCase {
+    /**
+     * Streams every order to the given sink, one at a time and ordered by ID.
+     * <p>
+     * Orders are read through a database cursor and detached once handed to the sink,
+     * so memory use stays constant regardless of the number of orders.
+     *
+     * @param sink the consumer receiving each order
+     */
+    void exportOrders(Consumer<Order> sink);
+}
@@ -1,17 +1,18 @@
 package com.doksanbir.productordermanagementpoc.application.port.in.order;
 
-import com.doksanbir.productordermanagementpoc.domain.Order;
-
-import java.util.List;
+import com.doksanbir.productordermanagementpoc.domain.CursorPage;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
 
 /**
- * Use case interface for listing all orders with optional filtering and pagination.
+ * Use case interface for listing orders with keyset (cursor) pagination.
  */
 public interface ListOrdersUseCase {
     /**
-     * Lists all orders with optional filtering.
+     * Lists one page of orders, ordered by ID.
      *
-     * @return the list of orders
+     * @param cursor the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the maximum number of orders in the page
+     * @return the page of order summaries together with the cursor of the next page
      */
-    List<Order> listOrders();
+    CursorPage<OrderSummary> listOrders(String cursor, int size);
 }
@@ -0,0 +1,22 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.order;
+
+import com.doksanbir.productordermanagementpoc.domain.Order;
+
+import java.util.Map;
+
+/**
+ * Use case interface for partially updating an order.
+ */
+public interface PatchOrderUseCase {
+    /**
+     * Applies a JSON Merge Patch to an order. Fields present in the patch replace the order's
+     * values and absent fields are left unchanged. Only the product, given as {@code {"id": ...}},
+     * the quantity and the status can be patched; none of them can be cleared.
+     *
+     * @param orderId         the ID of the order
+     * @param patch           the merge patch document
+     * @param expectedVersion the version the order must be at, or {@code null} for any version
+     * @return the patched order
+     */
+    Order patchOrder(Long orderId, Map<String, Object> patch, Long expectedVersion);
+}
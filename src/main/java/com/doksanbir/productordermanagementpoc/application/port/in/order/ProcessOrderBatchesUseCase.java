@@ -0,0 +1,16 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.order;
+
+/**
+ * Use case interface for processing orders in the background, in chunks per status.
+ */
+public interface ProcessOrderBatchesUseCase {
+    /**
+     * Drains every status that has a processing strategy, advancing each order by one step.
+     * <p>
+     * Orders are processed in chunks, each committed together with a checkpoint, so an
+     * interrupted run resumes after the last committed chunk.
+     *
+     * @return the number of processed orders
+     */
+    long processOrderBatches();
+}
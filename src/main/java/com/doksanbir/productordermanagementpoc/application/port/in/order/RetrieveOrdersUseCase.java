@@ -0,0 +1,19 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.order;
+
+import com.doksanbir.productordermanagementpoc.domain.MultiGetResult;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+
+import java.util.List;
+
+/**
+ * Use case interface for retrieving several orders by ID at once.
+ */
+public interface RetrieveOrdersUseCase {
+    /**
+     * Retrieves the summaries of the orders with the given IDs.
+     *
+     * @param orderIds the IDs of the orders; duplicates are resolved once
+     * @return the found order summaries in request order and the IDs without an order
+     */
+    MultiGetResult<OrderSummary> retrieveOrders(List<Long> orderIds);
+}
@@ -1,7 +1,7 @@
 package com.doksanbir.productordermanagementpoc.application.port.in.order;
 
-import com.doksanbir.productordermanagementpoc.domain.Order;
 import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
 
 import java.util.List;
 
@@ -13,7 +13,7 @@ public interface SearchOrdersUseCase {
      * Searches orders based on the provided criteria.
      *
      * @param status the status of the order
-     * @return the list of matching orders
+     * @return the summaries of the matching orders
      */
-    List<Order> searchOrders(OrderStatus status);
+    List<OrderSummary> searchOrders(OrderStatus status);
 }
@@ -0,0 +1,20 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.order;
+
+import com.doksanbir.productordermanagementpoc.domain.OrderTransitionRequest;
+import com.doksanbir.productordermanagementpoc.domain.OrderTransitionResult;
+
+/**
+ * Use case interface for moving many orders to a new status in one request.
+ */
+public interface TransitionOrdersUseCase {
+    /**
+     * Moves the selected orders to the target status.
+     * <p>
+     * Only orders whose current status allows the transition are moved; every other selected
+     * order is reported as skipped, together with the reason.
+     *
+     * @param request the orders to move and the target status
+     * @return the moved and the skipped orders
+     */
+    OrderTransitionResult transitionOrders(OrderTransitionRequest request);
+}
@@ -13,4 +13,14 @@ public interface UpdateOrderUseCase {
      * @return the updated order
      */
     Order updateOrder(Order order);
+
+    /**
+     * Updates an existing order only if it is still at the expected version. Without an expected
+     * version, the update is applied to the latest version of the order.
+     *
+     * @param order           the order with updated information
+     * @param expectedVersion the version the order must be at, or {@code null} for any version
+     * @return the updated order
+     */
+    Order updateOrder(Order order, Long expectedVersion);
 }
@@ -0,0 +1,20 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.product;
+
+import com.doksanbir.productordermanagementpoc.domain.Product;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case interface for exporting all products as a stream.
+ */
+public interface ExportProductsUseCase {
+    /**
+     * Streams every product to the given sink, one at a time and ordered by ID.
+     * <p>
+     * Products are read through a database cursor and detached once handed to the sink,
+     * so memory use stays constant regardless of the number of products.
+     *
+     * @param sink the consumer receiving each product
+     */
+    void exportProducts(Consumer<Product> sink);
+}
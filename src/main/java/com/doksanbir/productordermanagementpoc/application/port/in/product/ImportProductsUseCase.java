@@ -0,0 +1,24 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.product;
+
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportReport;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Use case interface for bulk loading a product catalog.
+ */
+public interface ImportProductsUseCase {
+    /**
+     * Imports products from a stream of text lines, one product per line.
+     * <p>
+     * Rows that cannot be parsed, fail validation or collide with an existing product name are
+     * reported as rejects; they never abort the rest of the load.
+     *
+     * @param lines     the data lines to import, without any header line
+     * @param rowParser parses one line into a product, throwing a runtime exception if it is malformed
+     * @return the number of imported products and the rejected rows
+     */
+    ProductImportReport importProducts(Stream<String> lines, Function<String, Product> rowParser);
+}
@@ -1,17 +1,18 @@
 package com.doksanbir.productordermanagementpoc.application.port.in.product;
 
-import com.doksanbir.productordermanagementpoc.domain.Product;
-
-import java.util.List;
+import com.doksanbir.productordermanagementpoc.domain.CursorPage;
+import com.doksanbir.productordermanagementpoc.domain.ProductSummary;
 
 /**
- * Use case interface for listing all products with optional filtering and pagination.
+ * Use case interface for listing products with keyset (cursor) pagination.
  */
 public interface ListProductsUseCase {
     /**
-     * Lists all products with optional filtering.
+     * Lists one page of products, ordered by ID.
      *
-     * @return the list of products
+     * @param cursor the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the maximum number of products in the page
+     * @return the page of product summaries together with the cursor of the next page
      */
-    List<Product> listProducts();
+    CursorPage<ProductSummary> listProducts(String cursor, int size);
 }
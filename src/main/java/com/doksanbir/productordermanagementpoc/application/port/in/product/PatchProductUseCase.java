@@ -0,0 +1,22 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.product;
+
+import com.doksanbir.productordermanagementpoc.domain.Product;
+
+import java.util.Map;
+
+/**
+ * Use case interface for partially updating a product.
+ */
+public interface PatchProductUseCase {
+    /**
+     * Applies a JSON Merge Patch to a product. Fields present in the patch replace the product's
+     * values, a {@code null} value clears an optional field, and absent fields are left unchanged.
+     * Only the name, description, price and category can be patched.
+     *
+     * @param productId       the ID of the product
+     * @param patch           the merge patch document
+     * @param expectedVersion the version the product must be at, or {@code null} for any version
+     * @return the patched product
+     */
+    Product patchProduct(Long productId, Map<String, Object> patch, Long expectedVersion);
+}
@@ -0,0 +1,19 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.product;
+
+import com.doksanbir.productordermanagementpoc.domain.MultiGetResult;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+
+import java.util.List;
+
+/**
+ * Use case interface for retrieving several products by ID at once.
+ */
+public interface RetrieveProductsUseCase {
+    /**
+     * Retrieves the products with the given IDs.
+     *
+     * @param productIds the IDs of the products; duplicates are resolved once
+     * @return the found products in request order and the IDs without a product
+     */
+    MultiGetResult<Product> retrieveProducts(List<Long> productIds);
+}
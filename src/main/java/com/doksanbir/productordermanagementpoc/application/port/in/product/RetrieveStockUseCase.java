@@ -0,0 +1,15 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.product;
+
+/**
+ * Use case interface for reading the current stock of a product.
+ */
+public interface RetrieveStockUseCase {
+    /**
+     * Retrieves the current stock of a product, including adjustments that have been accepted
+     * but not yet written to the database.
+     *
+     * @param productId the ID of the product
+     * @return the stock quantity
+     */
+    int retrieveStock(Long productId);
+}
@@ -1,6 +1,6 @@
 package com.doksanbir.productordermanagementpoc.application.port.in.product;
 
-import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductSummary;
 
 import java.util.List;
 
@@ -13,7 +13,7 @@ public interface SearchProductsUseCase {
      *
      * @param name     the name of the product
      * @param category the category of the product
-     * @return the list of matching products
+     * @return the summaries of the matching products
      */
-    List<Product> searchProducts(String name, String category);
+    List<ProductSummary> searchProducts(String name, String category);
 }
@@ -0,0 +1,16 @@
+package com.doksanbir.productordermanagementpoc.application.port.in.product;
+
+/**
+ * Use case interface for spreading the stock of a hot product over several bucket rows.
+ */
+public interface ShardStockUseCase {
+    /**
+     * Splits the stock of a product over the given number of buckets, or merges it back into
+     * the product when the number is zero. The stock quantity of the product is unchanged.
+     *
+     * @param productId the ID of the product
+     * @param buckets   the number of buckets
+     * @return the stock quantity of the product
+     */
+    int shardStock(Long productId, int buckets);
+}
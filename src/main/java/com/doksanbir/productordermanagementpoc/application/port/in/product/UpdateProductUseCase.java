@@ -13,4 +13,14 @@ public interface UpdateProductUseCase {
      * @return the updated product
      */
     Product updateProduct(Product product);
+
+    /**
+     * Updates an existing product only if it is still at the expected version. Without an expected
+     * version, the update is applied to the latest version of the product.
+     *
+     * @param product         the product with updated information
+     * @param expectedVersion the version the product must be at, or {@code null} for any version
+     * @return the updated product
+     */
+    Product updateProduct(Product product, Long expectedVersion);
 }
@@ -0,0 +1,36 @@
+package com.doksanbir.productordermanagementpoc.application.port.out.order;
+
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+
+import java.util.Optional;
+
+/**
+ * Port interface for the checkpoints of the chunked order batch processor.
+ * <p>
+ * A checkpoint records, per status, the highest order ID whose chunk has been processed, so that
+ * an interrupted drain resumes after the last committed chunk instead of starting over.
+ */
+public interface OrderBatchCheckpointPort {
+    /**
+     * Finds the checkpoint of a status.
+     *
+     * @param status the status being drained
+     * @return an optional containing the highest processed order ID, or empty if no drain is in progress
+     */
+    Optional<Long> findCheckpoint(OrderStatus status);
+
+    /**
+     * Records the checkpoint of a status. Must be called in the transaction that processed the chunk.
+     *
+     * @param status      the status being drained
+     * @param lastOrderId the highest processed order ID
+     */
+    void saveCheckpoint(OrderStatus status, Long lastOrderId);
+
+    /**
+     * Removes the checkpoint of a status once it has been drained.
+     *
+     * @param status the drained status
+     */
+    void clearCheckpoint(OrderStatus status);
+}
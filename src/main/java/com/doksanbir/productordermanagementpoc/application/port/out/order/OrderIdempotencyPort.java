@@ -0,0 +1,24 @@
+package com.doksanbir.productordermanagementpoc.application.port.out.order;
+
+import com.doksanbir.productordermanagementpoc.domain.Order;
+
+import java.util.function.Supplier;
+
+/**
+ * Port interface for the in-memory store of orders created under an idempotency key.
+ */
+public interface OrderIdempotencyPort {
+
+    /**
+     * Returns the order created under a key, creating it if the key is not known yet.
+     * <p>
+     * Concurrent callers with the same key do not create the order twice: they wait for the
+     * first caller and receive a copy of its order, or its exception. A creation that failed is not
+     * remembered, so a later call with the key tries again.
+     *
+     * @param idempotencyKey the idempotency key
+     * @param creator        creates the order, called at most once per key at a time
+     * @return the order created under the key
+     */
+    Order computeIfAbsent(String idempotencyKey, Supplier<Order> creator);
+}
@@ -0,0 +1,55 @@
+package com.doksanbir.productordermanagementpoc.application.port.out.order;
+
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Port interface for an in-memory query engine over order summaries.
+ * <p>
+ * The engine answers status and product filters without a database round-trip. It must be kept
+ * current by every write path that creates, changes or deletes orders.
+ */
+public interface OrderIndexPort {
+    /**
+     * Replaces the contents of the index with the given order summaries.
+     * <p>
+     * Orders written through {@link #put(OrderSummary)} or {@link #remove(Long)} while the rebuild
+     * is running take precedence over the rows read by the rebuild.
+     *
+     * @param orders the order summaries to index
+     */
+    void rebuild(Stream<OrderSummary> orders);
+
+    /**
+     * Checks whether the index has been built and can answer queries.
+     *
+     * @return {@code true} if the index is ready
+     */
+    boolean isReady();
+
+    /**
+     * Adds an order to the index, or replaces its previously indexed summary.
+     *
+     * @param order the summary of the order
+     */
+    void put(OrderSummary order);
+
+    /**
+     * Removes an order from the index.
+     *
+     * @param orderId the ID of the order
+     */
+    void remove(Long orderId);
+
+    /**
+     * Finds the summaries of the orders matching all given filters.
+     *
+     * @param status    the status of the orders, or {@code null} to not filter by status
+     * @param productId the ID of the ordered product, or {@code null} to not filter by product
+     * @return the matching order summaries ordered by ID
+     */
+    List<OrderSummary> search(OrderStatus status, Long productId);
+}
@@ -2,10 +2,15 @@ package com.doksanbir.productordermanagementpoc.application.port.out.order;
 
 import com.doksanbir.productordermanagementpoc.domain.Order;
 import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository port interface for order persistence operations.
@@ -20,6 +25,73 @@ public interface OrderRepositoryPort {
      */
     Order save(Order order);
 
+    /**
+     * Saves an order holding a stock reservation, moving the reservation from the product and
+     * quantity it was placed with to the order's current ones in the same transaction.
+     *
+     * @param order             the order to save
+     * @param reservedProductId the ID of the product the reservation is currently taken from
+     * @param reservedQuantity  the currently reserved quantity
+     * @return an optional containing the saved order, or empty if the product of the order has
+     * insufficient stock, in which case nothing is written
+     */
+    Optional<Order> saveReserved(Order order, Long reservedProductId, int reservedQuantity);
+
+    /**
+     * Places new orders using a single JDBC batch in one transaction, like {@link #placeOrder(Order)}
+     * for each of them, and assigns their generated IDs.
+     *
+     * @param orders the orders to place, with their final status already set
+     * @return the placed orders; orders whose product has insufficient stock are left out and not written
+     */
+    List<Order> placeAll(List<Order> orders);
+
+    /**
+     * Places a new order in a single round-trip: the ordered quantity is removed from the stock of
+     * the product and the order is inserted atomically, provided the stock suffices.
+     *
+     * @param order the order to place, with its final status already set
+     * @return an optional containing the placed order with its ID set, or empty if the product
+     * does not exist or has insufficient stock, in which case nothing is written
+     */
+    Optional<Order> placeOrder(Order order);
+
+    /**
+     * Places a new order like {@link #placeOrder(Order)}, recording it under an idempotency key in
+     * the same statement.
+     *
+     * @param order          the order to place, with its final status already set
+     * @param idempotencyKey the idempotency key of the request
+     * @return an optional containing the placed order with its ID set, or empty if the product
+     * does not exist or has insufficient stock, in which case nothing is written
+     * @throws org.springframework.dao.DuplicateKeyException if an order was already placed under the key
+     */
+    Optional<Order> placeOrder(Order order, String idempotencyKey);
+
+    /**
+     * Finds the ID of the order placed under an idempotency key.
+     *
+     * @param idempotencyKey the idempotency key
+     * @return an optional containing the ID of the order if the key is known
+     */
+    Optional<Long> findOrderIdByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Deletes the idempotency keys recorded before a point in time. Their orders are kept.
+     *
+     * @param before the exclusive upper bound of the recording time
+     * @return the number of deleted keys
+     */
+    int deleteIdempotencyKeysBefore(LocalDateTime before);
+
+    /**
+     * Saves the given orders.
+     *
+     * @param orders the orders to save
+     * @return the saved orders
+     */
+    List<Order> saveAll(List<Order> orders);
+
     /**
      * Finds an order by its ID.
      *
@@ -29,11 +101,38 @@ public interface OrderRepositoryPort {
     Optional<Order> findById(Long orderId);
 
     /**
-     * Deletes an order by its ID.
+     * Deletes an order by its ID. A pending order holding reserved stock gives it back.
      *
      * @param orderId the ID of the order to delete
+     * @return the summary of the deleted order, or empty if the order does not exist
      */
-    void deleteById(Long orderId);
+    Optional<OrderSummary> deleteById(Long orderId);
+
+    /**
+     * Counts the orders matching the given filters; {@code null} filters are ignored.
+     *
+     * @param status        the status of the orders
+     * @param productId     the ID of the product of the orders
+     * @param createdBefore the exclusive upper bound of the creation time of the orders
+     * @return the number of matching orders
+     */
+    long countOrders(OrderStatus status, Long productId, LocalDateTime createdBefore);
+
+    /**
+     * Deletes the first matching orders after an ID with a single statement; {@code null} filters
+     * are ignored. Orders locked by other transactions are skipped. Pending orders holding
+     * reserved stock give it back.
+     *
+     * @param status        the status of the orders
+     * @param productId     the ID of the product of the orders
+     * @param createdBefore the exclusive upper bound of the creation time of the orders
+     * @param afterId       the ID after which to delete, or {@code null} to start from the first order
+     * @param limit         the maximum number of orders to delete
+     * @return the summaries of the deleted orders, ordered by ID; fewer than {@code limit} once
+     * no matching orders are left after the last one
+     */
+    List<OrderSummary> deleteOrders(OrderStatus status, Long productId, LocalDateTime createdBefore,
+                                    Long afterId, int limit);
 
     /**
      * Retrieves all orders.
@@ -42,6 +141,88 @@ public interface OrderRepositoryPort {
      */
     List<Order> findAll();
 
+    /**
+     * Retrieves a page of order summaries whose ID is greater than the given one, ordered by ID.
+     *
+     * @param afterId the ID after which the page starts, or {@code null} for the first page
+     * @param limit   the maximum number of orders to return
+     * @return the list of order summaries
+     */
+    List<OrderSummary> findSummaryPageAfter(Long afterId, int limit);
+
+    /**
+     * Finds the IDs of orders with the given status whose ID is greater than the given one, ordered by ID.
+     *
+     * @param status  the status of the orders
+     * @param afterId the ID after which the IDs start, or {@code null} to start from the first order
+     * @param limit   the maximum number of IDs to return
+     * @return the list of order IDs
+     */
+    List<Long> findIdsByStatusAfter(OrderStatus status, Long afterId, int limit);
+
+    /**
+     * Moves every order in an ID range that has the given status to a new status, with a single
+     * set-based update. Orders in the range with another status are left unchanged.
+     *
+     * @param from    the current status of the orders to move
+     * @param to      the new status
+     * @param afterId the exclusive lower bound of the ID range, or {@code null} for no lower bound
+     * @param upToId  the inclusive upper bound of the ID range
+     * @return the summaries of the updated orders
+     */
+    List<OrderSummary> transitionStatus(OrderStatus from, OrderStatus to, Long afterId, Long upToId);
+
+    /**
+     * Moves the given orders to a new status with a single set-based update, provided their
+     * current status is one of the given ones. Other orders are left unchanged.
+     *
+     * @param orderIds the IDs of the orders to move
+     * @param from     the statuses the orders may currently have
+     * @param to       the new status
+     * @return the summaries of the updated orders
+     */
+    List<OrderSummary> transitionStatus(Collection<Long> orderIds, Set<OrderStatus> from, OrderStatus to);
+
+    /**
+     * Cancels the given orders with a single set-based update, provided their current status is
+     * one of the given ones, and gives the quantity of those holding a stock reservation back to
+     * the stock of their product as part of the same statement. Other orders are left unchanged.
+     *
+     * @param orderIds the IDs of the orders to cancel
+     * @param from     the statuses the orders may currently have
+     * @return the summaries of the cancelled orders
+     */
+    List<OrderSummary> cancelOrders(Collection<Long> orderIds, Set<OrderStatus> from);
+
+    /**
+     * Streams all orders ordered by ID through a database cursor.
+     * <p>
+     * The stream must be consumed within a transaction and closed afterwards.
+     * Each order is detached from the persistence context as it passes through the stream.
+     *
+     * @return the stream of orders
+     */
+    Stream<Order> streamAll();
+
+    /**
+     * Streams the summaries of all orders ordered by ID through a database cursor.
+     * <p>
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @return the stream of order summaries
+     */
+    Stream<OrderSummary> streamSummaries();
+
+    /**
+     * Streams the summaries of the pending orders holding a stock reservation, ordered by ID,
+     * through a database cursor.
+     * <p>
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @return the stream of order summaries
+     */
+    Stream<OrderSummary> streamReservedPendingSummaries();
+
     /**
      * Searches orders based on status.
      *
@@ -57,4 +238,20 @@ public interface OrderRepositoryPort {
      * @return the list of matching orders
      */
     List<Order> findAll(Specification<Order> specification);
+
+    /**
+     * Finds the summaries of the orders matching a specification, ordered by ID.
+     *
+     * @param specification the specification to filter orders
+     * @return the list of matching order summaries
+     */
+    List<OrderSummary> findSummaries(Specification<Order> specification);
+
+    /**
+     * Finds the summaries of the orders with the given IDs, ordered by ID.
+     *
+     * @param orderIds the IDs of the orders
+     * @return the list of order summaries; IDs without an order are left out
+     */
+    List<OrderSummary> findSummariesByIds(Collection<Long> orderIds);
 }
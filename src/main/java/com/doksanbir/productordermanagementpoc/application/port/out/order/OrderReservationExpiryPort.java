@@ -0,0 +1,29 @@
+package com.doksanbir.productordermanagementpoc.application.port.out.order;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Port interface for tracking when the stock reservations of pending orders expire.
+ * <p>
+ * Scheduled reservations are never withdrawn: an order that was confirmed or cancelled before its
+ * reservation expired is still returned by {@link #expire(Instant)}, and the caller ignores it.
+ */
+public interface OrderReservationExpiryPort {
+
+    /**
+     * Schedules the reservation of an order to expire at a deadline.
+     *
+     * @param orderId  the ID of the order
+     * @param deadline the time at which the reservation expires
+     */
+    void schedule(Long orderId, Instant deadline);
+
+    /**
+     * Removes and returns the reservations whose deadline has passed.
+     *
+     * @param now the current time
+     * @return the IDs of the orders whose reservation expired
+     */
+    List<Long> expire(Instant now);
+}
@@ -1,10 +1,20 @@
 package com.doksanbir.productordermanagementpoc.application.port.out.product;
 
 import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportReport;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportRow;
+import com.doksanbir.productordermanagementpoc.domain.ProductSummary;
+import com.doksanbir.productordermanagementpoc.domain.StockDeltaBatch;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Repository port interface for product persistence operations.
@@ -19,6 +29,17 @@ public interface ProductRepositoryPort {
      */
     Product save(Product product);
 
+    /**
+     * Writes the given fields of a product, and increments its version, without reading it first.
+     *
+     * @param productId       the ID of the product
+     * @param changes         the new values keyed by field name: {@code name}, {@code description},
+     *                        {@code price} or {@code category}
+     * @param expectedVersion the version the product must be at, or {@code null} for any version
+     * @return the updated product, or empty if the product does not exist or is at another version
+     */
+    Optional<Product> patch(Long productId, Map<String, Object> changes, Long expectedVersion);
+
     /**
      * Finds a product by its ID.
      *
@@ -27,6 +48,86 @@ public interface ProductRepositoryPort {
      */
     Optional<Product> findById(Long productId);
 
+    /**
+     * Finds the products with the given IDs, using at most a single query.
+     *
+     * @param productIds the IDs of the products
+     * @return the found products in no particular order; IDs without a product are left out
+     */
+    List<Product> findAllByIds(Collection<Long> productIds);
+
+    /**
+     * Returns which of the given product IDs exist, using a single query.
+     *
+     * @param productIds the IDs to check
+     * @return the subset of the IDs that exist
+     */
+    Set<Long> findExistingIds(Collection<Long> productIds);
+
+    /**
+     * Checks whether a product exists.
+     *
+     * @param productId the ID of the product
+     * @return {@code true} if the product exists
+     */
+    boolean existsById(Long productId);
+
+    /**
+     * Atomically adds a delta to the stock of a product in a single statement,
+     * unless that would make the stock negative.
+     *
+     * @param productId the ID of the product
+     * @param delta     the amount to add, negative to remove stock
+     * @return the new stock quantity, or empty if the product does not exist or has insufficient stock
+     */
+    Optional<Integer> adjustStock(Long productId, int delta);
+
+    /**
+     * Applies a batch of accumulated stock adjustments of several products in a single statement,
+     * unless the batch has already been applied. The net adjustment of each product is applied like
+     * {@link #adjustStock(Long, int)}, and the batch ID is recorded in the same transaction.
+     *
+     * @param batch the batch of adjustments
+     * @return the IDs of the products whose adjustments were not applied, because their stock was
+     * insufficient or they no longer exist; empty if the batch had already been applied
+     */
+    List<Long> applyStockDeltas(StockDeltaBatch batch);
+
+    /**
+     * Forgets the ID of an applied batch of stock adjustments, once the batch can no longer be
+     * applied again.
+     *
+     * @param batchId the ID of the batch
+     */
+    void forgetStockDeltaBatch(UUID batchId);
+
+    /**
+     * Splits the stock of a product over the given number of bucket rows, so that concurrent
+     * adjustments of the product lock different rows, or merges it back into the product row.
+     * The stock quantity of the product is unchanged.
+     *
+     * @param productId the ID of the product
+     * @param buckets   the number of buckets, or zero to keep the stock in the product row
+     * @return the stock quantity, or empty if the product does not exist
+     */
+    Optional<Integer> shardStock(Long productId, int buckets);
+
+    /**
+     * Evens out the buckets of the sharded products whose stock has become unevenly spread.
+     * The stock quantities of the products are unchanged.
+     *
+     * @return the number of rebalanced products
+     */
+    int rebalanceStockBuckets();
+
+    /**
+     * Signals that a product was changed by a statement issued outside this port, such as an
+     * order placement reserving its stock, so that any copy held for it is discarded.
+     *
+     * @param productId the ID of the changed product
+     */
+    void invalidate(Long productId);
+
     /**
      * Deletes a product by its ID.
      *
@@ -41,6 +142,44 @@ public interface ProductRepositoryPort {
      */
     List<Product> findAll();
 
+    /**
+     * Retrieves a page of product summaries whose ID is greater than the given one, ordered by ID.
+     *
+     * @param afterId the ID after which the page starts, or {@code null} for the first page
+     * @param limit   the maximum number of products to return
+     * @return the list of product summaries
+     */
+    List<ProductSummary> findSummaryPageAfter(Long afterId, int limit);
+
+    /**
+     * Finds the summaries of the products with the given IDs, ordered by ID.
+     *
+     * @param productIds the IDs of the products
+     * @return the list of product summaries of the products that exist
+     */
+    List<ProductSummary> findSummariesByIds(Collection<Long> productIds);
+
+    /**
+     * Streams all products ordered by ID through a database cursor.
+     * <p>
+     * The stream must be consumed within a transaction and closed afterwards.
+     * Each product is detached from the persistence context as it passes through the stream.
+     *
+     * @return the stream of products
+     */
+    Stream<Product> streamAll();
+
+    /**
+     * Bulk loads validated product rows, skipping rows whose name already exists.
+     * <p>
+     * Rows are consumed lazily and loaded in chunks, so the stream may be arbitrarily long.
+     *
+     * @param rows       the rows to load
+     * @param onImported receives each loaded product, with its generated ID set, once its chunk is committed
+     * @return the number of loaded products and the rows rejected because of a duplicate name
+     */
+    ProductImportReport importProducts(Stream<ProductImportRow> rows, Consumer<Product> onImported);
+
     /**
      * Searches products based on name and category.
      *
@@ -57,4 +196,12 @@ public interface ProductRepositoryPort {
      * @return the list of matching products
      */
     List<Product> findAll(Specification<Product> specification);
+
+    /**
+     * Finds the summaries of the products matching a specification, ordered by ID.
+     *
+     * @param specification the specification to filter products
+     * @return the list of matching product summaries
+     */
+    List<ProductSummary> findSummaries(Specification<Product> specification);
 }
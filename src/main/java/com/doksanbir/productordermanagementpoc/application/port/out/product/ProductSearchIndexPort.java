@@ -0,0 +1,55 @@
+package com.doksanbir.productordermanagementpoc.application.port.out.product;
+
+import com.doksanbir.productordermanagementpoc.domain.Product;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Port interface for an in-memory substring index over product names and categories.
+ * <p>
+ * The index answers the same case-insensitive "contains" queries as the product search
+ * specifications without scanning the products table. It holds only names and categories;
+ * the matching products themselves are still read from the repository.
+ */
+public interface ProductSearchIndexPort {
+    /**
+     * Replaces the contents of the index with the given products.
+     * <p>
+     * Products written through {@link #put(Product)} or {@link #remove(Long)} while the rebuild
+     * is running take precedence over the rows read by the rebuild.
+     *
+     * @param products the products to index
+     */
+    void rebuild(Stream<Product> products);
+
+    /**
+     * Checks whether the index has been built and can answer queries.
+     *
+     * @return {@code true} if the index is ready
+     */
+    boolean isReady();
+
+    /**
+     * Adds a product to the index, or replaces its previously indexed name and category.
+     *
+     * @param product the product to index
+     */
+    void put(Product product);
+
+    /**
+     * Removes a product from the index.
+     *
+     * @param productId the ID of the product
+     */
+    void remove(Long productId);
+
+    /**
+     * Finds the IDs of the products whose name and category contain the given substrings, ignoring case.
+     *
+     * @param name     the substring to search for in the name, or {@code null} to not filter by name
+     * @param category the substring to search for in the category, or {@code null} to not filter by category
+     * @return the matching product IDs in ascending order
+     */
+    List<Long> search(String name, String category);
+}
@@ -0,0 +1,59 @@
+package com.doksanbir.productordermanagementpoc.application.port.out.product;
+
+import com.doksanbir.productordermanagementpoc.domain.StockDeltaBatch;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Port interface for the write-behind buffer of stock adjustments.
+ * <p>
+ * Adjustments are accumulated per product in memory and periodically flushed to the repository
+ * in identified batches, so that a batch replayed after a crash is not applied twice.
+ */
+public interface StockDeltaBufferPort {
+
+    /**
+     * Records a stock addition to a product.
+     *
+     * @param productId the ID of the product
+     * @param quantity  the amount to add
+     * @throws IllegalArgumentException if the quantity is negative
+     */
+    void add(Long productId, int quantity);
+
+    /**
+     * Atomically removes up to the given quantity from the additions to a product that are still
+     * buffered and have not been drained yet. Since removals never exceed the additions they are
+     * taken from, no drained batch has a negative net adjustment.
+     *
+     * @param productId the ID of the product
+     * @param quantity  the amount to remove
+     * @return the amount actually removed, between zero and the requested quantity
+     */
+    int take(Long productId, int quantity);
+
+    /**
+     * Returns the stock of a product including the adjustments that have not been written yet.
+     * The stored stock is read such that no flush writes a batch in the meantime, so the batch is
+     * counted either in the stored stock or in the buffered adjustments, exactly once.
+     *
+     * @param productId   the ID of the product
+     * @param storedStock reads the stock stored in the repository
+     * @return the stored stock plus the buffered net adjustment
+     */
+    int stock(Long productId, IntSupplier storedStock);
+
+    /**
+     * Takes the accumulated adjustments out of the buffer as a new batch, unless there are none,
+     * and passes every pending batch to a writer, oldest first. When the writer fails, the batch
+     * and the ones after it stay pending unchanged, so that the next flush writes them again with
+     * the same IDs. Once a batch has been written and discarded from the buffer, it can no longer
+     * be written again, and its ID is passed to {@code forget}.
+     *
+     * @param writer applies a batch, without products that were not adjusted in it
+     * @param forget receives the ID of each discarded batch
+     */
+    void flush(Consumer<StockDeltaBatch> writer, Consumer<UUID> forget);
+}
@@ -0,0 +1,127 @@
+package com.doksanbir.productordermanagementpoc.application.service.order;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.ProcessOrderBatchesUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderBatchCheckpointPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderIndexPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderRepositoryPort;
+import com.doksanbir.productordermanagementpoc.application.specification.order.OrderSpecification;
+import com.doksanbir.productordermanagementpoc.application.strategy.order.OrderProcessingStrategy;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service implementation for processing orders in the background, in chunks per status.
+ * <p>
+ * Each status with a processing strategy is drained in chunks of {@code orders.batch.chunk-size}
+ * orders, walking the {@code (status, id)} index in ID order. A strategy with a fixed target
+ * status processes a chunk with one set-based {@code UPDATE}; any other strategy gets the loaded
+ * chunk through {@link OrderProcessingStrategy#processBatch(List)}. Every chunk is committed
+ * together with its checkpoint, so an interrupted drain resumes after the last committed chunk.
+ * <p>
+ * The processor runs on the {@code orders.batch.cron} schedule, which is disabled by default.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderBatchProcessingService implements ProcessOrderBatchesUseCase {
+
+    private final OrderRepositoryPort orderRepositoryPort;
+    private final OrderBatchCheckpointPort orderBatchCheckpointPort;
+    private final OrderIndexPort orderIndexPort;
+    private final Map<OrderStatus, OrderProcessingStrategy> orderProcessingStrategies;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${orders.batch.chunk-size:1000}")
+    private final int chunkSize;
+
+    /**
+     * {@inheritDoc}
+     * Statuses are drained from the last to the first, so that an order moved to the next
+     * status is not picked up again by the same run.
+     */
+    @Override
+    @Scheduled(cron = "${orders.batch.cron:-}")
+    public long processOrderBatches() {
+        long processed = 0;
+        List<OrderProcessingStrategy> strategies = orderProcessingStrategies.values().stream()
+                .sorted(Comparator.comparing(OrderProcessingStrategy::getHandledStatus).reversed())
+                .toList();
+        for (OrderProcessingStrategy strategy : strategies) {
+            processed += drain(strategy);
+        }
+        return processed;
+    }
+
+    /**
+     * Processes all orders with the status handled by a strategy, chunk by chunk, starting
+     * after the checkpoint left by an interrupted drain, if any.
+     *
+     * @param strategy the strategy to apply
+     * @return the number of processed orders
+     */
+    private long drain(OrderProcessingStrategy strategy) {
+        OrderStatus status = strategy.getHandledStatus();
+        Long checkpoint = orderBatchCheckpointPort.findCheckpoint(status).orElse(null);
+        if (checkpoint != null) {
+            log.info("Resuming {} orders after ID {}", status, checkpoint);
+        }
+        long processed = 0;
+        while (true) {
+            Long afterId = checkpoint;
+            List<OrderSummary> changed = new ArrayList<>();
+            checkpoint = transactionTemplate.execute(transaction -> processChunk(strategy, afterId, changed));
+            changed.forEach(orderIndexPort::put);
+            if (checkpoint == null) {
+                break;
+            }
+            processed += changed.size();
+            log.debug("Processed {} {} orders up to ID {}", changed.size(), status, checkpoint);
+        }
+        if (processed > 0) {
+            log.info("Processed {} {} orders", processed, status);
+        }
+        return processed;
+    }
+
+    /**
+     * Processes the next chunk of orders with the handled status and records the checkpoint,
+     * or clears the checkpoint if no orders are left. Runs in one transaction.
+     *
+     * @param strategy the strategy to apply
+     * @param afterId  the ID after which the chunk starts, or {@code null} to start from the first order
+     * @param changed  receives the summaries of the processed orders
+     * @return the new checkpoint, or {@code null} if the status has been drained
+     */
+    private Long processChunk(OrderProcessingStrategy strategy, Long afterId, List<OrderSummary> changed) {
+        OrderStatus status = strategy.getHandledStatus();
+        List<Long> orderIds = orderRepositoryPort.findIdsByStatusAfter(status, afterId, chunkSize);
+        if (orderIds.isEmpty()) {
+            orderBatchCheckpointPort.clearCheckpoint(status);
+            return null;
+        }
+        Long upToId = orderIds.get(orderIds.size() - 1);
+        Optional<OrderStatus> targetStatus = strategy.getTargetStatus();
+        if (targetStatus.isPresent()) {
+            changed.addAll(orderRepositoryPort.transitionStatus(status, targetStatus.get(), afterId, upToId));
+        } else {
+            List<Order> orders = orderRepositoryPort.findAll(OrderSpecification.hasIdIn(orderIds));
+            strategy.processBatch(orders);
+            orderRepositoryPort.saveAll(orders).forEach(order -> changed.add(OrderSummary.of(order)));
+        }
+        orderBatchCheckpointPort.saveCheckpoint(status, upToId);
+        return upToId;
+    }
+}
@@ -0,0 +1,166 @@
+package com.doksanbir.productordermanagementpoc.application.service.order;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkDeleteOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderIndexPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderRepositoryPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductRepositoryPort;
+import com.doksanbir.productordermanagementpoc.domain.OrderDeletionRequest;
+import com.doksanbir.productordermanagementpoc.domain.OrderDeletionResult;
+import com.doksanbir.productordermanagementpoc.domain.OrderDeletionStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import com.doksanbir.productordermanagementpoc.exception.InvalidOrderException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation for deleting the orders matching a filter in the background.
+ * <p>
+ * A deletion request only validates the filters and starts a job, which deletes the matching
+ * orders in chunks of {@code orders.bulk-delete.chunk-size}, each with one set-based statement that
+ * commits on its own and skips orders locked by other transactions. Chunks continue after the last
+ * deleted order, so a locked order is passed over; when a pass reaches the end and matching orders
+ * remain, another pass starts from the first order, until none remain or a pass deletes nothing.
+ * The orders still matching then are reported as remaining. Every chunk is a separate task
+ * on the task scheduler, and the next one is scheduled {@code orders.bulk-delete.pause} after the
+ * previous one ended, so a large purge leaves room for regular traffic without holding a thread
+ * while it waits. The progress of a job is kept in memory for {@code orders.bulk-delete.job-retention}
+ * after it ended; a job interrupted by a shutdown stops after its current chunk.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderBulkDeletionService implements BulkDeleteOrdersUseCase {
+
+    private final OrderRepositoryPort orderRepositoryPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final OrderIndexPort orderIndexPort;
+    private final TaskScheduler taskScheduler;
+    private final Map<UUID, OrderDeletionResult> jobs = new ConcurrentHashMap<>();
+
+    @Value("${orders.bulk-delete.chunk-size:1000}")
+    private final int chunkSize;
+
+    @Value("${orders.bulk-delete.pause:PT0.1S}")
+    private final Duration pause;
+
+    @Value("${orders.bulk-delete.job-retention:PT1H}")
+    private final Duration jobRetention;
+
+    /**
+     * {@inheritDoc}
+     * A dry run counts the matching orders right away; otherwise the first chunk is scheduled to
+     * run immediately and the job is returned while it is still running.
+     */
+    @Override
+    public OrderDeletionResult bulkDeleteOrders(OrderDeletionRequest request) {
+        if (request.status() == null && request.productId() == null && request.olderThan() == null) {
+            throw new InvalidOrderException("At least one of status, product ID and age is required");
+        }
+        if (request.olderThan() != null && request.olderThan().isNegative()) {
+            throw new InvalidOrderException("Order age must not be negative");
+        }
+        LocalDateTime createdBefore = request.olderThan() == null ? null : LocalDateTime.now().minus(request.olderThan());
+        if (request.dryRun()) {
+            long matching = orderRepositoryPort.countOrders(request.status(), request.productId(), createdBefore);
+            log.info("Dry run: {} orders match the deletion filter", matching);
+            return new OrderDeletionResult(null, true, OrderDeletionStatus.COMPLETED, matching, 0, 0);
+        }
+
+        OrderDeletionResult started = new OrderDeletionResult(UUID.randomUUID(), false, OrderDeletionStatus.RUNNING,
+                0, 0, 0);
+        jobs.put(started.jobId(), started);
+        taskScheduler.schedule(() -> deleteChunk(request, createdBefore, started, null, 0), Instant.now());
+        log.info("Started bulk order deletion {}", started.jobId());
+        return started;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<OrderDeletionResult> retrieveBulkDeletion(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Deletes the next chunk of a job and schedules the one after it. A chunk that ends a pass
+     * counts the matching orders left behind, and schedules the first chunk of another pass unless
+     * none are left or the pass deleted nothing. Deleted orders that still held a stock reservation
+     * give it back, so the cache entries of their products are invalidated.
+     *
+     * @param request       the filters of the job
+     * @param createdBefore the creation time bound computed when the job was started
+     * @param progress      the progress of the job before this chunk
+     * @param afterId       the ID of the last order deleted in this pass, or {@code null} for the first chunk of a pass
+     * @param passDeleted   the number of orders deleted in this pass before this chunk
+     */
+    private void deleteChunk(OrderDeletionRequest request, LocalDateTime createdBefore,
+                             OrderDeletionResult progress, Long afterId, long passDeleted) {
+        List<OrderSummary> chunk;
+        long remaining = 0;
+        try {
+            chunk = orderRepositoryPort.deleteOrders(request.status(), request.productId(), createdBefore,
+                    afterId, chunkSize);
+            if (chunk.size() < chunkSize) {
+                remaining = orderRepositoryPort.countOrders(request.status(), request.productId(), createdBefore);
+            }
+        } catch (RuntimeException e) {
+            log.error("Bulk order deletion {} failed after {} orders", progress.jobId(), progress.orders(), e);
+            finish(new OrderDeletionResult(progress.jobId(), false, OrderDeletionStatus.FAILED,
+                    progress.orders(), progress.chunks(), 0));
+            return;
+        }
+        Set<Long> releasedProductIds = new HashSet<>();
+        chunk.forEach(order -> {
+            orderIndexPort.remove(order.id());
+            if (order.status().holdsReservation()) {
+                releasedProductIds.add(order.productId());
+            }
+        });
+        releasedProductIds.forEach(productRepositoryPort::invalidate);
+
+        long deleted = progress.orders() + chunk.size();
+        long deletedInPass = passDeleted + chunk.size();
+        int chunks = progress.chunks() + 1;
+        boolean passEnded = chunk.size() < chunkSize;
+        if (passEnded && (remaining == 0 || deletedInPass == 0)) {
+            if (remaining > 0) {
+                log.warn("Bulk order deletion {} left {} matching orders locked by other transactions",
+                        progress.jobId(), remaining);
+            }
+            log.info("Bulk order deletion {} deleted {} orders in {} chunks", progress.jobId(), deleted, chunks);
+            finish(new OrderDeletionResult(progress.jobId(), false, OrderDeletionStatus.COMPLETED, deleted, chunks,
+                    remaining));
+            return;
+        }
+        OrderDeletionResult updated = new OrderDeletionResult(progress.jobId(), false, OrderDeletionStatus.RUNNING,
+                deleted, chunks, 0);
+        jobs.put(updated.jobId(), updated);
+        Long lastId = passEnded ? null : chunk.get(chunk.size() - 1).id();
+        long nextPassDeleted = passEnded ? 0 : deletedInPass;
+        taskScheduler.schedule(() -> deleteChunk(request, createdBefore, updated, lastId, nextPassDeleted),
+                Instant.now().plus(pause));
+    }
+
+    /**
+     * Records the final progress of a job and schedules it to be forgotten after the retention period.
+     */
+    private void finish(OrderDeletionResult result) {
+        jobs.put(result.jobId(), result);
+        taskScheduler.schedule(() -> jobs.remove(result.jobId()), Instant.now().plus(jobRetention));
+    }
+}
@@ -0,0 +1,97 @@
+package com.doksanbir.productordermanagementpoc.application.service.order;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.ExpireReservationsUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderIndexPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderRepositoryPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderReservationExpiryPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductRepositoryPort;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for expiring the stock reservations of pending orders.
+ * <p>
+ * When {@code orders.reservations.enabled} is on, a created order stays pending and holds its
+ * quantity for {@code orders.reservations.time-to-live}, its reservation being scheduled on the
+ * {@link OrderReservationExpiryPort}. Every tick, the expired reservations are cancelled in
+ * batches of {@code orders.reservations.release-batch-size}, each with one statement that only
+ * touches orders which are still pending, so confirmed and cancelled orders need no bookkeeping.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderReservationService implements ExpireReservationsUseCase {
+
+    private final OrderRepositoryPort orderRepositoryPort;
+    private final OrderReservationExpiryPort orderReservationExpiryPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final OrderIndexPort orderIndexPort;
+
+    @Value("${orders.reservations.enabled:false}")
+    private final boolean stockReservations;
+
+    @Value("${orders.reservations.time-to-live:PT15M}")
+    private final Duration timeToLive;
+
+    @Value("${orders.reservations.release-batch-size:1000}")
+    private final int releaseBatchSize;
+
+    /**
+     * Schedules the reservations of the pending orders left by a previous run once the application
+     * has started, counting their time to live from their creation.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadReservations() {
+        if (!stockReservations) {
+            return;
+        }
+        AtomicLong loaded = new AtomicLong();
+        try (Stream<OrderSummary> orders = orderRepositoryPort.streamReservedPendingSummaries()) {
+            orders.forEach(order -> {
+                Instant createdAt = order.createdAt().atZone(ZoneId.systemDefault()).toInstant();
+                orderReservationExpiryPort.schedule(order.id(), createdAt.plus(timeToLive));
+                loaded.incrementAndGet();
+            });
+        }
+        log.info("Loaded {} pending stock reservations", loaded.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Runs every {@code orders.reservations.tick}.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${orders.reservations.tick:PT1S}")
+    public int expireReservations() {
+        List<Long> expiredIds = orderReservationExpiryPort.expire(Instant.now());
+        int cancelled = 0;
+        for (int from = 0; from < expiredIds.size(); from += releaseBatchSize) {
+            List<Long> batch = expiredIds.subList(from, Math.min(from + releaseBatchSize, expiredIds.size()));
+            List<OrderSummary> released = orderRepositoryPort.cancelOrders(batch, Set.of(OrderStatus.PENDING));
+            released.forEach(orderIndexPort::put);
+            released.stream().map(OrderSummary::productId).distinct().forEach(productRepositoryPort::invalidate);
+            cancelled += released.size();
+        }
+        if (cancelled > 0) {
+            log.info("Released {} expired stock reservations", cancelled);
+        }
+        return cancelled;
+    }
+}
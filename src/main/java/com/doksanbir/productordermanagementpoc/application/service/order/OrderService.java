@@ -1,26 +1,82 @@
 package com.doksanbir.productordermanagementpoc.application.service.order;
 
 import com.doksanbir.productordermanagementpoc.application.port.in.order.*;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderIdempotencyPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderIndexPort;
 import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderRepositoryPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderReservationExpiryPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductRepositoryPort;
 import com.doksanbir.productordermanagementpoc.application.specification.order.OrderSpecification;
-import com.doksanbir.productordermanagementpoc.application.strategy.order.OrderProcessingStrategy;
+import com.doksanbir.productordermanagementpoc.application.strategy.order.OrderStateMachine;
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.domain.CursorPage;
+import com.doksanbir.productordermanagementpoc.domain.MultiGetResult;
 import com.doksanbir.productordermanagementpoc.domain.Order;
 import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import com.doksanbir.productordermanagementpoc.domain.OrderTransitionRequest;
+import com.doksanbir.productordermanagementpoc.domain.OrderTransitionResult;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.ConflictRetry;
+import com.doksanbir.productordermanagementpoc.exception.InvalidOrderException;
 import com.doksanbir.productordermanagementpoc.exception.OrderNotFoundException;
+import com.doksanbir.productordermanagementpoc.exception.ProductNotFoundException;
+import com.doksanbir.productordermanagementpoc.exception.VersionMismatchException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for order-related use cases.
  * <p>
  * This class implements multiple use cases related to order management, including
- * creating, retrieving, updating, deleting, listing, searching, and advanced searching
- * for orders. The Strategy Pattern is used to process orders based on their current status.
+ * creating (one by one or in bulk), retrieving (one by one or several at once), updating, patching,
+ * transitioning in bulk, deleting, listing, searching, advanced
+ * searching and exporting orders.
+ * Orders are driven through their statuses by the {@link OrderStateMachine}, whose actions are the
+ * processing strategies: the final state of an order is computed in memory and persisted with a
+ * single write, and illegal transitions are rejected before anything is written.
+ * <p>
+ * Every write path keeps the in-memory order index current, so that status and product
+ * searches can be answered without a database round-trip.
+ * <p>
+ * When {@code orders.processing.async.enabled} is on, created and updated orders are acknowledged
+ * as soon as they are persisted, and their processing strategy runs on the bounded order
+ * processing pool instead of the request thread.
+ * <p>
+ * When {@code orders.reservations.enabled} is on, created orders are not processed: they stay
+ * pending and hold their quantity until they are confirmed, cancelled, or their reservation
+ * expires. Cancelling an order that holds stock gives its quantity back in the same statement.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,26 +84,291 @@ import java.util.Map;
 public class OrderService implements
         CreateOrderUseCase,
         RetrieveOrderUseCase,
+        RetrieveOrdersUseCase,
         UpdateOrderUseCase,
+        PatchOrderUseCase,
         DeleteOrderUseCase,
         ListOrdersUseCase,
         SearchOrdersUseCase,
-        AdvancedSearchOrdersUseCase {
+        AdvancedSearchOrdersUseCase,
+        ExportOrdersUseCase,
+        BulkCreateOrdersUseCase,
+        TransitionOrdersUseCase {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
 
     private final OrderRepositoryPort orderRepositoryPort;
-    private final Map<OrderStatus, OrderProcessingStrategy> orderProcessingStrategies;
+    private final OrderStateMachine orderStateMachine;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final OrderIndexPort orderIndexPort;
+    private final OrderReservationExpiryPort orderReservationExpiryPort;
+    private final OrderIdempotencyPort orderIdempotencyPort;
+
+    @Value("${orders.bulk.batch-size:500}")
+    private final int bulkBatchSize;
+
+    @Value("${orders.index.enabled:true}")
+    private final boolean orderIndexEnabled;
+
+    @Qualifier("orderProcessingExecutor")
+    private final TaskExecutor orderProcessingExecutor;
+
+    @Value("${orders.processing.async.enabled:false}")
+    private final boolean asyncProcessing;
+
+    @Value("${orders.reservations.enabled:false}")
+    private final boolean stockReservations;
+
+    @Value("${orders.reservations.time-to-live:PT15M}")
+    private final Duration reservationTimeToLive;
+
+    @Value("${orders.idempotency.time-to-live:PT24H}")
+    private final Duration idempotencyKeyTimeToLive;
+
+    @Value("${orders.multi-get.max-ids:100}")
+    private final int multiGetMaxIds;
+
+    @Value("${orders.bulk-transition.max-ids:1000}")
+    private final int bulkTransitionMaxIds;
+
+    @Value("${orders.updates.max-attempts:5}")
+    private final int updateMaxAttempts;
+
+    @Value("${orders.updates.retry-backoff:PT0.005S}")
+    private final Duration updateRetryBackoff;
+
+    /**
+     * Builds the in-memory order index from all orders once the application has started,
+     * unless {@code orders.index.enabled} is off. Until the build completes, searches are
+     * answered by the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOrderIndex() {
+        if (!orderIndexEnabled) {
+            log.info("Order index is disabled");
+            return;
+        }
+        log.info("Building order index");
+        try (Stream<OrderSummary> orders = orderRepositoryPort.streamSummaries()) {
+            orderIndexPort.rebuild(orders);
+        }
+    }
 
     /**
      * {@inheritDoc}
-     * Additionally, the order is processed based on its status using the Strategy Pattern.
+     * Additionally, the order is processed by the state machine before it is placed, so it is
+     * written once in its final state; asynchronously when {@code orders.processing.async.enabled} is on.
+     * Placing the order reserves its quantity from the product's stock in the same round-trip.
+     * With {@code orders.reservations.enabled} on, the order is left pending instead, and its
+     * reservation expires after {@code orders.reservations.time-to-live} unless it is confirmed.
      */
     @Override
     public Order createOrder(Order order) {
-        log.info("Creating order for product ID: {}", order.getProduct().getId());
+        validateNewOrder(order);
+        return placeOrder(order, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The key is looked up in the in-memory idempotency store first, where concurrent requests
+     * with the same key wait for the first one, then among the keys persisted with their orders,
+     * which survive restarts. A new key is persisted by the statement that places its order.
+     * Reusing a key for an order with a different product or quantity is rejected.
+     */
+    @Override
+    public Order createOrder(Order order, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createOrder(order);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new InvalidOrderException("Idempotency key must be between 1 and "
+                    + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        validateNewOrder(order);
+        Order created = orderIdempotencyPort.computeIfAbsent(idempotencyKey,
+                () -> createOrderOnce(order, idempotencyKey));
+        if (!created.getProduct().getId().equals(order.getProduct().getId())
+                || !created.getQuantity().equals(order.getQuantity())) {
+            throw new InvalidOrderException("Idempotency key was already used for a different order: " + idempotencyKey);
+        }
+        return created;
+    }
+
+    /**
+     * Returns the order persisted under an idempotency key, or places the order under the key.
+     * When a concurrent request on another instance places its order first, the insert of the
+     * key fails and rolls back the whole placement, and that request's order is returned.
+     *
+     * @param order          the order to create
+     * @param idempotencyKey the idempotency key of the request
+     * @return the order created under the key
+     */
+    private Order createOrderOnce(Order order, String idempotencyKey) {
+        Optional<Long> existingOrderId = orderRepositoryPort.findOrderIdByIdempotencyKey(idempotencyKey);
+        if (existingOrderId.isPresent()) {
+            log.info("Returning order {} created under a repeated idempotency key", existingOrderId.get());
+            return retrieveOrder(existingOrderId.get());
+        }
+        try {
+            return placeOrder(order, idempotencyKey);
+        } catch (DuplicateKeyException e) {
+            return orderRepositoryPort.findOrderIdByIdempotencyKey(idempotencyKey)
+                    .map(this::retrieveOrder)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Periodically deletes the persisted idempotency keys older than {@code orders.idempotency.time-to-live}.
+     */
+    @Scheduled(fixedDelayString = "${orders.idempotency.purge-interval:PT1H}")
+    public void purgeIdempotencyKeys() {
+        int purged = orderRepositoryPort.deleteIdempotencyKeysBefore(LocalDateTime.now().minus(idempotencyKeyTimeToLive));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private static void validateNewOrder(Order order) {
+        if (order.getProduct() == null || order.getProduct().getId() == null) {
+            throw new InvalidOrderException("Product ID is required");
+        }
+        if (order.getQuantity() == null || order.getQuantity() <= 0) {
+            throw new InvalidOrderException("Quantity must be positive");
+        }
+    }
+
+    /**
+     * Places a validated order, reserving its quantity from the product's stock, and indexes it.
+     *
+     * @param order          the order to place
+     * @param idempotencyKey the idempotency key to record with the order, or {@code null}
+     * @return the placed order
+     */
+    private Order placeOrder(Order order, String idempotencyKey) {
+        Long productId = order.getProduct().getId();
+        log.info("Creating order for product ID: {}", productId);
+        order.setId(null);
         order.setStatus(OrderStatus.PENDING);
-        Order savedOrder = orderRepositoryPort.save(order);
-        processOrder(savedOrder);
-        return savedOrder;
+        if (!asyncProcessing && !stockReservations) {
+            orderStateMachine.fire(order);
+        }
+        Optional<Order> placed = idempotencyKey == null
+                ? orderRepositoryPort.placeOrder(order)
+                : orderRepositoryPort.placeOrder(order, idempotencyKey);
+        Order placedOrder = placed
+                .orElseThrow(() -> productRepositoryPort.existsById(productId)
+                        ? new InvalidOrderException("Insufficient stock for product ID: " + productId)
+                        : new ProductNotFoundException(productId));
+        productRepositoryPort.invalidate(productId);
+        orderIndexPort.put(OrderSummary.of(placedOrder));
+        if (stockReservations) {
+            orderReservationExpiryPort.schedule(placedOrder.getId(), Instant.now().plus(reservationTimeToLive));
+        } else if (asyncProcessing) {
+            enqueueProcessing(placedOrder);
+        }
+        return placedOrder;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Items are validated and processed in memory, then placed in batches of
+     * {@code orders.bulk.batch-size}, so each order costs a share of one round-trip
+     * instead of two separate saves. Each order reserves its quantity from the product's stock;
+     * an order whose product has insufficient stock fails on its own.
+     */
+    @Override
+    public List<BulkOrderResult> bulkCreateOrders(Iterator<Order> orders) {
+        log.info("Bulk creating orders in batches of {}", bulkBatchSize);
+        List<BulkOrderResult> results = new ArrayList<>();
+        Map<Integer, Order> batch = new LinkedHashMap<>();
+        int index = 0;
+        while (true) {
+            Order order;
+            try {
+                if (!orders.hasNext()) {
+                    break;
+                }
+                order = orders.next();
+            } catch (RuntimeException e) {
+                log.warn("Stopping bulk creation at malformed item {}", index, e);
+                results.add(BulkOrderResult.failed(index, "Malformed order: " + e.getMessage()));
+                break;
+            }
+            batch.put(index++, order);
+            if (batch.size() == bulkBatchSize) {
+                results.addAll(createBatch(batch));
+                batch.clear();
+            }
+        }
+        results.addAll(createBatch(batch));
+        results.sort((left, right) -> Integer.compare(left.index(), right.index()));
+        log.info("Bulk creation finished with {} items", results.size());
+        return results;
+    }
+
+    /**
+     * Validates one batch of bulk items and places the valid ones with a single JDBC batch, which
+     * reserves their quantities from the product stock like a single placement. As for a single
+     * placement, placed orders are queued for processing when it runs asynchronously.
+     *
+     * @param batch the orders of the batch keyed by their position in the request
+     * @return one result per item of the batch
+     */
+    private List<BulkOrderResult> createBatch(Map<Integer, Order> batch) {
+        List<BulkOrderResult> results = new ArrayList<>(batch.size());
+        if (batch.isEmpty()) {
+            return results;
+        }
+        Set<Long> existingProductIds = productRepositoryPort.findExistingIds(batch.values().stream()
+                .filter(order -> order.getProduct() != null && order.getProduct().getId() != null)
+                .map(order -> order.getProduct().getId())
+                .toList());
+
+        Map<Integer, Order> valid = new LinkedHashMap<>();
+        batch.forEach((index, order) -> {
+            if (order.getProduct() == null || order.getProduct().getId() == null) {
+                results.add(BulkOrderResult.failed(index, "Product ID is required"));
+            } else if (!existingProductIds.contains(order.getProduct().getId())) {
+                results.add(BulkOrderResult.failed(index, "Product not found with ID: " + order.getProduct().getId()));
+            } else if (order.getQuantity() == null || order.getQuantity() <= 0) {
+                results.add(BulkOrderResult.failed(index, "Quantity must be positive"));
+            } else {
+                order.setId(null);
+                order.setStatus(OrderStatus.PENDING);
+                if (!asyncProcessing && !stockReservations) {
+                    orderStateMachine.fire(order);
+                }
+                valid.put(index, order);
+            }
+        });
+
+        try {
+            Set<Order> placed = Collections.newSetFromMap(new IdentityHashMap<>());
+            placed.addAll(orderRepositoryPort.placeAll(new ArrayList<>(valid.values())));
+            Instant reservationExpiry = Instant.now().plus(reservationTimeToLive);
+            valid.forEach((index, order) -> {
+                if (!placed.contains(order)) {
+                    results.add(BulkOrderResult.failed(index, "Insufficient stock for product ID: "
+                            + order.getProduct().getId()));
+                    return;
+                }
+                orderIndexPort.put(OrderSummary.of(order));
+                if (stockReservations) {
+                    orderReservationExpiryPort.schedule(order.getId(), reservationExpiry);
+                } else if (asyncProcessing) {
+                    enqueueProcessing(order);
+                }
+                results.add(BulkOrderResult.succeeded(index, order));
+            });
+            placed.stream().map(order -> order.getProduct().getId()).distinct().forEach(productRepositoryPort::invalidate);
+        } catch (DataAccessException e) {
+            log.error("Bulk insert of {} orders failed", valid.size(), e);
+            valid.keySet().forEach(index -> results.add(BulkOrderResult.failed(index, "Batch insert failed")));
+        }
+        return results;
     }
 
     /**
@@ -62,75 +383,404 @@ public class OrderService implements
 
     /**
      * {@inheritDoc}
+     * The summaries are read with one query.
+     */
+    @Override
+    public MultiGetResult<OrderSummary> retrieveOrders(List<Long> orderIds) {
+        log.info("Retrieving {} orders by ID", orderIds.size());
+        if (orderIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidOrderException("Order IDs must not be null");
+        }
+        Set<Long> ids = new LinkedHashSet<>(orderIds);
+        if (ids.size() > multiGetMaxIds) {
+            throw new InvalidOrderException("At most " + multiGetMaxIds + " orders can be retrieved at once");
+        }
+        return MultiGetResult.of(ids, orderRepositoryPort.findSummariesByIds(ids), order -> order.id());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Additionally, a status change must be a legal transition, and the order is then processed by
+     * the state machine based on its new status before it is persisted, so it is written once;
+     * asynchronously when {@code orders.processing.async.enabled} is on. A missing status keeps
+     * the current one. A cancellation only changes the status, and gives a reserved quantity back
+     * to the product's stock in the same statement.
      */
     @Override
     public Order updateOrder(Order order) {
+        return updateOrder(order, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The order is read and written back with a version check. When a concurrent update wins in
+     * between, the update is retried on the newer version, up to {@code orders.updates.max-attempts}
+     * attempts; with an expected version, the retry fails the precondition instead.
+     */
+    @Override
+    public Order updateOrder(Order order, Long expectedVersion) {
         log.info("Updating order with ID: {}", order.getId());
-        Order existingOrder = retrieveOrder(order.getId());
-        existingOrder.setProduct(order.getProduct());
-        existingOrder.setQuantity(order.getQuantity());
-        existingOrder.setStatus(order.getStatus());
-        Order updatedOrder = orderRepositoryPort.save(existingOrder);
-        processOrder(updatedOrder);
-        return updatedOrder;
+        return ConflictRetry.retryOnConflict("Order", order.getId(), updateMaxAttempts, updateRetryBackoff,
+                () -> applyUpdate(retrieveOrder(order.getId()), order, expectedVersion));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The patched order goes through the same checks, processing and retries as a full update;
+     * since only the changed columns are written, a quantity-only patch updates just the quantity.
+     */
+    @Override
+    public Order patchOrder(Long orderId, Map<String, Object> patch, Long expectedVersion) {
+        log.info("Patching order with ID: {}", orderId);
+        Order changes = orderChanges(patch);
+        if (changes.getProduct() != null && !productRepositoryPort.existsById(changes.getProduct().getId())) {
+            throw new ProductNotFoundException(changes.getProduct().getId());
+        }
+        return ConflictRetry.retryOnConflict("Order", orderId, updateMaxAttempts, updateRetryBackoff, () -> {
+            Order existingOrder = retrieveOrder(orderId);
+            Order order = new Order();
+            order.setId(orderId);
+            order.setProduct(changes.getProduct() != null ? changes.getProduct() : existingOrder.getProduct());
+            order.setQuantity(changes.getQuantity() != null ? changes.getQuantity() : existingOrder.getQuantity());
+            order.setStatus(changes.getStatus());
+            return applyUpdate(existingOrder, order, expectedVersion);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * The selected orders are read in one statement and moved with one set-based update, guarded
+     * on their current status, so an order changed in between is skipped rather than overwritten.
+     * Processing strategies are not applied: the target status is set as requested. Cancelled
+     * orders give their reserved quantity back to the product's stock in the same statement.
+     * At most {@code orders.bulk-transition.max-ids} distinct order IDs are accepted per request.
+     */
+    @Override
+    public OrderTransitionResult transitionOrders(OrderTransitionRequest request) {
+        OrderStatus targetStatus = request.targetStatus();
+        if (targetStatus == null) {
+            throw new InvalidOrderException("Target status is required");
+        }
+        boolean byIds = request.orderIds() != null;
+        boolean byFilter = request.status() != null || request.productId() != null;
+        if (byIds == byFilter) {
+            throw new InvalidOrderException("Either order IDs or a status and product ID filter is required");
+        }
+        Set<Long> requestedIds = byIds ? new HashSet<>(request.orderIds()) : Set.of();
+        if (requestedIds.size() > bulkTransitionMaxIds) {
+            throw new InvalidOrderException("At most " + bulkTransitionMaxIds + " orders can be transitioned at once");
+        }
+        log.info("Transitioning orders to {}", targetStatus);
+
+        List<OrderSummary> selected = byIds
+                ? orderRepositoryPort.findSummariesByIds(requestedIds)
+                : advancedSearchOrders(request.status(), request.productId());
+        List<OrderTransitionResult.Skipped> skipped = new ArrayList<>();
+        if (byIds) {
+            Set<Long> foundIds = new HashSet<>();
+            selected.forEach(order -> foundIds.add(order.id()));
+            request.orderIds().stream()
+                    .distinct()
+                    .filter(orderId -> !foundIds.contains(orderId))
+                    .forEach(orderId -> skipped.add(new OrderTransitionResult.Skipped(orderId, "Order not found")));
+        }
+        Set<OrderStatus> allowedStatuses = orderStateMachine.sourcesOf(targetStatus);
+        List<Long> eligibleIds = new ArrayList<>();
+        for (OrderSummary order : selected) {
+            if (allowedStatuses.contains(order.status())) {
+                eligibleIds.add(order.id());
+            } else {
+                skipped.add(new OrderTransitionResult.Skipped(order.id(),
+                        "Cannot transition from " + order.status() + " to " + targetStatus));
+            }
+        }
+
+        List<OrderSummary> transitioned = targetStatus == OrderStatus.CANCELLED
+                ? orderRepositoryPort.cancelOrders(eligibleIds, allowedStatuses)
+                : orderRepositoryPort.transitionStatus(eligibleIds, allowedStatuses, targetStatus);
+        transitioned.forEach(orderIndexPort::put);
+        if (targetStatus == OrderStatus.CANCELLED) {
+            transitioned.stream().map(OrderSummary::productId).distinct().forEach(productRepositoryPort::invalidate);
+        }
+        Set<Long> transitionedIds = new HashSet<>();
+        transitioned.forEach(order -> transitionedIds.add(order.id()));
+        eligibleIds.stream()
+                .filter(orderId -> !transitionedIds.contains(orderId))
+                .forEach(orderId -> skipped.add(new OrderTransitionResult.Skipped(orderId, "Order changed concurrently")));
+        skipped.sort(Comparator.comparing(OrderTransitionResult.Skipped::orderId));
+        log.info("Transitioned {} orders to {}, skipped {}", transitioned.size(), targetStatus, skipped.size());
+        return new OrderTransitionResult(targetStatus,
+                transitioned.stream().map(OrderSummary::id).toList(), skipped);
     }
 
     /**
      * {@inheritDoc}
+     * The order is deleted with a single statement, without reading it first.
      */
     @Override
     public void deleteOrder(Long orderId) {
         log.info("Deleting order with ID: {}", orderId);
-        retrieveOrder(orderId); // Ensure order exists before deletion
-        orderRepositoryPort.deleteById(orderId);
+        OrderSummary deleted = orderRepositoryPort.deleteById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+        orderIndexPort.remove(orderId);
+        if (deleted.status().holdsReservation()) {
+            productRepositoryPort.invalidate(deleted.productId());
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<Order> listOrders() {
-        log.info("Listing all orders");
-        return orderRepositoryPort.findAll();
+    public CursorPage<OrderSummary> listOrders(String cursor, int size) {
+        log.info("Listing orders after cursor: {} with page size: {}", cursor, size);
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidOrderException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOrderException("Invalid cursor: " + cursor);
+        }
+        List<OrderSummary> fetched = orderRepositoryPort.findSummaryPageAfter(afterId, size + 1);
+        return CursorPage.of(fetched, size, order -> order.id());
     }
 
     /**
      * {@inheritDoc}
+     * The export runs in a read-only transaction, which keeps the database cursor open.
      */
     @Override
-    public List<Order> searchOrders(OrderStatus status) {
+    @Transactional(readOnly = true)
+    public void exportOrders(Consumer<Order> sink) {
+        log.info("Exporting all orders");
+        try (Stream<Order> orders = orderRepositoryPort.streamAll()) {
+            orders.forEach(sink);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Once the order index is ready, the search is answered from memory.
+     */
+    @Override
+    public List<OrderSummary> searchOrders(OrderStatus status) {
         log.info("Searching orders with status: {}", status);
+        if (orderIndexPort.isReady()) {
+            return orderIndexPort.search(status, null);
+        }
+        Specification<Order> spec = Specification.where(null);
         if (status != null) {
-            return orderRepositoryPort.search(status);
-        } else {
-            return orderRepositoryPort.findAll();
+            spec = spec.and(OrderSpecification.hasStatus(status));
         }
+        return orderRepositoryPort.findSummaries(spec);
     }
 
     /**
-     * Processes the order based on its current status using the Strategy Pattern.
-     * The processing strategy is chosen based on the order's status, and the order is saved
-     * again after processing.
+     * Cancels an order with a status-guarded update that also releases its stock reservation, if
+     * any, and indexes it.
      *
-     * @param order the order to process
+     * @param order the order to cancel, with its current status
+     * @return the cancelled order
+     */
+    private Order cancelOrder(Order order) {
+        List<OrderSummary> cancelled = orderRepositoryPort.cancelOrders(List.of(order.getId()), Set.of(order.getStatus()));
+        if (cancelled.isEmpty()) {
+            throw new InvalidOrderException("Order changed concurrently: " + order.getId());
+        }
+        productRepositoryPort.invalidate(cancelled.get(0).productId());
+        orderIndexPort.put(cancelled.get(0));
+        return retrieveOrder(order.getId());
+    }
+
+    /**
+     * Persists an order and indexes it.
+     * <p>
+     * In synchronous mode, the state machine computes the final state of the order first, so the
+     * order is written once. In asynchronous mode, the order is persisted as given and queued for
+     * processing.
+     *
+     * @param order the order to persist
+     * @return the persisted order
+     */
+    private Order persistAndProcess(Order order) {
+        if (!asyncProcessing) {
+            orderStateMachine.fire(order);
+        }
+        Order savedOrder = orderRepositoryPort.save(order);
+        orderIndexPort.put(OrderSummary.of(savedOrder));
+        if (asyncProcessing) {
+            enqueueProcessing(savedOrder);
+        }
+        return savedOrder;
+    }
+
+    /**
+     * Persists an order holding a stock reservation whose product or quantity changed, moving the
+     * reservation in the same transaction, then indexes and processes it like
+     * {@link #persistAndProcess(Order)}.
+     *
+     * @param order             the order to persist
+     * @param reservedProductId the ID of the product the reservation is currently taken from
+     * @param reservedQuantity  the currently reserved quantity
+     * @return the persisted order
+     * @throws InvalidOrderException if the product of the order has insufficient stock
+     */
+    private Order persistAndProcess(Order order, Long reservedProductId, int reservedQuantity) {
+        if (!asyncProcessing) {
+            orderStateMachine.fire(order);
+        }
+        Long productId = order.getProduct().getId();
+        Order savedOrder = orderRepositoryPort.saveReserved(order, reservedProductId, reservedQuantity)
+                .orElseThrow(() -> new InvalidOrderException("Insufficient stock for product ID: " + productId));
+        productRepositoryPort.invalidate(productId);
+        productRepositoryPort.invalidate(reservedProductId);
+        orderIndexPort.put(OrderSummary.of(savedOrder));
+        if (asyncProcessing) {
+            enqueueProcessing(savedOrder);
+        }
+        return savedOrder;
+    }
+
+    /**
+     * Applies an update to a freshly read order: checks the expected version and the status
+     * transition, then cancels the order or persists and processes it. Changing the product or
+     * quantity of an order holding a stock reservation moves the reservation along.
+     *
+     * @param existingOrder   the order as currently stored
+     * @param order           the order with updated information
+     * @param expectedVersion the version the order must be at, or {@code null} for any version
+     * @return the updated order
+     */
+    private Order applyUpdate(Order existingOrder, Order order, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(existingOrder.getVersion())) {
+            throw new VersionMismatchException("Order", existingOrder.getId(), expectedVersion, existingOrder.getVersion());
+        }
+        if (order.getStatus() != null && !orderStateMachine.canTransition(existingOrder.getStatus(), order.getStatus())) {
+            throw new InvalidOrderException("Cannot transition order from " + existingOrder.getStatus()
+                    + " to " + order.getStatus());
+        }
+        if (order.getStatus() == OrderStatus.CANCELLED && existingOrder.getStatus() != OrderStatus.CANCELLED) {
+            return cancelOrder(existingOrder);
+        }
+        Long reservedProductId = existingOrder.getProduct().getId();
+        int reservedQuantity = existingOrder.getQuantity();
+        boolean reservationMoves = existingOrder.isStockReserved()
+                && existingOrder.getStatus() != OrderStatus.CANCELLED
+                && order.getProduct() != null && order.getQuantity() != null
+                && (!reservedProductId.equals(order.getProduct().getId()) || reservedQuantity != order.getQuantity());
+        existingOrder.setProduct(order.getProduct());
+        existingOrder.setQuantity(order.getQuantity());
+        if (order.getStatus() != null) {
+            existingOrder.setStatus(order.getStatus());
+        }
+        if (reservationMoves) {
+            return persistAndProcess(existingOrder, reservedProductId, reservedQuantity);
+        }
+        return persistAndProcess(existingOrder);
+    }
+
+    /**
+     * Validates an order merge patch and converts it to an order holding the patched fields;
+     * the fields absent from the patch are {@code null}.
+     *
+     * @param patch the merge patch document
+     * @return the patched fields
+     * @throws InvalidOrderException if the patch sets an unknown or read-only field, clears a field
+     *                               or sets an invalid value
      */
-    private void processOrder(Order order) {
+    private static Order orderChanges(Map<String, Object> patch) {
+        Order changes = new Order();
+        patch.forEach((field, value) -> {
+            switch (field) {
+                case "product" -> {
+                    if (!(value instanceof Map<?, ?> product) || product.size() != 1
+                            || !(product.get("id") instanceof Number productId)) {
+                        throw new InvalidOrderException("Order product must be given as {\"id\": <product ID>}");
+                    }
+                    Product reference = new Product();
+                    reference.setId(productId.longValue());
+                    changes.setProduct(reference);
+                }
+                case "quantity" -> {
+                    if (!(value instanceof Integer quantity) || quantity <= 0) {
+                        throw new InvalidOrderException("Order quantity must be a positive integer");
+                    }
+                    changes.setQuantity(quantity);
+                }
+                case "status" -> {
+                    OrderStatus status = Arrays.stream(OrderStatus.values())
+                            .filter(candidate -> candidate.name().equals(value))
+                            .findFirst()
+                            .orElseThrow(() -> new InvalidOrderException("Order status must be one of "
+                                    + Arrays.toString(OrderStatus.values())));
+                    changes.setStatus(status);
+                }
+                default -> throw new InvalidOrderException("Order field cannot be patched: " + field);
+            }
+        });
+        return changes;
+    }
+
+    /**
+     * Queues a persisted order on the order processing pool, so the caller returns without waiting
+     * for the processing or its write. When the queue is full, the calling thread processes the
+     * order itself, which throttles producers.
+     *
+     * @param order the persisted order
+     */
+    private void enqueueProcessing(Order order) {
+        Long orderId = order.getId();
         OrderStatus status = order.getStatus();
-        OrderProcessingStrategy strategy = orderProcessingStrategies.get(status);
-        if (strategy != null) {
-            strategy.process(order);
-            orderRepositoryPort.save(order);
-        } else {
-            log.warn("No processing strategy found for status: {}", status);
+        orderProcessingExecutor.execute(() -> processQueuedOrder(orderId, status));
+    }
+
+    /**
+     * Processes a queued order on a worker thread.
+     * <p>
+     * The order is reloaded, so that the worker never shares an entity with the request thread,
+     * and skipped if it was deleted or its status changed while it waited in the queue; the
+     * change that replaced it queued its own processing.
+     *
+     * @param orderId the ID of the order
+     * @param status  the status the order was queued with
+     */
+    private void processQueuedOrder(Long orderId, OrderStatus status) {
+        try {
+            orderRepositoryPort.findById(orderId)
+                    .filter(order -> order.getStatus() == status)
+                    .ifPresentOrElse(
+                            order -> orderIndexPort.put(OrderSummary.of(processOrder(order))),
+                            () -> log.info("Skipping processing of order {}, which changed while queued", orderId));
+        } catch (RuntimeException e) {
+            log.error("Asynchronous processing of order {} failed", orderId, e);
         }
     }
 
+    /**
+     * Processes a persisted order with the state machine and saves it if an action ran.
+     *
+     * @param order the order to process
+     * @return the saved order, or the given order if no action ran
+     */
+    private Order processOrder(Order order) {
+        if (orderStateMachine.fire(order)) {
+            return orderRepositoryPort.save(order);
+        }
+        return order;
+    }
+
     /**
      * {@inheritDoc}
-     * Additionally, performs an advanced search using the Specification Pattern.
+     * Once the order index is ready, the filters are answered by intersecting its bitmaps in memory.
+     * Otherwise, performs an advanced search using the Specification Pattern.
      */
     @Override
-    public List<Order> advancedSearchOrders(OrderStatus status, Long productId) {
+    public List<OrderSummary> advancedSearchOrders(OrderStatus status, Long productId) {
+        if (orderIndexPort.isReady()) {
+            return orderIndexPort.search(status, productId);
+        }
         Specification<Order> spec = Specification.where(null);
 
         if (status != null) {
@@ -142,6 +792,6 @@ public class OrderService implements
         }
 
         log.info("Performing advanced search with spec: {}", spec);
-        return orderRepositoryPort.findAll(spec);
+        return orderRepositoryPort.findSummaries(spec);
     }
 }
@@ -2,22 +2,55 @@ package com.doksanbir.productordermanagementpoc.application.service.product;
 
 import com.doksanbir.productordermanagementpoc.application.port.in.product.*;
 import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductRepositoryPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductSearchIndexPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.product.StockDeltaBufferPort;
 import com.doksanbir.productordermanagementpoc.application.specification.product.ProductSpecification;
+import com.doksanbir.productordermanagementpoc.domain.CursorPage;
+import com.doksanbir.productordermanagementpoc.domain.MultiGetResult;
 import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportReject;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportReport;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportRow;
+import com.doksanbir.productordermanagementpoc.domain.ProductSummary;
+import com.doksanbir.productordermanagementpoc.exception.ConflictRetry;
+import com.doksanbir.productordermanagementpoc.exception.InvalidProductException;
 import com.doksanbir.productordermanagementpoc.exception.ProductNotFoundException;
+import com.doksanbir.productordermanagementpoc.exception.VersionMismatchException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for product-related use cases.
  * <p>
  * This class implements multiple use cases related to product management, including
- * creating, retrieving, updating, deleting, listing, stock adjustment, and searching
- * for products.
+ * creating, retrieving (one by one or several at once), updating, patching, deleting, listing,
+ * stock adjustment, searching, exporting, bulk importing products and sharding their stock.
+ * <p>
+ * Every write path keeps the in-memory product search index current, so that searches
+ * can be answered from the index instead of a full table scan.
  */
 @Service
 @RequiredArgsConstructor
@@ -25,21 +58,126 @@ import java.util.List;
 public class ProductService implements
         CreateProductUseCase,
         RetrieveProductUseCase,
+        RetrieveProductsUseCase,
         UpdateProductUseCase,
+        PatchProductUseCase,
         DeleteProductUseCase,
         ListProductsUseCase,
         AdjustStockUseCase,
-        SearchProductsUseCase {
+        SearchProductsUseCase,
+        ExportProductsUseCase,
+        ImportProductsUseCase,
+        ShardStockUseCase,
+        RetrieveStockUseCase {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_STOCK_BUCKETS = 64;
+    private static final int MAX_TEXT_LENGTH = 255;
 
     private final ProductRepositoryPort productRepositoryPort;
+    private final ProductSearchIndexPort productSearchIndexPort;
+    private final StockDeltaBufferPort stockDeltaBufferPort;
+
+    @Value("${products.stock.write-behind.enabled:false}")
+    private final boolean writeBehindStock;
+
+    @Value("${products.multi-get.max-ids:100}")
+    private final int multiGetMaxIds;
+
+    @Value("${products.updates.max-attempts:5}")
+    private final int updateMaxAttempts;
+
+    @Value("${products.updates.retry-backoff:PT0.005S}")
+    private final Duration updateRetryBackoff;
+
+    /**
+     * Builds the product search index from all products once the application has started.
+     * Until the build completes, searches are answered by the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildSearchIndex() {
+        log.info("Building product search index");
+        try (Stream<Product> products = productRepositoryPort.streamAll()) {
+            productSearchIndexPort.rebuild(products);
+        }
+    }
 
     /**
      * {@inheritDoc}
+     * The product is validated like an imported row before it is saved.
      */
     @Override
     public Product createProduct(Product product) {
         log.info("Creating product: {}", product.getName());
-        return productRepositoryPort.save(product);
+        validateProduct(product);
+        if (product.getStockQuantity() != null && product.getStockQuantity() < 0) {
+            throw new InvalidProductException("Stock quantity must be zero or positive");
+        }
+        Product savedProduct = productRepositoryPort.save(product);
+        productSearchIndexPort.put(savedProduct);
+        return savedProduct;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Rows are parsed and validated lazily while the repository consumes them, so the
+     * import never holds more than one loading chunk in memory.
+     */
+    @Override
+    public ProductImportReport importProducts(Stream<String> lines, Function<String, Product> rowParser) {
+        log.info("Importing products");
+        AtomicLong rowNumber = new AtomicLong();
+        List<ProductImportReject> rejects = new ArrayList<>();
+        ProductImportReport loaded;
+        try (Stream<ProductImportRow> rows = lines
+                .map(line -> toImportRow(rowNumber.incrementAndGet(), line, rowParser, rejects))
+                .filter(Objects::nonNull)) {
+            loaded = productRepositoryPort.importProducts(rows, productSearchIndexPort::put);
+        }
+        rejects.addAll(loaded.rejects());
+        rejects.sort(Comparator.comparingLong(ProductImportReject::rowNumber));
+        log.info("Imported {} products with {} rejected rows", loaded.imported(), rejects.size());
+        return new ProductImportReport(loaded.imported(), rejects);
+    }
+
+    /**
+     * Parses and validates one import line.
+     *
+     * @param rowNumber the number of the row
+     * @param line      the raw line
+     * @param rowParser parses the line into a product
+     * @param rejects   collects the row if it is rejected
+     * @return the import row, or {@code null} if the line is blank or was rejected
+     */
+    private ProductImportRow toImportRow(long rowNumber, String line, Function<String, Product> rowParser,
+                                         List<ProductImportReject> rejects) {
+        if (line.isBlank()) {
+            return null;
+        }
+        Product product;
+        try {
+            product = rowParser.apply(line);
+        } catch (RuntimeException e) {
+            rejects.add(new ProductImportReject(rowNumber, null, "Malformed row: " + e.getMessage()));
+            return null;
+        }
+        String error = null;
+        if (product.getName() == null || product.getName().isBlank()) {
+            error = "Name is required";
+        } else if (product.getPrice() == null || product.getPrice() < 0) {
+            error = "Price must be zero or positive";
+        } else if (product.getStockQuantity() != null && product.getStockQuantity() < 0) {
+            error = "Stock quantity must be zero or positive";
+        }
+        if (error != null) {
+            rejects.add(new ProductImportReject(rowNumber, product.getName(), error));
+            return null;
+        }
+        if (product.getStockQuantity() == null) {
+            product.setStockQuantity(0);
+        }
+        return new ProductImportRow(rowNumber, product);
     }
 
     /**
@@ -52,18 +190,80 @@ public class ProductService implements
                 .orElseThrow(() -> new ProductNotFoundException(productId));
     }
 
+    /**
+     * {@inheritDoc}
+     * Cached products are served from the product cache; all the others are loaded with one query.
+     */
+    @Override
+    public MultiGetResult<Product> retrieveProducts(List<Long> productIds) {
+        log.info("Retrieving {} products by ID", productIds.size());
+        if (productIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidProductException("Product IDs must not be null");
+        }
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        if (ids.size() > multiGetMaxIds) {
+            throw new InvalidProductException("At most " + multiGetMaxIds + " products can be retrieved at once");
+        }
+        return MultiGetResult.of(ids, productRepositoryPort.findAllByIds(ids), product -> product.getId());
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Product updateProduct(Product product) {
+        return updateProduct(product, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The product is read and written back with a version check. When a concurrent update wins in
+     * between, the update is retried on the newer version, up to {@code products.updates.max-attempts}
+     * attempts; with an expected version, the retry fails the precondition instead.
+     */
+    @Override
+    public Product updateProduct(Product product, Long expectedVersion) {
         log.info("Updating product with ID: {}", product.getId());
-        Product existingProduct = retrieveProduct(product.getId());
-        existingProduct.setName(product.getName());
-        existingProduct.setDescription(product.getDescription());
-        existingProduct.setPrice(product.getPrice());
-        existingProduct.setCategory(product.getCategory());
-        return productRepositoryPort.save(existingProduct);
+        validateProduct(product);
+        Product updatedProduct = ConflictRetry.retryOnConflict("Product", product.getId(), updateMaxAttempts, updateRetryBackoff, () -> {
+            Product existingProduct = retrieveProduct(product.getId());
+            if (expectedVersion != null && !expectedVersion.equals(existingProduct.getVersion())) {
+                throw new VersionMismatchException("Product", product.getId(), expectedVersion,
+                        existingProduct.getVersion());
+            }
+            existingProduct.setName(product.getName());
+            existingProduct.setDescription(product.getDescription());
+            existingProduct.setPrice(product.getPrice());
+            existingProduct.setCategory(product.getCategory());
+            return productRepositoryPort.save(existingProduct);
+        });
+        productSearchIndexPort.put(updatedProduct);
+        return updatedProduct;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The patched values are validated with the rules of created and updated products, then
+     * written with one statement that sets only the patched columns, without reading the product
+     * first; a price-only patch updates just the price. The fields left out of the patch keep their
+     * stored values, which passed the same validation when they were written.
+     */
+    @Override
+    public Product patchProduct(Long productId, Map<String, Object> patch, Long expectedVersion) {
+        log.info("Patching product with ID: {}", productId);
+        Map<String, Object> changes = productChanges(patch);
+        if (changes.isEmpty()) {
+            Product product = retrieveProduct(productId);
+            if (expectedVersion != null && !expectedVersion.equals(product.getVersion())) {
+                throw new VersionMismatchException("Product", productId, expectedVersion, product.getVersion());
+            }
+            return product;
+        }
+        Product patchedProduct = productRepositoryPort.patch(productId, changes, expectedVersion)
+                .orElseThrow(() -> new VersionMismatchException("Product", productId, expectedVersion,
+                        retrieveProduct(productId).getVersion()));
+        productSearchIndexPort.put(patchedProduct);
+        return patchedProduct;
     }
 
     /**
@@ -74,50 +274,240 @@ public class ProductService implements
         log.info("Deleting product with ID: {}", productId);
         retrieveProduct(productId);
         productRepositoryPort.deleteById(productId);
+        productSearchIndexPort.remove(productId);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<Product> listProducts() {
-        log.info("Listing all products");
-        return productRepositoryPort.findAll();
+    public CursorPage<ProductSummary> listProducts(String cursor, int size) {
+        log.info("Listing products after cursor: {} with page size: {}", cursor, size);
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidProductException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidProductException("Invalid cursor: " + cursor);
+        }
+        List<ProductSummary> fetched = productRepositoryPort.findSummaryPageAfter(afterId, size + 1);
+        return CursorPage.of(fetched, size, product -> product.id());
     }
 
     /**
      * {@inheritDoc}
+     * The export runs in a read-only transaction, which keeps the database cursor open.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProducts(Consumer<Product> sink) {
+        log.info("Exporting all products");
+        try (Stream<Product> products = productRepositoryPort.streamAll()) {
+            products.forEach(sink);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The adjustment is a single atomic update, so concurrent adjustments of the same product
+     * never overwrite each other. An adjustment that would make the stock negative is rejected.
+     * <p>
+     * In write-behind mode, additions are only recorded in the stock delta buffer and written by
+     * the next flush. Removals are taken from the buffered additions first, atomically, and only the
+     * remainder is removed from the stored stock with the same atomic update as above; if that is
+     * rejected, the taken units are returned to the buffer. A removal is therefore never accepted
+     * unless the stock covering it is either stored or buffered, and no flush can reject it later.
      */
     @Override
     public void adjustStock(Long productId, int quantity) {
         log.info("Adjusting stock for product ID: {} by {}", productId, quantity);
-        Product product = retrieveProduct(productId);
-        product.adjustStock(quantity);
-        productRepositoryPort.save(product);
+        if (writeBehindStock && quantity >= 0) {
+            productRepositoryPort.findById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException(productId));
+            stockDeltaBufferPort.add(productId, quantity);
+            return;
+        }
+        int taken = writeBehindStock ? stockDeltaBufferPort.take(productId, -quantity) : 0;
+        if (taken == -quantity) {
+            return;
+        }
+        Optional<Integer> newStock = productRepositoryPort.adjustStock(productId, quantity + taken);
+        if (newStock.isEmpty()) {
+            stockDeltaBufferPort.add(productId, taken);
+            throw productRepositoryPort.existsById(productId)
+                    ? new InvalidProductException("Insufficient stock for product ID: " + productId)
+                    : new ProductNotFoundException(productId);
+        }
+        log.info("Stock adjusted by {}. New stock: {}", quantity, newStock.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The stored stock is read through the product cache and the buffered adjustments are added
+     * to it, without a flush writing them in between.
+     */
+    @Override
+    public int retrieveStock(Long productId) {
+        return stockDeltaBufferPort.stock(productId, () -> productRepositoryPort.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId))
+                .getStockQuantity());
+    }
+
+    /**
+     * Periodically writes the buffered stock adjustments to the database, applying the net
+     * adjustment of every product in one statement, together with the batch ID, so a batch replayed
+     * after a crash is skipped if it was already applied. When the write fails, the batch is
+     * written again by the next flush. Since removals only take from buffered additions,
+     * no net adjustment is negative, and an adjustment is only rejected when its product has been
+     * deleted in the meantime.
+     * <p>
+     * Flushes also run when write-behind mode is off, so that adjustments replayed from the
+     * delta log of a previous run are written as well.
+     */
+    @Scheduled(fixedDelayString = "${products.stock.write-behind.flush-interval:PT0.5S}")
+    public synchronized void flushStockDeltas() {
+        stockDeltaBufferPort.flush(batch -> {
+            List<Long> rejected = productRepositoryPort.applyStockDeltas(batch);
+            log.debug("Flushed stock adjustments of {} products", batch.deltas().size());
+            rejected.forEach(productId -> log.warn("Discarded buffered stock adjustment of {} units for deleted product ID: {}",
+                    batch.deltas().get(productId).net(), productId));
+        }, productRepositoryPort::forgetStockDeltaBatch);
+    }
+
+    /**
+     * Flushes the buffered stock adjustments when the application shuts down, before the
+     * database connections are closed.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void flushStockDeltasOnShutdown() {
+        log.info("Flushing buffered stock adjustments before shutdown");
+        flushStockDeltas();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Additionally, validates that the number of buckets is between zero and 64.
+     */
+    @Override
+    public int shardStock(Long productId, int buckets) {
+        log.info("Sharding stock of product ID: {} over {} buckets", productId, buckets);
+        if (buckets < 0 || buckets > MAX_STOCK_BUCKETS) {
+            throw new InvalidProductException("Stock bucket count must be between 0 and " + MAX_STOCK_BUCKETS);
+        }
+        return productRepositoryPort.shardStock(productId, buckets)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    /**
+     * Periodically evens out the stock buckets of sharded products, so that decrements keep
+     * finding stock in the bucket they pick instead of falling back to a rebalance themselves.
+     */
+    @Scheduled(fixedDelayString = "${products.stock.rebalance-interval:PT10S}")
+    public void rebalanceStockBuckets() {
+        int rebalanced = productRepositoryPort.rebalanceStockBuckets();
+        if (rebalanced > 0) {
+            log.info("Rebalanced stock buckets of {} products", rebalanced);
+        }
     }
 
     /**
      * {@inheritDoc}
-     * Additionally, performs a product search using the Specification Pattern.
+     * Once the product search index is ready, filtered searches find the matching IDs in the index
+     * and only read those products from the database. Otherwise, performs the product search
+     * using the Specification Pattern.
      */
     @Override
-    public List<Product> searchProducts(String name, String category) {
+    public List<ProductSummary> searchProducts(String name, String category) {
         log.info("Searching products with name: {} and category: {}", name, category);
-        if (name != null || category != null) {
-            Specification<Product> spec = Specification.where(null);
+        if ((name != null || category != null) && productSearchIndexPort.isReady()) {
+            return productRepositoryPort.findSummariesByIds(productSearchIndexPort.search(name, category));
+        }
+        Specification<Product> spec = Specification.where(null);
 
-            if (name != null) {
-                spec = spec.and(ProductSpecification.hasNameContaining(name));
-            }
+        if (name != null) {
+            spec = spec.and(ProductSpecification.hasNameContaining(name));
+        }
 
-            if (category != null) {
-                spec = spec.and(ProductSpecification.hasCategoryContaining(category));
-            }
+        if (category != null) {
+            spec = spec.and(ProductSpecification.hasCategoryContaining(category));
+        }
+
+        log.info("Performing product search with spec: {}", spec);
+        return productRepositoryPort.findSummaries(spec);
+    }
+
+    /**
+     * Validates the writable fields of a created or updated product.
+     *
+     * @param product the product
+     * @throws InvalidProductException if the name is blank, the price is missing or negative, or a
+     *                                 text field is too long
+     */
+    private static void validateProduct(Product product) {
+        validateName(product.getName());
+        validatePrice(product.getPrice());
+        validateText("description", product.getDescription());
+        validateText("category", product.getCategory());
+    }
+
+    private static void validateName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new InvalidProductException("Name is required");
+        }
+        validateText("name", name);
+    }
+
+    private static void validatePrice(Double price) {
+        if (price == null || !Double.isFinite(price) || price < 0) {
+            throw new InvalidProductException("Price must be zero or positive");
+        }
+    }
 
-            log.info("Performing product search with spec: {}", spec);
-            return productRepositoryPort.findAll(spec);
-        } else {
-            return productRepositoryPort.findAll();
+    private static void validateText(String field, String value) {
+        if (value != null && value.length() > MAX_TEXT_LENGTH) {
+            throw new InvalidProductException("Product " + field + " must be at most " + MAX_TEXT_LENGTH + " characters");
         }
     }
+
+    /**
+     * Validates a product merge patch and converts it to the field values to write.
+     *
+     * @param patch the merge patch document
+     * @return the new values keyed by field name
+     * @throws InvalidProductException if the patch sets an unknown or read-only field, clears a
+     *                                 required field or sets a value of the wrong type or an invalid value
+     */
+    private static Map<String, Object> productChanges(Map<String, Object> patch) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        patch.forEach((field, value) -> {
+            switch (field) {
+                case "name" -> {
+                    if (!(value instanceof String name)) {
+                        throw new InvalidProductException("Product name must be a non-blank string");
+                    }
+                    validateName(name);
+                    changes.put(field, name);
+                }
+                case "price" -> {
+                    if (!(value instanceof Number price)) {
+                        throw new InvalidProductException("Product price must be a number");
+                    }
+                    validatePrice(price.doubleValue());
+                    changes.put(field, price.doubleValue());
+                }
+                case "description", "category" -> {
+                    if (value != null && !(value instanceof String)) {
+                        throw new InvalidProductException("Product " + field + " must be a string or null");
+                    }
+                    validateText(field, (String) value);
+                    changes.put(field, value);
+                }
+                default -> throw new InvalidProductException("Product field cannot be patched: " + field);
+            }
+        });
+        return changes;
+    }
+
 }
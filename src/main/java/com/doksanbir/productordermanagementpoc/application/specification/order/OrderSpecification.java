@@ -4,6 +4,8 @@ import com.doksanbir.productordermanagementpoc.domain.Order;
 import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+
 /**
  * Utility class for creating Order Specifications.
  * <p>
@@ -33,4 +35,15 @@ public class OrderSpecification {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get("product").get("id"), productId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a specification to filter orders by their IDs.
+     *
+     * @param orderIds the IDs to filter by
+     * @return a {@link Specification} to filter orders by ID
+     */
+    public static Specification<Order> hasIdIn(Collection<Long> orderIds) {
+        return (root, query, criteriaBuilder) ->
+                root.get("id").in(orderIds);
+    }
+}
@@ -3,6 +3,9 @@ package com.doksanbir.productordermanagementpoc.application.strategy.order;
 import com.doksanbir.productordermanagementpoc.domain.Order;
 import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Strategy interface for processing orders based on their status.
  */
@@ -20,4 +23,26 @@ public interface OrderProcessingStrategy {
      * @return the handled OrderStatus
      */
     OrderStatus getHandledStatus();
+
+    /**
+     * Returns the status this strategy moves every order to, if processing an order does nothing
+     * but set that status. Such a strategy lets a whole chunk of orders be processed with one
+     * set-based {@code UPDATE}, without loading the orders.
+     *
+     * @return the target status, or empty if each order must be processed through {@link #processBatch(List)}
+     */
+    default Optional<OrderStatus> getTargetStatus() {
+        return Optional.empty();
+    }
+
+    /**
+     * Processes a chunk of orders with the handled status. The orders are persisted by the caller.
+     * <p>
+     * The default implementation processes each order with {@link #process(Order)}.
+     *
+     * @param orders the orders to process
+     */
+    default void processBatch(List<Order> orders) {
+        orders.forEach(this::process);
+    }
 }
@@ -0,0 +1,104 @@
+package com.doksanbir.productordermanagementpoc.application.strategy.order;
+
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * State machine driving orders through their statuses.
+ * <p>
+ * The transition table is compiled once, when the machine is created: for every {@link OrderStatus}
+ * it holds the statuses an order may move to, as allowed by {@link OrderStatus#canTransitionTo},
+ * and the {@link OrderProcessingStrategy} that acts on orders entering that status. Strategies
+ * declaring a target status that is not a legal transition are rejected at startup.
+ * <p>
+ * The machine works on orders in memory only. Callers check transitions with
+ * {@link #canTransition(OrderStatus, OrderStatus)} before reading or writing anything, compute the
+ * final state with {@link #fire(Order)}, and then persist the order once.
+ */
+@Slf4j
+public class OrderStateMachine {
+
+    private final Map<OrderStatus, Set<OrderStatus>> targets = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, Set<OrderStatus>> sources = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, OrderProcessingStrategy> actions = new EnumMap<>(OrderStatus.class);
+
+    /**
+     * Compiles the transition table and registers the strategies as the actions of their handled status.
+     *
+     * @param strategies the processing strategies keyed by the status they handle
+     * @throws IllegalStateException if a strategy's target status is not a legal transition
+     */
+    public OrderStateMachine(Map<OrderStatus, OrderProcessingStrategy> strategies) {
+        for (OrderStatus from : OrderStatus.values()) {
+            targets.put(from, EnumSet.noneOf(OrderStatus.class));
+            sources.put(from, EnumSet.noneOf(OrderStatus.class));
+        }
+        for (OrderStatus from : OrderStatus.values()) {
+            for (OrderStatus to : OrderStatus.values()) {
+                if (from.canTransitionTo(to)) {
+                    targets.get(from).add(to);
+                    sources.get(to).add(from);
+                }
+            }
+        }
+        strategies.forEach((status, strategy) -> {
+            strategy.getTargetStatus().ifPresent(target -> {
+                if (!canTransition(status, target)) {
+                    throw new IllegalStateException(strategy.getClass().getSimpleName() + " moves orders from "
+                            + status + " to " + target + ", which is not a legal transition");
+                }
+            });
+            actions.put(status, strategy);
+        });
+    }
+
+    /**
+     * Checks whether an order may move from one status to another. Keeping the current status is allowed.
+     *
+     * @param from the current status
+     * @param to   the requested status
+     * @return {@code true} if the transition is allowed
+     */
+    public boolean canTransition(OrderStatus from, OrderStatus to) {
+        return from == to || targets.get(from).contains(to);
+    }
+
+    /**
+     * Returns the statuses from which an order may move to the given status.
+     *
+     * @param to the target status
+     * @return an unmodifiable set of source statuses
+     */
+    public Set<OrderStatus> sourcesOf(OrderStatus to) {
+        return Collections.unmodifiableSet(sources.get(to));
+    }
+
+    /**
+     * Runs the action registered for the order's status, changing the order in memory only.
+     *
+     * @param order the order to process
+     * @return {@code true} if an action was registered and ran
+     * @throws IllegalStateException if the action moved the order to a status it may not reach
+     */
+    public boolean fire(Order order) {
+        OrderStatus status = order.getStatus();
+        OrderProcessingStrategy action = actions.get(status);
+        if (action == null) {
+            log.debug("No action registered for status: {}", status);
+            return false;
+        }
+        action.process(order);
+        if (!canTransition(status, order.getStatus())) {
+            throw new IllegalStateException(action.getClass().getSimpleName() + " moved order " + order.getId()
+                    + " from " + status + " to " + order.getStatus() + ", which is not a legal transition");
+        }
+        return true;
+    }
+}
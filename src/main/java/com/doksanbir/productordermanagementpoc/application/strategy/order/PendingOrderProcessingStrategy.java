@@ -5,6 +5,8 @@ import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
  * Strategy for processing pending orders.
  */
@@ -25,4 +27,12 @@ public class PendingOrderProcessingStrategy implements OrderProcessingStrategy {
     public OrderStatus getHandledStatus() {
         return OrderStatus.PENDING;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<OrderStatus> getTargetStatus() {
+        return Optional.of(OrderStatus.CONFIRMED);
+    }
 }
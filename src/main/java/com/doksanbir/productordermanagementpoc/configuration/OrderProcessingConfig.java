@@ -1,20 +1,30 @@
 package com.doksanbir.productordermanagementpoc.configuration;
 
 import com.doksanbir.productordermanagementpoc.application.strategy.order.OrderProcessingStrategy;
+import com.doksanbir.productordermanagementpoc.application.strategy.order.OrderStateMachine;
 import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuration class for managing Order Processing Strategies.
  * <p>
  * This class defines a bean that provides a mapping between {@link OrderStatus}
  * and corresponding {@link OrderProcessingStrategy} implementations. The strategies
- * are automatically injected into the map based on the available Spring-managed beans.
+ * are automatically injected into the map based on the available Spring-managed beans,
+ * and act as the actions of the {@link OrderStateMachine} built from it. It also defines
+ * the bounded worker pool that runs the strategies when orders are processed asynchronously.
  */
 @Configuration
 public class OrderProcessingConfig {
@@ -36,4 +46,65 @@ public class OrderProcessingConfig {
         }
         return map;
     }
+
+    /**
+     * Creates the {@link OrderStateMachine}, compiling its transition table and registering the
+     * processing strategies as the actions of their handled status.
+     *
+     * @param orderProcessingStrategies the processing strategies keyed by their handled status
+     * @return the order state machine
+     */
+    @Bean
+    public OrderStateMachine orderStateMachine(Map<OrderStatus, OrderProcessingStrategy> orderProcessingStrategies) {
+        return new OrderStateMachine(orderProcessingStrategies);
+    }
+
+    /**
+     * Creates the bounded worker pool that applies processing strategies off the request thread.
+     * <p>
+     * The pool runs {@code orders.processing.async.parallelism} workers fed by a queue of
+     * {@code orders.processing.async.queue-capacity} orders. When the queue is full, the submitting
+     * thread processes the order itself, which slows producers down to the rate the workers sustain
+     * instead of dropping work. Pending orders are drained on shutdown.
+     * <p>
+     * The queue depth is published as the {@code orders.processing.queue.depth} gauge, and the time
+     * an order waits before a worker picks it up as the {@code orders.processing.queue.lag} timer.
+     *
+     * @param parallelism   the number of worker threads
+     * @param queueCapacity the maximum number of orders waiting for a worker
+     * @param meterRegistry the registry to publish the pool metrics to
+     * @return the order processing executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor orderProcessingExecutor(@Value("${orders.processing.async.parallelism:4}") int parallelism,
+                                                          @Value("${orders.processing.async.queue-capacity:1000}") int queueCapacity,
+                                                          MeterRegistry meterRegistry) {
+        Timer lag = Timer.builder("orders.processing.queue.lag")
+                .description("Time an order waits in the queue before a worker processes it")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setTaskDecorator(task -> {
+            long enqueuedAt = System.nanoTime();
+            return () -> {
+                lag.record(Duration.ofNanos(System.nanoTime() - enqueuedAt));
+                task.run();
+            };
+        });
+
+        Gauge.builder("orders.processing.queue.depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Number of orders waiting for a processing worker")
+                .register(meterRegistry);
+        Gauge.builder("orders.processing.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Number of orders being processed")
+                .register(meterRegistry);
+        return executor;
+    }
 }
@@ -0,0 +1,13 @@
+package com.doksanbir.productordermanagementpoc.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling scheduled background jobs, such as the order batch processor.
+ * Each job is switched on by its own schedule property.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,82 @@
+package com.doksanbir.productordermanagementpoc.configuration;
+
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.shared.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Configuration class for the {@link SingleFlight} groups that coalesce concurrent lookups by ID.
+ * <p>
+ * Every group publishes its calls as the {@code single.flight.calls} counter, tagged with the
+ * group {@code name} and the {@code result} of the call: {@code loaded}, {@code coalesced},
+ * {@code timed-out} or {@code overflowed}. The coalescing ratio is the share of {@code coalesced}
+ * calls. The number of keys in flight is published as the {@code single.flight.in-flight} gauge.
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    /**
+     * Creates the group that coalesces concurrent product lookups by ID.
+     *
+     * @param maxInFlight   the maximum number of products loaded at once with coalescing
+     * @param timeout       how long a lookup waits for a load in flight before loading itself
+     * @param meterRegistry the registry to publish the group metrics to
+     * @return the product lookup group
+     */
+    @Bean
+    public SingleFlight<Long, Optional<Product>> productLookupSingleFlight(
+            @Value("${products.single-flight.max-in-flight:10000}") int maxInFlight,
+            @Value("${products.single-flight.timeout:PT1S}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        return monitor(new SingleFlight<>(maxInFlight, timeout), "products", meterRegistry);
+    }
+
+    /**
+     * Creates the group that coalesces concurrent order lookups by ID.
+     *
+     * @param maxInFlight   the maximum number of orders loaded at once with coalescing
+     * @param timeout       how long a lookup waits for a load in flight before loading itself
+     * @param meterRegistry the registry to publish the group metrics to
+     * @return the order lookup group
+     */
+    @Bean
+    public SingleFlight<Long, Optional<Order>> orderLookupSingleFlight(
+            @Value("${orders.single-flight.max-in-flight:10000}") int maxInFlight,
+            @Value("${orders.single-flight.timeout:PT1S}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        return monitor(new SingleFlight<>(maxInFlight, timeout), "orders", meterRegistry);
+    }
+
+    private static <K, V> SingleFlight<K, V> monitor(SingleFlight<K, V> singleFlight, String name,
+                                                     MeterRegistry meterRegistry) {
+        registerCalls(singleFlight, name, "loaded", SingleFlight::loaded, meterRegistry);
+        registerCalls(singleFlight, name, "coalesced", SingleFlight::coalesced, meterRegistry);
+        registerCalls(singleFlight, name, "timed-out", SingleFlight::timedOut, meterRegistry);
+        registerCalls(singleFlight, name, "overflowed", SingleFlight::overflowed, meterRegistry);
+        Gauge.builder("single.flight.in-flight", singleFlight, SingleFlight::inFlight)
+                .description("Number of keys whose load is in flight")
+                .tag("name", name)
+                .register(meterRegistry);
+        return singleFlight;
+    }
+
+    private static <K, V> void registerCalls(SingleFlight<K, V> singleFlight, String name, String result,
+                                             ToDoubleFunction<SingleFlight<K, V>> count,
+                                             MeterRegistry meterRegistry) {
+        FunctionCounter.builder("single.flight.calls", singleFlight, count)
+                .description("Number of lookups by how they were served")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
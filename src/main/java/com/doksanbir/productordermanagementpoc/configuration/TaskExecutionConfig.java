@@ -0,0 +1,30 @@
+package com.doksanbir.productordermanagementpoc.configuration;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration class for the general-purpose application task executor.
+ * <p>
+ * Spring Boot only auto-configures its {@code applicationTaskExecutor} when no other executor
+ * is defined. Since the application defines dedicated pools, such as the order processing pool,
+ * the default executor is declared here explicitly, so that asynchronous MVC responses like the
+ * streaming exports keep running on it rather than on a thread per request.
+ */
+@Configuration
+public class TaskExecutionConfig {
+
+    /**
+     * Creates the application task executor from the {@code spring.task.execution.*} properties.
+     *
+     * @param builder the builder pre-configured by Spring Boot
+     * @return the application task executor
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
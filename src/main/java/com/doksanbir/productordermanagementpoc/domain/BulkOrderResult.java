@@ -0,0 +1,35 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+/**
+ * Represents the outcome of a single item of a bulk order creation request.
+ *
+ * @param index   the zero-based position of the item in the request
+ * @param success whether the order was created
+ * @param orderId the ID of the created order, or {@code null} if the item failed
+ * @param status  the status the order was persisted with, or {@code null} if the item failed
+ * @param error   the reason the item failed, or {@code null} if it succeeded
+ */
+public record BulkOrderResult(int index, boolean success, Long orderId, OrderStatus status, String error) {
+
+    /**
+     * Creates the result of a successfully created order.
+     *
+     * @param index the position of the item in the request
+     * @param order the persisted order
+     * @return the successful result
+     */
+    public static BulkOrderResult succeeded(int index, Order order) {
+        return new BulkOrderResult(index, true, order.getId(), order.getStatus(), null);
+    }
+
+    /**
+     * Creates the result of an item that could not be created.
+     *
+     * @param index the position of the item in the request
+     * @param error the reason of the failure
+     * @return the failed result
+     */
+    public static BulkOrderResult failed(int index, String error) {
+        return new BulkOrderResult(index, false, null, null, error);
+    }
+}
@@ -0,0 +1,69 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Represents a single page of a keyset (cursor) paginated listing.
+ * <p>
+ * Pages are addressed by an opaque cursor encoding the ID of the last element of the previous
+ * page. Because the next page is fetched with {@code id > cursor ORDER BY id LIMIT n}, every page
+ * costs the same primary key range scan, no matter how deep into the listing it is.
+ *
+ * @param items      the elements of this page, ordered by ID
+ * @param nextCursor the cursor of the following page, or {@code null} if this is the last page
+ * @param <T>        the type of the elements
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    /**
+     * Builds a page from a result fetched with one element more than the requested page size.
+     * The extra element only signals that a following page exists and is not part of the page.
+     *
+     * @param fetched     the fetched elements, at most {@code size + 1}
+     * @param size        the requested page size
+     * @param idExtractor extracts the keyset ID from an element
+     * @param <T>         the type of the elements
+     * @return the page
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, Long> idExtractor) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(List.copyOf(fetched), null);
+        }
+        List<T> items = List.copyOf(fetched.subList(0, size));
+        return new CursorPage<>(items, encodeCursor(idExtractor.apply(items.get(size - 1))));
+    }
+
+    /**
+     * Encodes an ID into an opaque cursor token.
+     *
+     * @param id the ID of the last element of a page
+     * @return the cursor token
+     */
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes an opaque cursor token back into the ID it was created from.
+     *
+     * @param cursor the cursor token, may be {@code null} for the first page
+     * @return the decoded ID, or {@code null} if no cursor was given
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!decoded.startsWith(CURSOR_PREFIX)) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+        return Long.valueOf(decoded.substring(CURSOR_PREFIX.length()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Represents the result of looking up several elements by ID at once.
+ * <p>
+ * The found elements are listed in the order their IDs were requested, each once; IDs without an
+ * element are reported instead of failing the whole lookup.
+ *
+ * @param items      the found elements, in request order
+ * @param missingIds the requested IDs that were not found, in request order
+ * @param <T>        the type of the elements
+ */
+public record MultiGetResult<T>(List<T> items, List<Long> missingIds) {
+
+    /**
+     * Builds a result from the elements found for the requested IDs, in any order.
+     *
+     * @param requestedIds the distinct requested IDs, in request order
+     * @param found        the found elements
+     * @param idExtractor  extracts the ID from an element
+     * @param <T>          the type of the elements
+     * @return the result
+     */
+    public static <T> MultiGetResult<T> of(Collection<Long> requestedIds, Collection<T> found,
+                                           Function<T, Long> idExtractor) {
+        Map<Long, T> foundById = new HashMap<>();
+        found.forEach(element -> foundById.put(idExtractor.apply(element), element));
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            T element = foundById.get(id);
+            if (element == null) {
+                missingIds.add(id);
+            } else {
+                items.add(element);
+            }
+        }
+        return new MultiGetResult<>(List.copyOf(items), List.copyOf(missingIds));
+    }
+}
@@ -1,23 +1,34 @@
 package com.doksanbir.productordermanagementpoc.domain;
 
 import com.doksanbir.productordermanagementpoc.shared.BaseEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Represents an order in the system.
+ * <p>
+ * Updates only write the changed columns.
  */
 @Entity
 @Table(name = "orders")
+@DynamicUpdate
 @EntityListeners(OrderEntityListener.class)
 @Getter
 @Setter
 @Slf4j
 public class Order extends BaseEntity {
 
-    @ManyToOne
+    /**
+     * The ordered product.
+     * <p>
+     * Loaded lazily; read paths that return orders fetch it explicitly together with the orders,
+     * so listing or searching orders never issues one product query per row.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
@@ -27,4 +38,34 @@ public class Order extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OrderStatus status;
+
+    /**
+     * Whether the quantity of the order was taken from the product stock when it was placed, so
+     * that cancelling or deleting the order gives it back.
+     * <p>
+     * Read-only: only the order placement statements set it, which reserve stock for single and
+     * bulk-created orders alike.
+     */
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false)
+    private boolean stockReserved;
+
+    /**
+     * Creates a detached copy of this order, including its ID, version and audit fields, and a copy
+     * of its product, which must have been fetched with the order.
+     *
+     * @return the copy
+     */
+    public Order copy() {
+        Order copy = new Order();
+        copy.setId(getId());
+        copy.setVersion(getVersion());
+        copy.setCreatedAt(getCreatedAt());
+        copy.setUpdatedAt(getUpdatedAt());
+        copy.setProduct(product == null ? null : product.copy());
+        copy.setQuantity(quantity);
+        copy.setStatus(status);
+        copy.setStockReserved(stockReserved);
+        return copy;
+    }
 }
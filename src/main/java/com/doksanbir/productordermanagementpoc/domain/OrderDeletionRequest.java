@@ -0,0 +1,16 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+import java.time.Duration;
+
+/**
+ * Represents a request to delete the orders matching a filter.
+ * <p>
+ * The filters are combined, and at least one of them must be given.
+ *
+ * @param status    the status of the orders to delete (optional filter)
+ * @param productId the ID of the product of the orders to delete (optional filter)
+ * @param olderThan the minimum age of the orders to delete, such as {@code P90D} (optional filter)
+ * @param dryRun    {@code true} to only count the matching orders
+ */
+public record OrderDeletionRequest(OrderStatus status, Long productId, Duration olderThan, boolean dryRun) {
+}
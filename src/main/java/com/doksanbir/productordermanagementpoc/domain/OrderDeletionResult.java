@@ -0,0 +1,19 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+import java.util.UUID;
+
+/**
+ * Represents the outcome, or the progress so far, of a bulk order deletion.
+ *
+ * @param jobId     the ID of the background deletion job, or {@code null} for a dry run
+ * @param dryRun    whether the orders were only counted
+ * @param status    the progress of the deletion; a dry run is always completed
+ * @param orders    the number of matching orders in a dry run, otherwise the number of orders deleted so far
+ * @param chunks    the number of delete statements issued so far
+ * @param remaining the number of matching orders left when the job ended, such as orders that were
+ *                  locked by other transactions whenever a chunk reached them; zero for a dry run
+ *                  and while the job is running
+ */
+public record OrderDeletionResult(UUID jobId, boolean dryRun, OrderDeletionStatus status, long orders, int chunks,
+                                  long remaining) {
+}
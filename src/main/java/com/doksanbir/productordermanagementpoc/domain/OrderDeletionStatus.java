@@ -0,0 +1,10 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+/**
+ * Enumeration representing the progress of a bulk order deletion.
+ */
+public enum OrderDeletionStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
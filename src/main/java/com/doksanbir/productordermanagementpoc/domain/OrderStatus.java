@@ -8,5 +8,34 @@ public enum OrderStatus {
     CONFIRMED,
     SHIPPED,
     DELIVERED,
-    CANCELLED
+    CANCELLED;
+
+    /**
+     * Checks whether an order with this status may be moved to the given status.
+     * <p>
+     * Orders move forward one step at a time from {@link #PENDING} to {@link #DELIVERED}, and may be
+     * {@link #CANCELLED} until they are shipped. Delivered and cancelled orders are final.
+     *
+     * @param target the status to move to
+     * @return {@code true} if the transition is allowed
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return switch (this) {
+            case PENDING -> target == CONFIRMED || target == CANCELLED;
+            case CONFIRMED -> target == SHIPPED || target == CANCELLED;
+            case SHIPPED -> target == DELIVERED;
+            case DELIVERED, CANCELLED -> false;
+        };
+    }
+
+    /**
+     * Checks whether an order with this status still holds the stock it reserved when it was
+     * placed. The reservation is consumed when the order is shipped and given back when it is
+     * cancelled, so it is held exactly while the order may still be cancelled.
+     *
+     * @return {@code true} if a reservation taken by the order is still held
+     */
+    public boolean holdsReservation() {
+        return canTransitionTo(CANCELLED);
+    }
 }
@@ -0,0 +1,31 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an {@link Order} for list and search results.
+ * <p>
+ * Selected directly as columns of the {@code orders} table, so it neither joins the product
+ * nor occupies the persistence context like a managed entity would.
+ *
+ * @param id        the ID of the order
+ * @param productId the ID of the ordered product
+ * @param quantity  the ordered quantity
+ * @param status    the status of the order
+ * @param createdAt the creation timestamp
+ * @param updatedAt the last update timestamp
+ */
+public record OrderSummary(Long id, Long productId, Integer quantity, OrderStatus status,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    /**
+     * Creates the summary of an order.
+     *
+     * @param order the order, with its product reference set
+     * @return the summary
+     */
+    public static OrderSummary of(Order order) {
+        return new OrderSummary(order.getId(), order.getProduct().getId(), order.getQuantity(), order.getStatus(),
+                order.getCreatedAt(), order.getUpdatedAt());
+    }
+}
@@ -0,0 +1,17 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+import java.util.List;
+
+/**
+ * Represents a request to move many orders to a new status at once.
+ * <p>
+ * The orders are selected either by their IDs or by a filter on their current status and product,
+ * but not both.
+ *
+ * @param orderIds     the IDs of the orders to move, or {@code null} to select them by filter
+ * @param status       the current status of the orders to move (optional filter)
+ * @param productId    the ID of the product of the orders to move (optional filter)
+ * @param targetStatus the status to move the orders to
+ */
+public record OrderTransitionRequest(List<Long> orderIds, OrderStatus status, Long productId, OrderStatus targetStatus) {
+}
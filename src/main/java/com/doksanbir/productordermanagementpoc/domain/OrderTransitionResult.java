@@ -0,0 +1,22 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+import java.util.List;
+
+/**
+ * Represents the outcome of a bulk order status transition.
+ *
+ * @param targetStatus    the status the orders were moved to
+ * @param transitionedIds the IDs of the moved orders, in ascending order
+ * @param skipped         the orders that were not moved and why, in ascending ID order
+ */
+public record OrderTransitionResult(OrderStatus targetStatus, List<Long> transitionedIds, List<Skipped> skipped) {
+
+    /**
+     * An order that was selected for a transition but not moved.
+     *
+     * @param orderId the ID of the order
+     * @param reason  the reason the order was not moved
+     */
+    public record Skipped(Long orderId, String reason) {
+    }
+}
@@ -1,21 +1,33 @@
 package com.doksanbir.productordermanagementpoc.domain;
 
 import com.doksanbir.productordermanagementpoc.shared.BaseEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Formula;
 
 /**
  * Represents a product in the inventory.
+ * <p>
+ * Since products are referenced lazily from orders, a product may be a Hibernate proxy;
+ * the proxy internals are excluded from JSON serialization.
+ * <p>
+ * Updates only write the changed columns, so changing the price does not rewrite the name
+ * and touch its unique index.
  */
 @Entity
 @Table(name = "products")
+@DynamicUpdate
 @Getter
 @Setter
 @Slf4j
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Product extends BaseEntity {
 
     @Column(nullable = false, unique = true)
@@ -26,18 +38,56 @@ public class Product extends BaseEntity {
     @Column(nullable = false)
     private Double price;
 
-    @Column(nullable = false)
+    /**
+     * The quantity in stock.
+     * <p>
+     * Not updatable through entity saves: stock only changes through atomic delta updates,
+     * so saving a product loaded earlier can never overwrite a concurrent stock adjustment.
+     */
+    @Column(nullable = false, updatable = false)
     private Integer stockQuantity;
 
+    /**
+     * The quantity in stock held in the stock buckets of the product, when its inventory is sharded.
+     * <p>
+     * Read-only: computed by the database on every load, and only for sharded products.
+     */
+    @JsonIgnore
+    @Formula("(CASE WHEN stock_buckets = 0 THEN 0 ELSE (SELECT COALESCE(SUM(b.quantity), 0) "
+            + "FROM product_stock_buckets b WHERE b.product_id = id) END)")
+    private Integer bucketStockQuantity;
+
     private String category;
 
     /**
-     * Adjusts the stock quantity of the product.
+     * Returns the quantity in stock, including the stock held in the buckets of a sharded product.
+     *
+     * @return the total quantity in stock
+     */
+    public Integer getStockQuantity() {
+        if (stockQuantity == null || bucketStockQuantity == null) {
+            return stockQuantity;
+        }
+        return stockQuantity + bucketStockQuantity;
+    }
+
+    /**
+     * Creates a detached copy of this product, including its ID, version and audit fields.
      *
-     * @param quantity the amount to adjust the stock by
+     * @return the copy
      */
-    public void adjustStock(int quantity) {
-        this.stockQuantity += quantity;
-        log.info("Stock adjusted by {}. New stock: {}", quantity, this.stockQuantity);
+    public Product copy() {
+        Product copy = new Product();
+        copy.setId(getId());
+        copy.setVersion(getVersion());
+        copy.setCreatedAt(getCreatedAt());
+        copy.setUpdatedAt(getUpdatedAt());
+        copy.setName(name);
+        copy.setDescription(description);
+        copy.setPrice(price);
+        copy.setStockQuantity(stockQuantity);
+        copy.setBucketStockQuantity(bucketStockQuantity);
+        copy.setCategory(category);
+        return copy;
     }
 }
@@ -0,0 +1,11 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+/**
+ * Represents a row of a product catalog import that was not loaded.
+ *
+ * @param rowNumber the one-based number of the data row in the imported file
+ * @param name      the product name of the row, or {@code null} if it could not be parsed
+ * @param reason    the reason the row was rejected
+ */
+public record ProductImportReject(long rowNumber, String name, String reason) {
+}
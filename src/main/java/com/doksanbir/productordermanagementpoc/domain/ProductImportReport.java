@@ -0,0 +1,12 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+import java.util.List;
+
+/**
+ * Summarizes the outcome of a product catalog import.
+ *
+ * @param imported the number of products that were loaded
+ * @param rejects  the rows that were not loaded, ordered by row number
+ */
+public record ProductImportReport(long imported, List<ProductImportReject> rejects) {
+}
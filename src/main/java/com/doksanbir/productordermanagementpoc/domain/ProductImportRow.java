@@ -0,0 +1,10 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+/**
+ * Represents a parsed and validated row of a product catalog import.
+ *
+ * @param rowNumber the one-based number of the data row in the imported file
+ * @param product   the product to import
+ */
+public record ProductImportRow(long rowNumber, Product product) {
+}
@@ -0,0 +1,15 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+/**
+ * Read-only projection of a {@link Product} for list and search results.
+ * <p>
+ * Leaves out the description and audit fields and is not tracked by the persistence context.
+ *
+ * @param id            the ID of the product
+ * @param name          the name of the product
+ * @param price         the price of the product
+ * @param stockQuantity the quantity in stock
+ * @param category      the category of the product
+ */
+public record ProductSummary(Long id, String name, Double price, Integer stockQuantity, String category) {
+}
@@ -0,0 +1,21 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+/**
+ * Represents the stock adjustments of a product accumulated between two write-behind flushes.
+ * <p>
+ * Removals only take from the additions of the same flush, so the net change is never negative.
+ *
+ * @param added   the total quantity added
+ * @param removed the total quantity removed
+ */
+public record StockDelta(int added, int removed) {
+
+    /**
+     * Returns the net change of the stock.
+     *
+     * @return the added minus the removed quantity
+     */
+    public int net() {
+        return added - removed;
+    }
+}
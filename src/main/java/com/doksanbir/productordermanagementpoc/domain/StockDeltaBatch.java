@@ -0,0 +1,16 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Represents the stock adjustments drained from the write-behind buffer by one flush.
+ * <p>
+ * A batch never changes once drained; a batch whose write failed is written again as is, with the
+ * same ID, so that the repository can recognize a batch it has already applied.
+ *
+ * @param id     the unique ID of the batch
+ * @param deltas the adjustments per product ID
+ */
+public record StockDeltaBatch(UUID id, Map<Long, StockDelta> deltas) {
+}
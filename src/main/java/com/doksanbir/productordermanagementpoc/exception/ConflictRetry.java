@@ -0,0 +1,49 @@
+package com.doksanbir.productordermanagementpoc.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Repeats read-modify-writes that lose to concurrent updates of the same entity.
+ */
+@Slf4j
+public final class ConflictRetry {
+
+    private ConflictRetry() {
+    }
+
+    /**
+     * Runs a read-modify-write of an entity, repeating it while it loses to concurrent updates.
+     * <p>
+     * Before each retry, the caller waits a random delay of up to {@code backoff} doubled per failed
+     * attempt ("full jitter"), so writers that collided do not collide again in lockstep. The last
+     * conflict is rethrown once the attempts are exhausted.
+     *
+     * @param entity      the name of the updated entity, for logging
+     * @param id          the ID of the updated entity
+     * @param maxAttempts the maximum number of attempts
+     * @param backoff     the maximum delay before the first retry
+     * @param update      the read-modify-write to run
+     * @return the result of the first attempt that did not conflict
+     */
+    public static <T> T retryOnConflict(String entity, Long id, int maxAttempts, Duration backoff, Supplier<T> update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return update.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Giving up updating {} {} after {} conflicting attempts", entity, id, attempt);
+                    throw e;
+                }
+                log.debug("{} {} was updated concurrently, retrying", entity, id);
+                long maxDelay = backoff.toNanos() << Math.min(attempt - 1, 20);
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(maxDelay + 1));
+            }
+        }
+    }
+}
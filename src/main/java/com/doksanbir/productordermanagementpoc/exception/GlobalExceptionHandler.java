@@ -1,5 +1,6 @@
 package com.doksanbir.productordermanagementpoc.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -60,6 +61,29 @@ public class GlobalExceptionHandler {
         return buildResponseEntity(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    /**
+     * Handles VersionMismatchException, raised when an {@code If-Match} precondition does not hold.
+     *
+     * @param ex the exception
+     * @return response entity with error details
+     */
+    @ExceptionHandler(VersionMismatchException.class)
+    public ResponseEntity<Object> handleVersionMismatchException(VersionMismatchException ex) {
+        return buildResponseEntity(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+    }
+
+    /**
+     * Handles OptimisticLockingFailureException, raised when an update kept conflicting with
+     * concurrent updates of the same entity until its retries were exhausted.
+     *
+     * @param ex the exception
+     * @return response entity with error details
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return buildResponseEntity(HttpStatus.CONFLICT, "The resource was updated concurrently, please retry.");
+    }
+
     /**
      * Handles validation errors.
      *
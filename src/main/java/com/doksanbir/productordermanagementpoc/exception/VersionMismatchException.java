@@ -0,0 +1,10 @@
+package com.doksanbir.productordermanagementpoc.exception;
+
+/**
+ * Exception thrown when an entity is not at the version a conditional update expects.
+ */
+public class VersionMismatchException extends RuntimeException {
+    public VersionMismatchException(String entity, Long id, Long expectedVersion, Long actualVersion) {
+        super(entity + " with ID: " + id + " is at version " + actualVersion + ", not " + expectedVersion);
+    }
+}
@@ -1,13 +1,34 @@
 package com.doksanbir.productordermanagementpoc.infrastructure.adapter.in.order;
 
 import com.doksanbir.productordermanagementpoc.application.port.in.order.*;
+import com.doksanbir.productordermanagementpoc.domain.CursorPage;
+import com.doksanbir.productordermanagementpoc.domain.MultiGetResult;
 import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderDeletionRequest;
+import com.doksanbir.productordermanagementpoc.domain.OrderDeletionResult;
 import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import com.doksanbir.productordermanagementpoc.domain.OrderTransitionRequest;
+import com.doksanbir.productordermanagementpoc.domain.OrderTransitionResult;
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.shared.IfMatch;
+import com.doksanbir.productordermanagementpoc.shared.NdjsonResponseBody;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * REST controller for managing orders.
@@ -18,48 +39,156 @@ import java.util.List;
 @Slf4j
 public class OrderController {
 
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final CreateOrderUseCase createOrderUseCase;
     private final RetrieveOrderUseCase retrieveOrderUseCase;
+    private final RetrieveOrdersUseCase retrieveOrdersUseCase;
     private final UpdateOrderUseCase updateOrderUseCase;
+    private final PatchOrderUseCase patchOrderUseCase;
     private final DeleteOrderUseCase deleteOrderUseCase;
+    private final BulkDeleteOrdersUseCase bulkDeleteOrdersUseCase;
     private final ListOrdersUseCase listOrdersUseCase;
     private final SearchOrdersUseCase searchOrdersUseCase;
     private final AdvancedSearchOrdersUseCase advancedSearchOrdersUseCase;
+    private final ExportOrdersUseCase exportOrdersUseCase;
+    private final BulkCreateOrdersUseCase bulkCreateOrdersUseCase;
+    private final TransitionOrdersUseCase transitionOrdersUseCase;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new order.
+     * <p>
+     * With an {@code Idempotency-Key} header, retries of the request return the order created by
+     * the first one instead of creating another.
      *
-     * @param order the order to create
+     * @param order          the order to create
+     * @param idempotencyKey the idempotency key of the request, if any
      * @return the created order
      */
     @PostMapping
-    public Order createOrder(@RequestBody Order order) {
-        log.info("Creating order for product ID: {}", order.getProduct().getId());
-        return createOrderUseCase.createOrder(order);
+    public Order createOrder(@RequestBody Order order,
+                             @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return createOrderUseCase.createOrder(order, idempotencyKey);
+    }
+
+    /**
+     * Creates many orders from a JSON array in one request.
+     * <p>
+     * The array is read element by element from the request body instead of being bound
+     * as a whole, so only the batch currently being persisted is held in memory.
+     *
+     * @param body the request body containing a JSON array of orders
+     * @return one result per order, in request order
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public List<BulkOrderResult> bulkCreateOrders(InputStream body) throws IOException {
+        log.info("Bulk creating orders");
+        try (MappingIterator<Order> orders = objectMapper.readerFor(Order.class).readValues(body)) {
+            return bulkCreateOrdersUseCase.bulkCreateOrders(orders);
+        }
+    }
+
+    /**
+     * Moves many orders to a new status in one request.
+     * <p>
+     * The orders are selected either by a list of IDs or by a status and product ID filter.
+     * Orders whose current status does not allow the transition are skipped and reported.
+     *
+     * @param request the orders to move and the target status
+     * @return the moved and the skipped orders
+     */
+    @PostMapping("/bulk/status")
+    public OrderTransitionResult transitionOrders(@RequestBody OrderTransitionRequest request) {
+        log.info("Transitioning orders to status: {}", request.targetStatus());
+        return transitionOrdersUseCase.transitionOrders(request);
+    }
+
+    /**
+     * Deletes the orders matching a status, product and age filter in one request, such as
+     * {@code {"status": "CANCELLED", "olderThan": "P90D"}}. The deletion runs in the background:
+     * the response is {@code 202 Accepted} with the job, whose progress can be polled at its
+     * {@code Location}. With {@code "dryRun": true}, the matching orders are only counted and the
+     * count is returned right away.
+     *
+     * @param request the filters and whether to only count the matching orders
+     * @return the number of matching orders, or the started deletion job
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<OrderDeletionResult> bulkDeleteOrders(@RequestBody OrderDeletionRequest request) {
+        log.info("Deleting orders with status: {}, product ID: {}, older than: {}, dry run: {}",
+                request.status(), request.productId(), request.olderThan(), request.dryRun());
+        OrderDeletionResult result = bulkDeleteOrdersUseCase.bulkDeleteOrders(request);
+        if (result.dryRun()) {
+            return ResponseEntity.ok(result);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/bulk/delete/" + result.jobId()))
+                .body(result);
+    }
+
+    /**
+     * Retrieves the progress of a bulk deletion job.
+     *
+     * @param jobId the ID of the job
+     * @return the number of orders deleted so far and whether the job is still running, or
+     * {@code 404 Not Found} if the job is unknown
+     */
+    @GetMapping("/bulk/delete/{jobId}")
+    public ResponseEntity<OrderDeletionResult> getBulkDeletion(@PathVariable("jobId") UUID jobId) {
+        return ResponseEntity.of(bulkDeleteOrdersUseCase.retrieveBulkDeletion(jobId));
     }
 
     /**
-     * Retrieves an order by ID.
+     * Retrieves an order by ID. The response carries the order's version as its {@code ETag}.
      *
      * @param orderId the ID of the order
      * @return the retrieved order
      */
     @GetMapping("/{id}")
-    public Order getOrder(@PathVariable("id") Long orderId) {
+    public ResponseEntity<Order> getOrder(@PathVariable("id") Long orderId) {
         log.info("Retrieving order with ID: {}", orderId);
-        return retrieveOrderUseCase.retrieveOrder(orderId);
+        Order order = retrieveOrderUseCase.retrieveOrder(orderId);
+        return ResponseEntity.ok().eTag(String.valueOf(order.getVersion())).body(order);
     }
 
     /**
      * Updates an existing order.
+     * <p>
+     * With an {@code If-Match} header holding the {@code ETag} of a previous read, the update is
+     * only applied if the order has not changed since, and is rejected with 412 otherwise. Without
+     * it, concurrent updates are retried and the last one wins.
      *
-     * @param order the order with updated information
-     * @return the updated order
+     * @param order   the order with updated information
+     * @param ifMatch the expected {@code ETag} of the order, if any
+     * @return the updated order, with its new version as its {@code ETag}
      */
     @PutMapping
-    public Order updateOrder(@RequestBody Order order) {
+    public ResponseEntity<Order> updateOrder(@RequestBody Order order,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating order with ID: {}", order.getId());
-        return updateOrderUseCase.updateOrder(order);
+        Order updatedOrder = updateOrderUseCase.updateOrder(order, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(updatedOrder.getVersion())).body(updatedOrder);
+    }
+
+    /**
+     * Partially updates an order with a JSON Merge Patch ({@code application/merge-patch+json}):
+     * only the fields present in the patch are changed. {@code If-Match} is handled as for
+     * {@link #updateOrder}.
+     *
+     * @param orderId the ID of the order
+     * @param patch   the merge patch document
+     * @param ifMatch the expected {@code ETag} of the order, if any
+     * @return the patched order, with its new version as its {@code ETag}
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Order> patchOrder(@PathVariable("id") Long orderId,
+                                            @RequestBody Map<String, Object> patch,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("Patching order with ID: {}", orderId);
+        Order patchedOrder = patchOrderUseCase.patchOrder(orderId, patch, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(patchedOrder.getVersion())).body(patchedOrder);
     }
 
     /**
@@ -74,24 +203,39 @@ public class OrderController {
     }
 
     /**
-     * Lists all orders.
+     * Retrieves several orders by ID in one request.
      *
-     * @return the list of orders
+     * @param orderIds the IDs of the orders, comma-separated or repeated
+     * @return the found order summaries in request order and the IDs without an order
+     */
+    @GetMapping(params = "ids")
+    public MultiGetResult<OrderSummary> retrieveOrders(@RequestParam("ids") List<Long> orderIds) {
+        log.info("Retrieving orders with IDs: {}", orderIds);
+        return retrieveOrdersUseCase.retrieveOrders(orderIds);
+    }
+
+    /**
+     * Lists orders one page at a time.
+     *
+     * @param cursor the opaque cursor returned with the previous page (optional)
+     * @param size   the maximum number of orders in the page
+     * @return the page of order summaries and the cursor of the next page
      */
     @GetMapping
-    public List<Order> listOrders() {
-        log.info("Listing all orders");
-        return listOrdersUseCase.listOrders();
+    public CursorPage<OrderSummary> listOrders(@RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "50") int size) {
+        log.info("Listing orders after cursor: {} with page size: {}", cursor, size);
+        return listOrdersUseCase.listOrders(cursor, size);
     }
 
     /**
      * Searches for orders based on status.
      *
      * @param status the status of the order
-     * @return the list of matching orders
+     * @return the summaries of the matching orders
      */
     @GetMapping("/search")
-    public List<Order> searchOrders(@RequestParam(required = false) OrderStatus status) {
+    public List<OrderSummary> searchOrders(@RequestParam(required = false) OrderStatus status) {
         log.info("Searching orders with status: {}", status);
         return searchOrdersUseCase.searchOrders(status);
     }
@@ -101,13 +245,28 @@ public class OrderController {
      *
      * @param status    the status of the order (optional)
      * @param productId the ID of the product associated with the order (optional)
-     * @return the list of matching orders
+     * @return the summaries of the matching orders
      */
     @GetMapping("/advanced-search")
-    public List<Order> advancedSearchOrders(
+    public List<OrderSummary> advancedSearchOrders(
             @RequestParam(required = false) OrderStatus status,
             @RequestParam(required = false) Long productId) {
         log.info("Performing advanced search with status: {} and productId: {}", status, productId);
         return advancedSearchOrdersUseCase.advancedSearchOrders(status, productId);
     }
+
+    /**
+     * Exports all orders as newline-delimited JSON.
+     * <p>
+     * Orders are written to the response one line at a time as they are read from the database,
+     * so neither the orders nor their JSON representation are ever held in memory all at once.
+     *
+     * @return the streaming response body
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportOrders() {
+        log.info("Exporting all orders");
+        return NdjsonResponseBody.of(objectMapper, exportOrdersUseCase::exportOrders);
+    }
+
 }
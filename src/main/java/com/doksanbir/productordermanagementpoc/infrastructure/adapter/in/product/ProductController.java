@@ -1,12 +1,32 @@
 package com.doksanbir.productordermanagementpoc.infrastructure.adapter.in.product;
 
 import com.doksanbir.productordermanagementpoc.application.port.in.product.*;
+import com.doksanbir.productordermanagementpoc.domain.CursorPage;
+import com.doksanbir.productordermanagementpoc.domain.MultiGetResult;
 import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportReport;
+import com.doksanbir.productordermanagementpoc.domain.ProductSummary;
+import com.doksanbir.productordermanagementpoc.shared.CsvRowParser;
+import com.doksanbir.productordermanagementpoc.shared.IfMatch;
+import com.doksanbir.productordermanagementpoc.shared.NdjsonResponseBody;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * REST controller for managing products.
@@ -17,13 +37,23 @@ import java.util.List;
 @Slf4j
 public class ProductController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final CreateProductUseCase createProductUseCase;
     private final RetrieveProductUseCase retrieveProductUseCase;
+    private final RetrieveProductsUseCase retrieveProductsUseCase;
     private final UpdateProductUseCase updateProductUseCase;
+    private final PatchProductUseCase patchProductUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
     private final ListProductsUseCase listProductsUseCase;
     private final AdjustStockUseCase adjustStockUseCase;
     private final SearchProductsUseCase searchProductsUseCase;
+    private final ExportProductsUseCase exportProductsUseCase;
+    private final ImportProductsUseCase importProductsUseCase;
+    private final ShardStockUseCase shardStockUseCase;
+    private final RetrieveStockUseCase retrieveStockUseCase;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new product.
@@ -38,27 +68,86 @@ public class ProductController {
     }
 
     /**
-     * Retrieves a product by ID.
+     * Imports a product catalog from CSV or newline-delimited JSON.
+     * <p>
+     * The body is read line by line while the products are loaded. CSV input must start with a
+     * header line naming the columns ({@code name}, {@code description}, {@code price},
+     * {@code stockQuantity}, {@code category}); fields may be quoted but must not span lines.
+     *
+     * @param contentType the content type of the body, {@code text/csv} or {@code application/x-ndjson}
+     * @param body        the request body
+     * @return the number of imported products and the rejected rows
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ProductImportReport importProducts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                              InputStream body) throws IOException {
+        log.info("Importing products from {}", contentType);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Function<String, Product> rowParser;
+            if (MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+                String header = reader.readLine();
+                if (header == null) {
+                    return new ProductImportReport(0, List.of());
+                }
+                CsvRowParser csvRowParser = new CsvRowParser(header);
+                rowParser = line -> toProduct(csvRowParser.parse(line));
+            } else {
+                rowParser = this::parseJsonProduct;
+            }
+            return importProductsUseCase.importProducts(reader.lines(), rowParser);
+        }
+    }
+
+    /**
+     * Retrieves a product by ID. The response carries the product's version as its {@code ETag}.
      *
      * @param productId the ID of the product
      * @return the retrieved product
      */
     @GetMapping("/{id}")
-    public Product getProduct(@PathVariable("id") Long productId) {
+    public ResponseEntity<Product> getProduct(@PathVariable("id") Long productId) {
         log.info("Retrieving product with ID: {}", productId);
-        return retrieveProductUseCase.retrieveProduct(productId);
+        Product product = retrieveProductUseCase.retrieveProduct(productId);
+        return ResponseEntity.ok().eTag(String.valueOf(product.getVersion())).body(product);
     }
 
     /**
      * Updates an existing product.
+     * <p>
+     * With an {@code If-Match} header holding the {@code ETag} of a previous read, the update is
+     * only applied if the product has not changed since, and is rejected with 412 otherwise. Without
+     * it, concurrent updates are retried and the last one wins.
      *
      * @param product the product with updated information
-     * @return the updated product
+     * @param ifMatch the expected {@code ETag} of the product, if any
+     * @return the updated product, with its new version as its {@code ETag}
      */
     @PutMapping
-    public Product updateProduct(@RequestBody Product product) {
+    public ResponseEntity<Product> updateProduct(@RequestBody Product product,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating product with ID: {}", product.getId());
-        return updateProductUseCase.updateProduct(product);
+        Product updatedProduct = updateProductUseCase.updateProduct(product, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(updatedProduct.getVersion())).body(updatedProduct);
+    }
+
+    /**
+     * Partially updates a product with a JSON Merge Patch ({@code application/merge-patch+json}):
+     * only the fields present in the patch are changed. {@code If-Match} is handled as for
+     * {@link #updateProduct}.
+     *
+     * @param productId the ID of the product
+     * @param patch     the merge patch document
+     * @param ifMatch   the expected {@code ETag} of the product, if any
+     * @return the patched product, with its new version as its {@code ETag}
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Product> patchProduct(@PathVariable("id") Long productId,
+                                                @RequestBody Map<String, Object> patch,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("Patching product with ID: {}", productId);
+        Product patchedProduct = patchProductUseCase.patchProduct(productId, patch, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(patchedProduct.getVersion())).body(patchedProduct);
     }
 
     /**
@@ -73,14 +162,29 @@ public class ProductController {
     }
 
     /**
-     * Lists all products.
+     * Retrieves several products by ID in one request.
+     *
+     * @param productIds the IDs of the products, comma-separated or repeated
+     * @return the found products in request order and the IDs without a product
+     */
+    @GetMapping(params = "ids")
+    public MultiGetResult<Product> retrieveProducts(@RequestParam("ids") List<Long> productIds) {
+        log.info("Retrieving products with IDs: {}", productIds);
+        return retrieveProductsUseCase.retrieveProducts(productIds);
+    }
+
+    /**
+     * Lists products one page at a time.
      *
-     * @return the list of products
+     * @param cursor the opaque cursor returned with the previous page (optional)
+     * @param size   the maximum number of products in the page
+     * @return the page of product summaries and the cursor of the next page
      */
     @GetMapping
-    public List<Product> listProducts() {
-        log.info("Listing all products");
-        return listProductsUseCase.listProducts();
+    public CursorPage<ProductSummary> listProducts(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "50") int size) {
+        log.info("Listing products after cursor: {} with page size: {}", cursor, size);
+        return listProductsUseCase.listProducts(cursor, size);
     }
 
     /**
@@ -95,17 +199,88 @@ public class ProductController {
         adjustStockUseCase.adjustStock(productId, quantity);
     }
 
+    /**
+     * Retrieves the current stock of a product, including buffered adjustments not yet written.
+     *
+     * @param productId the ID of the product
+     * @return the stock quantity
+     */
+    @GetMapping("/{id}/stock")
+    public int getStock(@PathVariable("id") Long productId) {
+        log.info("Retrieving stock for product ID: {}", productId);
+        return retrieveStockUseCase.retrieveStock(productId);
+    }
+
+    /**
+     * Spreads the stock of a product over a number of bucket rows, or merges it back with zero.
+     *
+     * @param productId the ID of the product
+     * @param count     the number of buckets
+     * @return the stock quantity of the product
+     */
+    @PutMapping("/{id}/stock-buckets")
+    public int shardStock(@PathVariable("id") Long productId, @RequestParam int count) {
+        log.info("Sharding stock of product ID: {} over {} buckets", productId, count);
+        return shardStockUseCase.shardStock(productId, count);
+    }
+
     /**
      * Searches for products based on name and category.
      *
      * @param name     the name of the product
      * @param category the category of the product
-     * @return the list of matching products
+     * @return the summaries of the matching products
      */
     @GetMapping("/search")
-    public List<Product> searchProducts(@RequestParam(required = false) String name,
-                                        @RequestParam(required = false) String category) {
+    public List<ProductSummary> searchProducts(@RequestParam(required = false) String name,
+                                               @RequestParam(required = false) String category) {
         log.info("Searching products with name: {} and category: {}", name, category);
         return searchProductsUseCase.searchProducts(name, category);
     }
+
+    /**
+     * Exports all products as newline-delimited JSON.
+     * <p>
+     * Products are written to the response one line at a time as they are read from the database,
+     * so neither the products nor their JSON representation are ever held in memory all at once.
+     *
+     * @return the streaming response body
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportProducts() {
+        log.info("Exporting all products");
+        return NdjsonResponseBody.of(objectMapper, exportProductsUseCase::exportProducts);
+    }
+
+    /**
+     * Parses one NDJSON line into a product.
+     *
+     * @param line the JSON line
+     * @return the product
+     */
+    private Product parseJsonProduct(String line) {
+        try {
+            return objectMapper.readValue(line, Product.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Maps one parsed CSV row onto a product.
+     *
+     * @param values the fields of the row keyed by their column names
+     * @return the product
+     */
+    private Product toProduct(Map<String, String> values) {
+        Product product = new Product();
+        product.setName(values.get("name"));
+        product.setDescription(values.get("description"));
+        product.setCategory(values.get("category"));
+        String price = values.get("price");
+        product.setPrice(price == null || price.isBlank() ? null : Double.valueOf(price.trim()));
+        String stockQuantity = values.get("stockQuantity");
+        product.setStockQuantity(stockQuantity == null || stockQuantity.isBlank() ? null : Integer.valueOf(stockQuantity.trim()));
+        return product;
+    }
 }
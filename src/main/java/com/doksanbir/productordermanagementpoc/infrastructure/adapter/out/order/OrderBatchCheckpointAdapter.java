@@ -0,0 +1,64 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.order;
+
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderBatchCheckpointPort;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Adapter implementation for the order batch checkpoints, stored in the
+ * {@code order_batch_checkpoints} table with plain JDBC.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderBatchCheckpointAdapter implements OrderBatchCheckpointPort {
+
+    private static final String FIND_CHECKPOINT_SQL =
+            "SELECT last_order_id FROM order_batch_checkpoints WHERE status = ?";
+    private static final String SAVE_CHECKPOINT_SQL = """
+            INSERT INTO order_batch_checkpoints (status, last_order_id, updated_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (status) DO UPDATE
+            SET last_order_id = excluded.last_order_id, updated_at = excluded.updated_at""";
+    private static final String CLEAR_CHECKPOINT_SQL =
+            "DELETE FROM order_batch_checkpoints WHERE status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds the checkpoint of a status.
+     *
+     * @param status the status being drained
+     * @return an optional containing the highest processed order ID, or empty if no drain is in progress
+     */
+    @Override
+    public Optional<Long> findCheckpoint(OrderStatus status) {
+        return jdbcTemplate.query(FIND_CHECKPOINT_SQL, (resultSet, rowNum) -> resultSet.getLong(1), status.name())
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Inserts or updates the checkpoint of a status with a single upsert.
+     *
+     * @param status      the status being drained
+     * @param lastOrderId the highest processed order ID
+     */
+    @Override
+    public void saveCheckpoint(OrderStatus status, Long lastOrderId) {
+        jdbcTemplate.update(SAVE_CHECKPOINT_SQL, status.name(), lastOrderId);
+    }
+
+    /**
+     * Deletes the checkpoint of a status.
+     *
+     * @param status the drained status
+     */
+    @Override
+    public void clearCheckpoint(OrderStatus status) {
+        jdbcTemplate.update(CLEAR_CHECKPOINT_SQL, status.name());
+    }
+}
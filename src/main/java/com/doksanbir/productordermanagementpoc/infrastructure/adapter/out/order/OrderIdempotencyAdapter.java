@@ -0,0 +1,65 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.order;
+
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderIdempotencyPort;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, time-evicting store of the orders created under an idempotency key.
+ * <p>
+ * Each key maps to the future of a snapshot of its order. The first caller registers the future
+ * and creates the order on its own thread; concurrent callers with the same key find the future
+ * and wait for it. The snapshot is taken when the order is created and never handed out: every
+ * replay receives its own copy, so later changes of a returned order never leak into other
+ * replays. Futures that complete exceptionally are dropped by the cache, so a failed creation
+ * can be retried. Keys are evicted after {@code orders.idempotency.time-to-live}, or earlier
+ * once more than {@code orders.idempotency.cache.maximum-size} keys are held.
+ */
+@Repository
+public class OrderIdempotencyAdapter implements OrderIdempotencyPort {
+
+    private final AsyncCache<String, Order> orders;
+
+    public OrderIdempotencyAdapter(@Value("${orders.idempotency.cache.maximum-size:100000}") long maximumSize,
+                                   @Value("${orders.idempotency.time-to-live:PT24H}") Duration timeToLive) {
+        this.orders = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .buildAsync();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Order computeIfAbsent(String idempotencyKey, Supplier<Order> creator) {
+        CompletableFuture<Order> created = new CompletableFuture<>();
+        CompletableFuture<Order> existing = orders.asMap().putIfAbsent(idempotencyKey, created);
+        if (existing != null) {
+            try {
+                return existing.join().copy();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            Order order = creator.get();
+            created.complete(order.copy());
+            return order;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
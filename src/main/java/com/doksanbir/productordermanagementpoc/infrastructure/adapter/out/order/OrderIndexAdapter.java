@@ -0,0 +1,194 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.order;
+
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderIndexPort;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory order query engine backed by compressed bitmap indexes.
+ * <p>
+ * Each {@link OrderStatus} and each product ID maps to a {@link Roaring64Bitmap} of the IDs of the
+ * matching orders. A combined filter is answered by intersecting at most two bitmaps, and the
+ * summaries of the result are read from a map keyed by order ID, in ascending ID order.
+ * <p>
+ * Readers share a read lock; writers take the write lock for the few bitmap updates of one order.
+ */
+@Repository
+@Slf4j
+public class OrderIndexAdapter implements OrderIndexPort {
+
+    private final Map<Long, OrderSummary> orders = new HashMap<>();
+    private final Map<OrderStatus, Roaring64Bitmap> byStatus = new EnumMap<>(OrderStatus.class);
+    private final Map<Long, Roaring64Bitmap> byProduct = new HashMap<>();
+    private final Roaring64Bitmap all = new Roaring64Bitmap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Set<Long> writtenDuringRebuild;
+    private volatile boolean ready;
+
+    /**
+     * {@inheritDoc}
+     * The index is not ready, and searches should not use it, until the rebuild has completed.
+     */
+    @Override
+    public void rebuild(Stream<OrderSummary> summaries) {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            orders.clear();
+            byStatus.clear();
+            byProduct.clear();
+            all.clear();
+            writtenDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            summaries.forEach(order -> {
+                lock.writeLock().lock();
+                try {
+                    if (!writtenDuringRebuild.contains(order.id())) {
+                        index(order);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                writtenDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            byStatus.values().forEach(Roaring64Bitmap::runOptimize);
+            byProduct.values().forEach(Roaring64Bitmap::runOptimize);
+            all.runOptimize();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Order index built with {} orders and {} products", orders.size(), byProduct.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(OrderSummary order) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.add(order.id());
+            }
+            unindex(order.id());
+            index(order);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(Long orderId) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.add(orderId);
+            }
+            unindex(orderId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<OrderSummary> search(OrderStatus status, Long productId) {
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap matches = all;
+            if (status != null) {
+                matches = byStatus.getOrDefault(status, new Roaring64Bitmap());
+            }
+            if (productId != null) {
+                Roaring64Bitmap productMatches = byProduct.getOrDefault(productId, new Roaring64Bitmap());
+                if (status == null) {
+                    matches = productMatches;
+                } else {
+                    matches = matches.clone();
+                    matches.and(productMatches);
+                }
+            }
+            List<OrderSummary> result = new ArrayList<>((int) matches.getLongCardinality());
+            LongIterator iterator = matches.getLongIterator();
+            while (iterator.hasNext()) {
+                result.add(orders.get(iterator.next()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds an order to the map and bitmaps; the caller holds the write lock.
+     */
+    private void index(OrderSummary order) {
+        orders.put(order.id(), order);
+        all.addLong(order.id());
+        byStatus.computeIfAbsent(order.status(), status -> new Roaring64Bitmap()).addLong(order.id());
+        byProduct.computeIfAbsent(order.productId(), productId -> new Roaring64Bitmap()).addLong(order.id());
+    }
+
+    /**
+     * Removes an order from the map and bitmaps; the caller holds the write lock.
+     */
+    private void unindex(Long orderId) {
+        OrderSummary previous = orders.remove(orderId);
+        if (previous == null) {
+            return;
+        }
+        all.removeLong(orderId);
+        removeFrom(byStatus, previous.status(), orderId);
+        removeFrom(byProduct, previous.productId(), orderId);
+    }
+
+    private static <K> void removeFrom(Map<K, Roaring64Bitmap> bitmaps, K key, Long orderId) {
+        Roaring64Bitmap bitmap = bitmaps.get(key);
+        bitmap.removeLong(orderId);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+}
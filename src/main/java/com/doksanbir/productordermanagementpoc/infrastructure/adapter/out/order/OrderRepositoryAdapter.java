@@ -3,56 +3,478 @@ package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.order
 import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderRepositoryPort;
 import com.doksanbir.productordermanagementpoc.domain.Order;
 import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
 import com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.order.persistence.OrderJpaRepository;
+import com.doksanbir.productordermanagementpoc.shared.SingleFlight;
+import com.doksanbir.productordermanagementpoc.shared.TransactionHooks;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Adapter implementation for order repository using Spring Data JPA.
  * <p>
  * This class implements the {@link OrderRepositoryPort} interface and provides
  * an adapter for interacting with the underlying database using Spring Data JPA.
+ * <p>
+ * Saves are version-checked; every save rejected because the order was updated concurrently is
+ * counted in the {@code entity.version.conflicts} metric tagged {@code entity=order}. Set-based
+ * updates increment the version of every row they change.
+ * <p>
+ * Concurrent lookups of the same order by ID are coalesced into one query. Every write captures the
+ * lookups in flight for the orders it changed once its statements ran, and forgets them when its
+ * transaction completes, so callers arriving after the commit never join a lookup that may have read
+ * the previous state, while lookups started after the write keep coalescing. Only callers that
+ * joined a captured lookup in the short window between the commit and the moment it is forgotten
+ * may still see the previous state.
  */
 @Repository
 @RequiredArgsConstructor
 public class OrderRepositoryAdapter implements OrderRepositoryPort {
 
+    private static final String PLACE_ORDERS_BATCH_SQL = """
+            INSERT INTO orders (product_id, quantity, status, created_at, updated_at, stock_reserved)
+            SELECT ?, ?, ?, ?, ?, TRUE
+            WHERE adjust_stock(?, ?) IS NOT NULL""";
+    private static final String PLACE_ORDER_SQL = """
+            INSERT INTO orders (product_id, quantity, status, created_at, updated_at, stock_reserved)
+            SELECT ?, ?, ?, ?, ?, TRUE
+            WHERE adjust_stock(?, ?) IS NOT NULL
+            RETURNING id""";
+    private static final String PLACE_ORDER_WITH_IDEMPOTENCY_KEY_SQL = """
+            WITH placed AS (
+                INSERT INTO orders (product_id, quantity, status, created_at, updated_at, stock_reserved)
+                SELECT ?, ?, ?, ?, ?, TRUE
+                WHERE adjust_stock(?, ?) IS NOT NULL
+                RETURNING id, created_at)
+            INSERT INTO order_idempotency_keys (idempotency_key, order_id, created_at)
+            SELECT ?, id, created_at FROM placed
+            RETURNING order_id""";
+    private static final String ADJUST_STOCK_SQL = "SELECT adjust_stock(?, ?)";
+    private static final String FIND_ORDER_ID_BY_IDEMPOTENCY_KEY_SQL =
+            "SELECT order_id FROM order_idempotency_keys WHERE idempotency_key = ?";
+    private static final String DELETE_IDEMPOTENCY_KEYS_BEFORE_SQL =
+            "DELETE FROM order_idempotency_keys WHERE created_at < ?";
+    private static final String TRANSITION_STATUS_SQL = """
+            UPDATE orders
+            SET status = ?, updated_at = now(), version = version + 1
+            WHERE status = ? AND id > ? AND id <= ?
+            RETURNING id, product_id, quantity, status, created_at, updated_at""";
+    private static final String TRANSITION_STATUS_BY_IDS_SQL = """
+            UPDATE orders
+            SET status = ?, updated_at = now(), version = version + 1
+            WHERE id = ANY (?) AND status = ANY (?)
+            RETURNING id, product_id, quantity, status, created_at, updated_at""";
+    /**
+     * Gives back the reservations of the orders in the {@code changed} CTE that still held them
+     * before the change, following {@link OrderStatus#holdsReservation()}.
+     */
+    private static final String RELEASE_RESERVATIONS_SQL = """
+            SELECT id, product_id, quantity, status, created_at, updated_at,
+                   CASE WHEN stock_reserved AND previous_status IN ('PENDING', 'CONFIRMED')
+                        THEN adjust_stock(product_id, quantity) END AS released_stock
+            FROM changed""";
+    private static final String CANCEL_ORDERS_SQL = """
+            WITH target AS (
+                SELECT id, status
+                FROM orders
+                WHERE id = ANY (?) AND status = ANY (?)
+                FOR UPDATE),
+            changed AS (
+                UPDATE orders
+                SET status = 'CANCELLED', updated_at = now(), version = orders.version + 1
+                FROM target
+                WHERE orders.id = target.id
+                RETURNING orders.id, orders.product_id, orders.quantity, orders.status, orders.created_at,
+                          orders.updated_at, orders.stock_reserved, target.status AS previous_status)
+            """ + RELEASE_RESERVATIONS_SQL;
+    private static final String DELETE_ORDERS_SQL = """
+            WITH changed AS (
+                DELETE FROM orders
+                WHERE id IN (%s)
+                RETURNING id, product_id, quantity, status, created_at, updated_at, stock_reserved,
+                          status AS previous_status)
+            """ + RELEASE_RESERVATIONS_SQL;
+    private static final String FIND_SUMMARIES_BY_IDS_SQL = """
+            SELECT id, product_id, quantity, status, created_at, updated_at
+            FROM orders
+            WHERE id = ANY (?)
+            ORDER BY id""";
+    private static final RowMapper<OrderSummary> SUMMARY_ROW_MAPPER = (resultSet, rowNum) -> new OrderSummary(
+            resultSet.getLong("id"),
+            resultSet.getLong("product_id"),
+            resultSet.getInt("quantity"),
+            OrderStatus.valueOf(resultSet.getString("status")),
+            resultSet.getObject("created_at", LocalDateTime.class),
+            resultSet.getObject("updated_at", LocalDateTime.class));
+
     private final OrderJpaRepository orderJpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("orderLookupSingleFlight")
+    private final SingleFlight<Long, Optional<Order>> orderLookupSingleFlight;
 
     /**
      * Saves an order to the database.
      *
      * @param order the order to save
      * @return the saved order
+     * @throws OptimisticLockingFailureException if the order was updated since it was read
      */
     @Override
     public Order save(Order order) {
-        return orderJpaRepository.save(order);
+        try {
+            Order saved = orderJpaRepository.save(order);
+            forgetLookups(List.of(saved.getId()));
+            return saved;
+        } catch (OptimisticLockingFailureException e) {
+            countConflict();
+            throw e;
+        }
+    }
+
+    /**
+     * Saves an order holding a stock reservation and moves the reservation with the {@code adjust_stock}
+     * routine in the same transaction.
+     * <p>
+     * For an unchanged product only the difference in quantity is adjusted. For a new product, its
+     * quantity is taken from the new product first, so an insufficient stock leaves everything
+     * untouched, and then the previously reserved quantity is given back. The save is flushed
+     * within the transaction, so a version conflict also rolls back the stock adjustments.
+     *
+     * @param order             the order to save
+     * @param reservedProductId the ID of the product the reservation is currently taken from
+     * @param reservedQuantity  the currently reserved quantity
+     * @return an optional containing the saved order, or empty if the product of the order has insufficient stock
+     * @throws OptimisticLockingFailureException if the order was updated since it was read
+     */
+    @Override
+    @Transactional
+    public Optional<Order> saveReserved(Order order, Long reservedProductId, int reservedQuantity) {
+        Long productId = order.getProduct().getId();
+        if (productId.equals(reservedProductId)) {
+            int delta = reservedQuantity - order.getQuantity();
+            if (delta != 0 && !adjustStock(productId, delta)) {
+                return Optional.empty();
+            }
+        } else {
+            if (!adjustStock(productId, -order.getQuantity())) {
+                return Optional.empty();
+            }
+            adjustStock(reservedProductId, reservedQuantity);
+        }
+        try {
+            Order saved = orderJpaRepository.saveAndFlush(order);
+            forgetLookups(List.of(saved.getId()));
+            return Optional.of(saved);
+        } catch (OptimisticLockingFailureException e) {
+            countConflict();
+            throw e;
+        }
+    }
+
+    private boolean adjustStock(Long productId, int delta) {
+        return jdbcTemplate.queryForObject(ADJUST_STOCK_SQL, Integer.class, productId, delta) != null;
+    }
+
+    /**
+     * Places new orders with one JDBC batch in a single transaction.
+     * <p>
+     * Every statement of the batch is the guarded insert of {@link #placeOrder(Order)}, so each order
+     * reserves its quantity and an order whose product has insufficient stock inserts nothing. The
+     * orders are sent in product order, so that concurrent batches lock the products they reserve
+     * from in the same order. The {@code IDENTITY} ID generation keeps Hibernate from batching
+     * inserts, so the batch is issued over plain JDBC and the generated IDs are read back from the
+     * statement's generated keys, one per inserted order.
+     *
+     * @param orders the orders to place
+     * @return the placed orders, with their IDs and audit timestamps set
+     */
+    @Override
+    @Transactional
+    public List<Order> placeAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Order> byProduct = orders.stream()
+                .sorted(Comparator.comparing(order -> order.getProduct().getId()))
+                .toList();
+        return jdbcTemplate.execute((ConnectionCallback<List<Order>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(PLACE_ORDERS_BATCH_SQL, new String[]{"id"})) {
+                for (Order order : byProduct) {
+                    order.prePersist();
+                    Long productId = order.getProduct().getId();
+                    statement.setLong(1, productId);
+                    statement.setInt(2, order.getQuantity());
+                    statement.setString(3, order.getStatus().name());
+                    statement.setObject(4, order.getCreatedAt());
+                    statement.setObject(5, order.getUpdatedAt());
+                    statement.setLong(6, productId);
+                    statement.setInt(7, -order.getQuantity());
+                    statement.addBatch();
+                }
+                int[] insertCounts = statement.executeBatch();
+                List<Order> placedOrders = new ArrayList<>();
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    for (int i = 0; i < byProduct.size(); i++) {
+                        if (insertCounts[i] > 0) {
+                            generatedKeys.next();
+                            placedOrders.add(markPlaced(byProduct.get(i), generatedKeys.getLong(1)));
+                        }
+                    }
+                }
+                return placedOrders;
+            }
+        });
+    }
+
+    /**
+     * Places an order with a single statement: the order is inserted only if the {@code adjust_stock}
+     * routine could remove its quantity from the stock of the product, and both changes commit or
+     * roll back together.
+     * <p>
+     * The routine's guarded update locks the product row, or one stock bucket of a sharded product,
+     * and re-evaluates the guard against the latest committed stock, so a hot product is never
+     * oversold however many placements race for it.
+     *
+     * @param order the order to place
+     * @return an optional containing the placed order with its ID and audit timestamps set,
+     * or empty if the product does not exist or has insufficient stock
+     */
+    @Override
+    public Optional<Order> placeOrder(Order order) {
+        order.prePersist();
+        int quantity = order.getQuantity();
+        Long productId = order.getProduct().getId();
+        return placed(order, jdbcTemplate.query(PLACE_ORDER_SQL, (resultSet, rowNum) -> resultSet.getLong(1),
+                productId, quantity, order.getStatus().name(), order.getCreatedAt(), order.getUpdatedAt(),
+                productId, -quantity));
+    }
+
+    /**
+     * Places an order and records its idempotency key with a single statement: the key is only
+     * inserted if the order was, and a key that already exists fails the whole statement, so the
+     * stock adjustment and the order insert are rolled back with it.
+     *
+     * @param order          the order to place
+     * @param idempotencyKey the idempotency key of the request
+     * @return an optional containing the placed order, or empty if the product does not exist or
+     * has insufficient stock
+     */
+    @Override
+    public Optional<Order> placeOrder(Order order, String idempotencyKey) {
+        order.prePersist();
+        int quantity = order.getQuantity();
+        Long productId = order.getProduct().getId();
+        return placed(order, jdbcTemplate.query(PLACE_ORDER_WITH_IDEMPOTENCY_KEY_SQL,
+                (resultSet, rowNum) -> resultSet.getLong(1),
+                productId, quantity, order.getStatus().name(), order.getCreatedAt(), order.getUpdatedAt(),
+                productId, -quantity, idempotencyKey));
+    }
+
+    private static Optional<Order> placed(Order order, List<Long> ids) {
+        return ids.stream().findFirst().map(id -> markPlaced(order, id));
+    }
+
+    private static Order markPlaced(Order order, long id) {
+        order.setId(id);
+        order.setVersion(0L);
+        order.setStockReserved(true);
+        return order;
+    }
+
+    /**
+     * Finds the ID of the order placed under an idempotency key.
+     *
+     * @param idempotencyKey the idempotency key
+     * @return an optional containing the ID of the order if the key is known
+     */
+    @Override
+    public Optional<Long> findOrderIdByIdempotencyKey(String idempotencyKey) {
+        return jdbcTemplate.queryForList(FIND_ORDER_ID_BY_IDEMPOTENCY_KEY_SQL, Long.class, idempotencyKey)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Deletes the idempotency keys recorded before a point in time.
+     *
+     * @param before the exclusive upper bound of the recording time
+     * @return the number of deleted keys
+     */
+    @Override
+    public int deleteIdempotencyKeysBefore(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_IDEMPOTENCY_KEYS_BEFORE_SQL, before);
+    }
+
+    /**
+     * Saves the given orders to the database.
+     *
+     * @param orders the orders to save
+     * @return the saved orders
+     * @throws OptimisticLockingFailureException if one of the orders was updated since it was read
+     */
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        try {
+            List<Order> saved = orderJpaRepository.saveAll(orders);
+            forgetLookups(saved.stream().map(Order::getId).toList());
+            return saved;
+        } catch (OptimisticLockingFailureException e) {
+            countConflict();
+            throw e;
+        }
     }
 
     /**
      * Finds an order by its ID.
+     * <p>
+     * Outside a transaction, concurrent lookups of the same order share one query, and every caller
+     * receives its own detached copy of the result, which is merged when saved. Within a
+     * transaction, the order is read through the persistence context of that transaction.
      *
      * @param orderId the ID of the order
      * @return an optional containing the order if found
      */
     @Override
     public Optional<Order> findById(Long orderId) {
-        return orderJpaRepository.findById(orderId);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return orderJpaRepository.findById(orderId);
+        }
+        return orderLookupSingleFlight
+                .load(orderId, () -> orderJpaRepository.findById(orderId).map(Order::copy))
+                .map(Order::copy);
     }
 
     /**
-     * Deletes an order by its ID.
+     * Orders the summaries of the orders changed by a set-based statement by ID and forgets the
+     * lookups in flight for them.
+     */
+    private List<OrderSummary> changed(List<OrderSummary> summaries) {
+        summaries.sort(Comparator.comparing(OrderSummary::id));
+        forgetLookups(summaries.stream().map(OrderSummary::id).toList());
+        return summaries;
+    }
+
+    /**
+     * Captures the lookups in flight for the given orders and forgets them once the current
+     * transaction has completed, or right away without a transaction, so later lookups read the
+     * written state.
+     */
+    private void forgetLookups(Collection<Long> orderIds) {
+        List<Runnable> forgets = orderIds.stream().map(orderLookupSingleFlight::forgetting).toList();
+        TransactionHooks.afterCompletion(() -> forgets.forEach(Runnable::run));
+    }
+
+    /**
+     * Deletes an order with a single statement, which also gives back the stock reserved by an
+     * order that still holds its reservation, under the same rule as cancellations.
      *
      * @param orderId the ID of the order to delete
+     * @return the summary of the deleted order, or empty if the order does not exist
      */
     @Override
-    public void deleteById(Long orderId) {
-        orderJpaRepository.deleteById(orderId);
+    public Optional<OrderSummary> deleteById(Long orderId) {
+        List<OrderSummary> deleted = jdbcTemplate.query(DELETE_ORDERS_SQL.formatted("?"), SUMMARY_ROW_MAPPER, orderId);
+        forgetLookups(List.of(orderId));
+        return deleted.stream().findFirst();
+    }
+
+    /**
+     * Counts the matching orders with a single {@code count(*)} over the order query indexes.
+     *
+     * @param status        the status of the orders
+     * @param productId     the ID of the product of the orders
+     * @param createdBefore the exclusive upper bound of the creation time of the orders
+     * @return the number of matching orders
+     */
+    @Override
+    public long countOrders(OrderStatus status, Long productId, LocalDateTime createdBefore) {
+        List<Object> parameters = new ArrayList<>();
+        String where = filterClause(status, productId, createdBefore, null, parameters);
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM orders WHERE " + where, Long.class,
+                parameters.toArray());
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Deletes a chunk of matching orders with a single {@code DELETE ... RETURNING}.
+     * <p>
+     * The chunk is selected by ID from {@code afterId} on, so successive chunks continue where the
+     * previous one ended instead of rescanning the rows it deleted, and with
+     * {@code FOR UPDATE SKIP LOCKED}, so the delete never waits for an order another transaction
+     * is changing. The statement commits on its own, which keeps the row locks of a chunk short.
+     *
+     * @param status        the status of the orders
+     * @param productId     the ID of the product of the orders
+     * @param createdBefore the exclusive upper bound of the creation time of the orders
+     * @param afterId       the ID after which to delete, or {@code null} to start from the first order
+     * @param limit         the maximum number of orders to delete
+     * @return the summaries of the deleted orders, ordered by ID
+     */
+    @Override
+    public List<OrderSummary> deleteOrders(OrderStatus status, Long productId, LocalDateTime createdBefore,
+                                           Long afterId, int limit) {
+        List<Object> parameters = new ArrayList<>();
+        String where = filterClause(status, productId, createdBefore, afterId, parameters);
+        parameters.add(limit);
+        String chunk = "SELECT id FROM orders WHERE " + where + " ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+        List<OrderSummary> summaries = jdbcTemplate.query(DELETE_ORDERS_SQL.formatted(chunk), SUMMARY_ROW_MAPPER,
+                parameters.toArray());
+        return changed(summaries);
+    }
+
+    /**
+     * Builds the {@code WHERE} condition of the given order filters and collects its parameters;
+     * {@code null} filters are left out.
+     */
+    private static String filterClause(OrderStatus status, Long productId, LocalDateTime createdBefore,
+                                       Long afterId, List<Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+        if (status != null) {
+            conditions.add("status = ?");
+            parameters.add(status.name());
+        }
+        if (productId != null) {
+            conditions.add("product_id = ?");
+            parameters.add(productId);
+        }
+        if (createdBefore != null) {
+            conditions.add("created_at < ?");
+            parameters.add(createdBefore);
+        }
+        if (afterId != null) {
+            conditions.add("id > ?");
+            parameters.add(afterId);
+        }
+        return conditions.isEmpty() ? "TRUE" : String.join(" AND ", conditions);
     }
 
     /**
@@ -65,6 +487,139 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
         return orderJpaRepository.findAll();
     }
 
+    /**
+     * Retrieves a page of order summaries whose ID is greater than the given one, ordered by ID.
+     *
+     * @param afterId the ID after which the page starts, or {@code null} for the first page
+     * @param limit   the maximum number of orders to return
+     * @return a list of order summaries ordered by ID
+     */
+    @Override
+    public List<OrderSummary> findSummaryPageAfter(Long afterId, int limit) {
+        return orderJpaRepository.findSummariesByIdGreaterThan(afterId == null ? 0L : afterId, Limit.of(limit));
+    }
+
+    /**
+     * Finds the IDs of orders with the given status after the given ID, ordered by ID.
+     *
+     * @param status  the status of the orders
+     * @param afterId the ID after which the IDs start, or {@code null} to start from the first order
+     * @param limit   the maximum number of IDs to return
+     * @return a list of order IDs ordered by ID
+     */
+    @Override
+    public List<Long> findIdsByStatusAfter(OrderStatus status, Long afterId, int limit) {
+        return orderJpaRepository.findIdsByStatusAndIdGreaterThan(status, afterId == null ? 0L : afterId, Limit.of(limit));
+    }
+
+    /**
+     * Moves the orders of an ID range from one status to another with a single
+     * {@code UPDATE ... RETURNING}, which reads the summaries of the updated rows in the same statement.
+     * <p>
+     * The status condition is re-evaluated against the latest committed row, so an order changed
+     * concurrently to another status is left alone.
+     *
+     * @param from    the current status of the orders to move
+     * @param to      the new status
+     * @param afterId the exclusive lower bound of the ID range, or {@code null} for no lower bound
+     * @param upToId  the inclusive upper bound of the ID range
+     * @return the summaries of the updated orders, ordered by ID
+     */
+    @Override
+    public List<OrderSummary> transitionStatus(OrderStatus from, OrderStatus to, Long afterId, Long upToId) {
+        List<OrderSummary> summaries = jdbcTemplate.query(TRANSITION_STATUS_SQL, SUMMARY_ROW_MAPPER,
+                to.name(), from.name(), afterId == null ? 0L : afterId, upToId);
+        return changed(summaries);
+    }
+
+    /**
+     * Moves the given orders to a new status with a single {@code UPDATE ... RETURNING}.
+     * <p>
+     * The IDs and the allowed statuses are bound as two array parameters, so the statement has the
+     * same shape and the same number of parameters however many orders it moves. The status
+     * condition is re-evaluated against the latest committed row, so an order changed concurrently
+     * to a status that does not allow the transition is left alone.
+     *
+     * @param orderIds the IDs of the orders to move
+     * @param from     the statuses the orders may currently have
+     * @param to       the new status
+     * @return the summaries of the updated orders, ordered by ID
+     */
+    @Override
+    public List<OrderSummary> transitionStatus(Collection<Long> orderIds, Set<OrderStatus> from, OrderStatus to) {
+        if (orderIds.isEmpty() || from.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<OrderSummary> summaries = jdbcTemplate.query(TRANSITION_STATUS_BY_IDS_SQL, statement -> {
+            statement.setString(1, to.name());
+            statement.setArray(2, statement.getConnection().createArrayOf("bigint", orderIds.toArray()));
+            statement.setArray(3, statement.getConnection().createArrayOf("varchar",
+                    from.stream().map(OrderStatus::name).toArray()));
+        }, SUMMARY_ROW_MAPPER);
+        return changed(summaries);
+    }
+
+    /**
+     * Cancels the given orders and releases their stock reservations with a single statement.
+     * <p>
+     * The update returns the orders it cancelled together with their reservation flag and
+     * previous status, and the {@code adjust_stock} routine is called for each one that still held
+     * its reservation in the same statement, so the cancellation and the release commit together. The flag is left set: a cancelled order can
+     * never be cancelled again, so its quantity is given back exactly once.
+     *
+     * @param orderIds the IDs of the orders to cancel
+     * @param from     the statuses the orders may currently have
+     * @return the summaries of the cancelled orders, ordered by ID
+     */
+    @Override
+    public List<OrderSummary> cancelOrders(Collection<Long> orderIds, Set<OrderStatus> from) {
+        if (orderIds.isEmpty() || from.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<OrderSummary> summaries = jdbcTemplate.query(CANCEL_ORDERS_SQL, statement -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("bigint", orderIds.toArray()));
+            statement.setArray(2, statement.getConnection().createArrayOf("varchar",
+                    from.stream().map(OrderStatus::name).toArray()));
+        }, SUMMARY_ROW_MAPPER);
+        return changed(summaries);
+    }
+
+    /**
+     * Streams all orders ordered by ID, detaching each order and its product from the
+     * persistence context so that it does not grow with the number of rows read.
+     *
+     * @return a stream of detached orders
+     */
+    @Override
+    public Stream<Order> streamAll() {
+        return orderJpaRepository.streamAllByOrderById()
+                .peek(order -> {
+                    entityManager.detach(order);
+                    entityManager.detach(order.getProduct());
+                });
+    }
+
+    /**
+     * Streams the summaries of all orders ordered by ID. Summaries are not managed entities,
+     * so the persistence context does not grow with the number of rows read.
+     *
+     * @return a stream of order summaries
+     */
+    @Override
+    public Stream<OrderSummary> streamSummaries() {
+        return orderJpaRepository.streamSummaries();
+    }
+
+    /**
+     * Streams the summaries of the pending orders holding a stock reservation, ordered by ID.
+     *
+     * @return a stream of order summaries
+     */
+    @Override
+    public Stream<OrderSummary> streamReservedPendingSummaries() {
+        return orderJpaRepository.streamReservedPendingSummaries();
+    }
+
     /**
      * Searches orders by their status.
      *
@@ -86,4 +641,51 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
     public List<Order> findAll(Specification<Order> specification) {
         return orderJpaRepository.findAll(specification);
     }
-}
\ No newline at end of file
+
+    /**
+     * Finds the summaries of the orders matching a specification with a constructor projection,
+     * so only the summary columns are selected and no entity is materialized.
+     *
+     * @param specification the specification to filter orders
+     * @return a list of matching order summaries ordered by ID
+     */
+    @Override
+    public List<OrderSummary> findSummaries(Specification<Order> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrderSummary> query = criteriaBuilder.createQuery(OrderSummary.class);
+        Root<Order> order = query.from(Order.class);
+        query.select(criteriaBuilder.construct(OrderSummary.class,
+                order.get("id"),
+                order.get("product").get("id"),
+                order.get("quantity"),
+                order.get("status"),
+                order.get("createdAt"),
+                order.get("updatedAt")));
+        Predicate predicate = specification.toPredicate(order, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(criteriaBuilder.asc(order.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Finds the summaries of the orders with the given IDs in one statement, binding the IDs
+     * as a single array parameter.
+     *
+     * @param orderIds the IDs of the orders
+     * @return a list of order summaries ordered by ID
+     */
+    @Override
+    public List<OrderSummary> findSummariesByIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return jdbcTemplate.query(FIND_SUMMARIES_BY_IDS_SQL, statement -> statement.setArray(1,
+                statement.getConnection().createArrayOf("bigint", orderIds.toArray())), SUMMARY_ROW_MAPPER);
+    }
+
+    private void countConflict() {
+        meterRegistry.counter("entity.version.conflicts", "entity", "order").increment();
+    }
+}
@@ -0,0 +1,47 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.order;
+
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderReservationExpiryPort;
+import com.doksanbir.productordermanagementpoc.shared.HashedTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory reservation expiry tracker backed by a {@link HashedTimingWheel}.
+ * <p>
+ * Scheduling a reservation and expiring it cost O(1) each, and no timer or thread is created per
+ * reservation, so millions of live reservations cost two {@code long}s each. Deadlines are honoured
+ * with the precision of one tick of {@code orders.reservations.tick}.
+ */
+@Repository
+public class OrderReservationExpiryAdapter implements OrderReservationExpiryPort {
+
+    private final HashedTimingWheel wheel;
+
+    public OrderReservationExpiryAdapter(@Value("${orders.reservations.tick:PT1S}") Duration tick,
+                                         @Value("${orders.reservations.wheel-size:1024}") int wheelSize) {
+        this.wheel = new HashedTimingWheel(tick.toMillis(), wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void schedule(Long orderId, Instant deadline) {
+        wheel.schedule(orderId, deadline.toEpochMilli());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> expire(Instant now) {
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(now.toEpochMilli(), expired::add);
+        return expired;
+    }
+}
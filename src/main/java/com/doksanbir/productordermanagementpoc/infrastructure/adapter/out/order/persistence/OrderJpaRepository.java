@@ -2,11 +2,21 @@ package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.order
 
 import com.doksanbir.productordermanagementpoc.domain.Order;
 import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for the {@link Order} entity.
@@ -20,14 +30,124 @@ import java.util.List;
  * separation of query logic from repository methods and supports reusable query conditions that can be combined
  * as needed. The Specification pattern is particularly useful when query parameters are not known upfront and
  * need to be constructed dynamically.
+ *
+ * <p>{@link Order#getProduct()} is a lazy association. Every query returning orders declares an
+ * {@link EntityGraph} on it, so the products are fetched in the same statement as the orders and
+ * a read issues a single query no matter how many orders or distinct products it returns.
  */
 @Repository
 public interface OrderJpaRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
     /**
-     * Finds orders by their status.
+     * Finds an order by its ID together with its product.
+     *
+     * @param id the ID of the order
+     * @return an optional containing the order if found
+     */
+    @Override
+    @EntityGraph(attributePaths = "product")
+    Optional<Order> findById(Long id);
+
+    /**
+     * Finds all orders together with their products.
+     *
+     * @return a list of all orders
+     */
+    @Override
+    @EntityGraph(attributePaths = "product")
+    List<Order> findAll();
+
+    /**
+     * Finds the orders matching a specification together with their products.
+     *
+     * @param specification the specification to filter orders
+     * @return a list of matching orders
+     */
+    @Override
+    @EntityGraph(attributePaths = "product")
+    List<Order> findAll(Specification<Order> specification);
+
+    /**
+     * Finds orders by their status together with their products.
      *
      * @param status the status to search for
      * @return a list of orders matching the given status
      */
+    @EntityGraph(attributePaths = "product")
     List<Order> findByStatus(OrderStatus status);
+
+    /**
+     * Finds the summaries of orders with an ID greater than the given one, ordered by ID.
+     * <p>
+     * Used for keyset pagination: the query is a range scan on the primary key index,
+     * so its cost does not depend on how many rows precede the page. The product ID is read
+     * from the foreign key column, so the products are not joined.
+     *
+     * @param id    the exclusive lower bound of the IDs
+     * @param limit the maximum number of orders to return
+     * @return a list of order summaries ordered by ID
+     */
+    @Query("""
+            select new com.doksanbir.productordermanagementpoc.domain.OrderSummary(
+                o.id, o.product.id, o.quantity, o.status, o.createdAt, o.updatedAt)
+            from Order o
+            where o.id > :id
+            order by o.id""")
+    List<OrderSummary> findSummariesByIdGreaterThan(Long id, Limit limit);
+
+    /**
+     * Finds the IDs of orders with the given status and an ID greater than the given one, ordered by ID.
+     * <p>
+     * The query is a range scan on the {@code (status, id)} index and reads no table rows.
+     *
+     * @param status the status of the orders
+     * @param id     the exclusive lower bound of the IDs
+     * @param limit  the maximum number of IDs to return
+     * @return a list of order IDs
+     */
+    @Query("select o.id from Order o where o.status = :status and o.id > :id order by o.id")
+    List<Long> findIdsByStatusAndIdGreaterThan(OrderStatus status, Long id, Limit limit);
+
+    /**
+     * Streams all orders together with their products, ordered by ID.
+     * <p>
+     * The fetch size hint makes the PostgreSQL driver read rows through a server-side cursor
+     * in chunks instead of materializing the whole result set in memory.
+     *
+     * @return a stream of orders, to be consumed within a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from Order o join fetch o.product order by o.id")
+    Stream<Order> streamAllByOrderById();
+
+    /**
+     * Streams the summaries of all orders, ordered by ID, through a server-side cursor.
+     *
+     * @return a stream of order summaries, to be consumed within a transaction
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("""
+            select new com.doksanbir.productordermanagementpoc.domain.OrderSummary(
+                o.id, o.product.id, o.quantity, o.status, o.createdAt, o.updatedAt)
+            from Order o
+            order by o.id""")
+    Stream<OrderSummary> streamSummaries();
+
+    /**
+     * Streams the summaries of the pending orders holding a stock reservation, ordered by ID,
+     * through a server-side cursor.
+     *
+     * @return a stream of order summaries, to be consumed within a transaction
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("""
+            select new com.doksanbir.productordermanagementpoc.domain.OrderSummary(
+                o.id, o.product.id, o.quantity, o.status, o.createdAt, o.updatedAt)
+            from Order o
+            where o.status = com.doksanbir.productordermanagementpoc.domain.OrderStatus.PENDING
+              and o.stockReserved = true
+            order by o.id""")
+    Stream<OrderSummary> streamReservedPendingSummaries();
 }
\ No newline at end of file
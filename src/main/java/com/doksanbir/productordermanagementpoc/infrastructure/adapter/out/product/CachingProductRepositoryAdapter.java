@@ -0,0 +1,333 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.product;
+
+import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductRepositoryPort;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportReport;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportRow;
+import com.doksanbir.productordermanagementpoc.domain.ProductSummary;
+import com.doksanbir.productordermanagementpoc.domain.StockDeltaBatch;
+import com.doksanbir.productordermanagementpoc.shared.TransactionHooks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Read-through caching decorator for the product repository.
+ * <p>
+ * Lookups by ID are served from a bounded in-process cache with size and time-to-live eviction;
+ * all other operations are delegated to {@link ProductRepositoryAdapter}. Cached products are never
+ * handed out directly: every caller receives its own copy, so mutating a returned product cannot
+ * corrupt the cache. Saves, deletes and stock adjustments invalidate the affected entry, and again
+ * once the surrounding transaction completes, so a value read before the commit cannot linger.
+ * Hit, miss and eviction statistics are published as {@code cache.*} metrics tagged {@code cache=products}.
+ */
+@Repository
+@Primary
+public class CachingProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private static final String CACHE_NAME = "products";
+
+    private final ProductRepositoryAdapter delegate;
+    private final Cache<Long, Product> cache;
+
+    public CachingProductRepositoryAdapter(ProductRepositoryAdapter delegate,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${products.cache.maximum-size:10000}") long maximumSize,
+                                           @Value("${products.cache.time-to-live:10m}") Duration timeToLive) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Saves a product and invalidates its cache entry. The entry is also invalidated when the save
+     * is rejected because the product was updated concurrently, so a retry reads the newer version.
+     *
+     * @param product the product to save
+     * @return the saved product
+     */
+    @Override
+    public Product save(Product product) {
+        Product saved;
+        try {
+            saved = delegate.save(product);
+        } catch (OptimisticLockingFailureException e) {
+            evict(product.getId());
+            throw e;
+        }
+        evict(saved.getId());
+        return saved;
+    }
+
+    /**
+     * Patches a product and invalidates its cache entry, also when the product was not at the
+     * expected version, so the version reported back is read from the database.
+     *
+     * @param productId       the ID of the product
+     * @param changes         the new values keyed by field name
+     * @param expectedVersion the version the product must be at, or {@code null} for any version
+     * @return the updated product, or empty if the product does not exist or is at another version
+     */
+    @Override
+    public Optional<Product> patch(Long productId, Map<String, Object> changes, Long expectedVersion) {
+        Optional<Product> patched = delegate.patch(productId, changes, expectedVersion);
+        evict(productId);
+        return patched;
+    }
+
+    /**
+     * Finds a product by its ID, loading it into the cache on a miss.
+     * Missing products are not cached.
+     *
+     * @param productId the ID of the product
+     * @return an optional containing a copy of the product if found
+     */
+    @Override
+    public Optional<Product> findById(Long productId) {
+        Product cached = cache.get(productId, id -> delegate.findById(id).map(Product::copy).orElse(null));
+        return Optional.ofNullable(cached).map(Product::copy);
+    }
+
+    /**
+     * Finds the products with the given IDs, serving cached products from the cache and loading
+     * all the others with one query. Missing products are not cached.
+     *
+     * @param productIds the IDs of the products
+     * @return copies of the found products in no particular order
+     */
+    @Override
+    public List<Product> findAllByIds(Collection<Long> productIds) {
+        Map<Long, Product> cached = cache.getAll(productIds, missingIds ->
+                delegate.findAllByIds(List.copyOf(missingIds)).stream()
+                        .collect(Collectors.toMap(Product::getId, Product::copy)));
+        return cached.values().stream().map(Product::copy).toList();
+    }
+
+    /**
+     * Returns which of the given product IDs exist.
+     *
+     * @param productIds the IDs to check
+     * @return the subset of the IDs that exist
+     */
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> productIds) {
+        return delegate.findExistingIds(productIds);
+    }
+
+    /**
+     * Checks whether a product exists, answering from the cache when the product is cached.
+     *
+     * @param productId the ID of the product
+     * @return {@code true} if the product exists
+     */
+    @Override
+    public boolean existsById(Long productId) {
+        return cache.getIfPresent(productId) != null || delegate.existsById(productId);
+    }
+
+    /**
+     * Adjusts the stock of a product and invalidates its cache entry.
+     * <p>
+     * The entry is invalidated rather than refreshed with the returned stock, because concurrent
+     * adjustments may return in a different order than they committed in.
+     *
+     * @param productId the ID of the product
+     * @param delta     the amount to add, negative to remove stock
+     * @return the new stock quantity, or empty if the product does not exist or has insufficient stock
+     */
+    @Override
+    public Optional<Integer> adjustStock(Long productId, int delta) {
+        Optional<Integer> newStock = delegate.adjustStock(productId, delta);
+        newStock.ifPresent(stock -> evict(productId));
+        return newStock;
+    }
+
+    /**
+     * Shards the stock of a product and invalidates its cache entry.
+     *
+     * @param productId the ID of the product
+     * @param buckets   the number of buckets, or zero to keep the stock in the product row
+     * @return the stock quantity, or empty if the product does not exist
+     */
+    @Override
+    public Optional<Integer> shardStock(Long productId, int buckets) {
+        Optional<Integer> stock = delegate.shardStock(productId, buckets);
+        evict(productId);
+        return stock;
+    }
+
+    /**
+     * Rebalances the stock buckets of sharded products. Stock quantities are unchanged,
+     * so no cache entry is affected.
+     *
+     * @return the number of rebalanced products
+     */
+    @Override
+    public int rebalanceStockBuckets() {
+        return delegate.rebalanceStockBuckets();
+    }
+
+    /**
+     * Applies accumulated stock adjustments and invalidates the cache entries of the adjusted products.
+     *
+     * @param batch the batch of adjustments
+     * @return the IDs of the products whose adjustments were not applied
+     */
+    @Override
+    public List<Long> applyStockDeltas(StockDeltaBatch batch) {
+        List<Long> rejected = delegate.applyStockDeltas(batch);
+        batch.deltas().keySet().forEach(this::evict);
+        return rejected;
+    }
+
+    /**
+     * Forgets the ID of an applied stock delta batch; no cache entry depends on it.
+     *
+     * @param batchId the ID of the batch
+     */
+    @Override
+    public void forgetStockDeltaBatch(UUID batchId) {
+        delegate.forgetStockDeltaBatch(batchId);
+    }
+
+    /**
+     * Invalidates the cache entry of a product changed outside this repository.
+     *
+     * @param productId the ID of the changed product
+     */
+    @Override
+    public void invalidate(Long productId) {
+        evict(productId);
+    }
+
+    /**
+     * Deletes a product by its ID and invalidates its cache entry.
+     *
+     * @param productId the ID of the product to delete
+     */
+    @Override
+    public void deleteById(Long productId) {
+        delegate.deleteById(productId);
+        evict(productId);
+    }
+
+    /**
+     * Retrieves all products.
+     *
+     * @return a list of all products
+     */
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    /**
+     * Retrieves a page of product summaries whose ID is greater than the given one, ordered by ID.
+     *
+     * @param afterId the ID after which the page starts, or {@code null} for the first page
+     * @param limit   the maximum number of products to return
+     * @return a list of product summaries ordered by ID
+     */
+    @Override
+    public List<ProductSummary> findSummaryPageAfter(Long afterId, int limit) {
+        return delegate.findSummaryPageAfter(afterId, limit);
+    }
+
+    /**
+     * Finds the summaries of the products with the given IDs.
+     *
+     * @param productIds the IDs of the products
+     * @return a list of product summaries ordered by ID
+     */
+    @Override
+    public List<ProductSummary> findSummariesByIds(Collection<Long> productIds) {
+        return delegate.findSummariesByIds(productIds);
+    }
+
+    /**
+     * Streams all products ordered by ID.
+     *
+     * @return a stream of detached products
+     */
+    @Override
+    public Stream<Product> streamAll() {
+        return delegate.streamAll();
+    }
+
+    /**
+     * Bulk loads product rows. Only new products are inserted, so no cache entry is affected.
+     *
+     * @param rows       the rows to load
+     * @param onImported receives each loaded product
+     * @return the number of loaded products and the rejected rows
+     */
+    @Override
+    public ProductImportReport importProducts(Stream<ProductImportRow> rows, Consumer<Product> onImported) {
+        return delegate.importProducts(rows, onImported);
+    }
+
+    /**
+     * Searches products by their name and category.
+     *
+     * @param name     the name to search for
+     * @param category the category to search for
+     * @return a list of products matching the name and category criteria
+     */
+    @Override
+    public List<Product> search(String name, String category) {
+        return delegate.search(name, category);
+    }
+
+    /**
+     * Finds products based on specifications.
+     *
+     * @param specification the specification to filter products
+     * @return a list of products matching the given specification
+     */
+    @Override
+    public List<Product> findAll(Specification<Product> specification) {
+        return delegate.findAll(specification);
+    }
+
+    /**
+     * Finds the summaries of the products matching a specification.
+     *
+     * @param specification the specification to filter products
+     * @return a list of matching product summaries ordered by ID
+     */
+    @Override
+    public List<ProductSummary> findSummaries(Specification<Product> specification) {
+        return delegate.findSummaries(specification);
+    }
+
+    /**
+     * Invalidates a cache entry now and, if a transaction is active, again after it completes.
+     *
+     * @param productId the ID of the product
+     */
+    private void evict(Long productId) {
+        cache.invalidate(productId);
+        TransactionHooks.afterCompletion(() -> cache.invalidate(productId));
+    }
+}
@@ -2,46 +2,369 @@ package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.produ
 
 import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductRepositoryPort;
 import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportReject;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportReport;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportRow;
+import com.doksanbir.productordermanagementpoc.domain.ProductSummary;
+import com.doksanbir.productordermanagementpoc.domain.StockDelta;
+import com.doksanbir.productordermanagementpoc.domain.StockDeltaBatch;
 import com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.product.persistence.ProductJpaRepository;
+import com.doksanbir.productordermanagementpoc.shared.BloomFilter;
+import com.doksanbir.productordermanagementpoc.shared.SingleFlight;
+import com.doksanbir.productordermanagementpoc.shared.TransactionHooks;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter implementation for product repository using Spring Data JPA.
  * <p>
  * This class implements the {@link ProductRepositoryPort} interface and provides
  * an adapter for interacting with the underlying database using Spring Data JPA.
+ * <p>
+ * Saves are version-checked; every save rejected because the product was updated concurrently is
+ * counted in the {@code entity.version.conflicts} metric tagged {@code entity=product}.
+ * <p>
+ * Concurrent lookups of the same product by ID are coalesced into one query, so a stampede on a
+ * product reaches the database once whether or not a cache sits in front of this adapter. Writes
+ * forget the lookups in flight for the products they changed when their transaction completes, as
+ * for orders.
  */
 @Repository
 @RequiredArgsConstructor
+@Slf4j
 public class ProductRepositoryAdapter implements ProductRepositoryPort {
 
+    private static final String CREATE_IMPORT_STAGING_TABLE_SQL = """
+            CREATE TEMP TABLE IF NOT EXISTS product_import_staging (
+                row_number     BIGINT,
+                name           VARCHAR(255),
+                description    VARCHAR(255),
+                price          DOUBLE PRECISION,
+                stock_quantity INTEGER,
+                category       VARCHAR(255)
+            ) ON COMMIT DELETE ROWS""";
+    private static final String COPY_IMPORT_STAGING_SQL =
+            "COPY product_import_staging (row_number, name, description, price, stock_quantity, category) "
+                    + "FROM STDIN WITH (FORMAT csv)";
+    private static final String MERGE_IMPORT_STAGING_SQL = """
+            INSERT INTO products (name, description, price, stock_quantity, category, created_at, updated_at)
+            SELECT name, description, price, stock_quantity, category, now(), now()
+            FROM product_import_staging
+            ORDER BY row_number
+            ON CONFLICT (name) DO NOTHING
+            RETURNING id, name""";
+    private static final String DUPLICATE_NAME = "Product name already exists";
+    private static final int SUMMARIES_BY_IDS_CHUNK_SIZE = 1000;
+    private static final String ADJUST_STOCK_SQL = "SELECT adjust_stock(?, ?)";
+    private static final String RECORD_STOCK_DELTA_BATCH_SQL = """
+            INSERT INTO applied_stock_delta_batches (batch_id, applied_at)
+            VALUES (?, now())
+            ON CONFLICT (batch_id) DO NOTHING""";
+    private static final String FORGET_STOCK_DELTA_BATCH_SQL = "DELETE FROM applied_stock_delta_batches WHERE batch_id = ?";
+    private static final String APPLY_STOCK_DELTAS_SQL = """
+            SELECT id, stock
+            FROM (SELECT d.id, adjust_stock(d.id, d.delta) AS stock
+                  FROM unnest(?::bigint[], ?::integer[]) AS d (id, delta)
+                  ORDER BY d.id) AS applied""";
+    private static final String SHARD_STOCK_SQL = "SELECT shard_stock(?, ?)";
+    private static final String FIND_SKEWED_SHARDED_PRODUCTS_SQL = """
+            SELECT product_id
+            FROM product_stock_buckets
+            GROUP BY product_id
+            HAVING min(quantity) * 2 < avg(quantity)""";
+    private static final String REBALANCE_STOCK_BUCKETS_SQL = "SELECT rebalance_stock_buckets(?)";
+    private static final Map<String, String> PATCHABLE_COLUMNS = Map.of(
+            "name", "name",
+            "description", "description",
+            "price", "price",
+            "category", "category");
+    private static final String PATCH_RETURNING_SQL = """
+            RETURNING id, version, created_at, updated_at, name, description, price, stock_quantity, category,
+                      CASE WHEN stock_buckets = 0 THEN 0 ELSE (SELECT COALESCE(SUM(b.quantity), 0)
+                      FROM product_stock_buckets b WHERE b.product_id = products.id) END AS bucket_stock_quantity""";
+    private static final RowMapper<Product> PRODUCT_ROW_MAPPER = (resultSet, rowNum) -> {
+        Product product = new Product();
+        product.setId(resultSet.getLong("id"));
+        product.setVersion(resultSet.getLong("version"));
+        product.setCreatedAt(resultSet.getObject("created_at", LocalDateTime.class));
+        product.setUpdatedAt(resultSet.getObject("updated_at", LocalDateTime.class));
+        product.setName(resultSet.getString("name"));
+        product.setDescription(resultSet.getString("description"));
+        product.setPrice(resultSet.getDouble("price"));
+        product.setStockQuantity(resultSet.getInt("stock_quantity"));
+        product.setBucketStockQuantity(resultSet.getInt("bucket_stock_quantity"));
+        product.setCategory(resultSet.getString("category"));
+        return product;
+    };
+
     private final ProductJpaRepository productJpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("productLookupSingleFlight")
+    private final SingleFlight<Long, Optional<Product>> productLookupSingleFlight;
+
+    @Value("${products.import.chunk-size:5000}")
+    private final int importChunkSize;
+
+    @Value("${products.import.bloom-filter-false-positive-probability:0.01}")
+    private final double bloomFilterFalsePositiveProbability;
 
     /**
      * Saves a product to the database.
      *
      * @param product the product to save
      * @return the saved product
+     * @throws OptimisticLockingFailureException if the product was updated since it was read
      */
     @Override
     public Product save(Product product) {
-        return productJpaRepository.save(product);
+        try {
+            Product saved = productJpaRepository.save(product);
+            forgetLookups(List.of(saved.getId()));
+            return saved;
+        } catch (OptimisticLockingFailureException e) {
+            meterRegistry.counter("entity.version.conflicts", "entity", "product").increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Patches a product with a single {@code UPDATE ... RETURNING} that sets only the changed
+     * columns and reads the updated row back, including the stock held in its buckets.
+     *
+     * @param productId       the ID of the product
+     * @param changes         the new values keyed by field name
+     * @param expectedVersion the version the product must be at, or {@code null} for any version
+     * @return the updated product, or empty if the product does not exist or is at another version
+     */
+    @Override
+    public Optional<Product> patch(Long productId, Map<String, Object> changes, Long expectedVersion) {
+        StringBuilder sql = new StringBuilder("UPDATE products SET ");
+        List<Object> parameters = new ArrayList<>();
+        changes.forEach((field, value) -> {
+            String column = PATCHABLE_COLUMNS.get(field);
+            if (column == null) {
+                throw new IllegalArgumentException("Product field cannot be patched: " + field);
+            }
+            sql.append(column).append(" = ?, ");
+            parameters.add(value);
+        });
+        sql.append("version = version + 1, updated_at = now() WHERE id = ?");
+        parameters.add(productId);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            parameters.add(expectedVersion);
+        }
+        sql.append('\n').append(PATCH_RETURNING_SQL);
+        List<Product> patched = jdbcTemplate.query(sql.toString(), PRODUCT_ROW_MAPPER, parameters.toArray());
+        forgetLookups(List.of(productId));
+        return patched.stream().findFirst();
     }
 
     /**
      * Finds a product by its ID.
+     * <p>
+     * Outside a transaction, concurrent lookups of the same product share one query, and every
+     * caller receives its own detached copy of the result. Within a transaction, the product is
+     * read through the persistence context of that transaction.
      *
      * @param productId the ID of the product
      * @return an optional containing the product if found
      */
     @Override
     public Optional<Product> findById(Long productId) {
-        return productJpaRepository.findById(productId);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return productJpaRepository.findById(productId);
+        }
+        return productLookupSingleFlight
+                .load(productId, () -> productJpaRepository.findById(productId).map(Product::copy))
+                .map(Product::copy);
+    }
+
+    /**
+     * Finds the products with the given IDs with one {@code IN} query.
+     *
+     * @param productIds the IDs of the products
+     * @return the found products in no particular order
+     */
+    @Override
+    public List<Product> findAllByIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return productJpaRepository.findAllById(productIds);
+    }
+
+    /**
+     * Returns which of the given product IDs exist.
+     *
+     * @param productIds the IDs to check
+     * @return the subset of the IDs that exist
+     */
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        return productJpaRepository.findExistingIds(productIds);
+    }
+
+    /**
+     * Checks whether a product exists.
+     *
+     * @param productId the ID of the product
+     * @return {@code true} if the product exists
+     */
+    @Override
+    public boolean existsById(Long productId) {
+        return productJpaRepository.existsById(productId);
+    }
+
+    /**
+     * Adds a delta to the stock of a product with a single call of the {@code adjust_stock} routine.
+     * <p>
+     * For an unsharded product, the routine issues one conditional {@code UPDATE ... RETURNING}:
+     * the row lock taken by the update serializes concurrent adjustments of the same product,
+     * and the {@code WHERE} clause re-evaluates the guard against the latest committed value,
+     * so no adjustment is lost and the stock never drops below zero. For a sharded product, the
+     * delta is applied to one of its stock buckets under the same guard, skipping buckets locked
+     * by concurrent adjustments.
+     *
+     * @param productId the ID of the product
+     * @param delta     the amount to add, negative to remove stock
+     * @return the new stock quantity, or empty if the product does not exist or has insufficient stock
+     */
+    @Override
+    public Optional<Integer> adjustStock(Long productId, int delta) {
+        Integer stock = jdbcTemplate.queryForObject(ADJUST_STOCK_SQL, Integer.class, productId, delta);
+        forgetLookups(List.of(productId));
+        return Optional.ofNullable(stock);
+    }
+
+    /**
+     * Records the batch ID and, unless it was recorded already, applies the stock adjustments of
+     * all products with one call of the {@code adjust_stock} routine per product in a single
+     * statement, all in one transaction. The products are adjusted in ID order, so two flushes
+     * running concurrently lock their rows in the same order.
+     *
+     * @param batch the batch of adjustments
+     * @return the IDs of the products whose adjustments were not applied
+     */
+    @Override
+    public List<Long> applyStockDeltas(StockDeltaBatch batch) {
+        return transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(RECORD_STOCK_DELTA_BATCH_SQL, batch.id()) == 0) {
+                log.info("Skipping stock delta batch {}, which has already been applied", batch.id());
+                return List.of();
+            }
+            return applyStockDeltas(batch.deltas());
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forgetStockDeltaBatch(UUID batchId) {
+        jdbcTemplate.update(FORGET_STOCK_DELTA_BATCH_SQL, batchId);
+    }
+
+    private List<Long> applyStockDeltas(Map<Long, StockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+        List<Long> productIds = List.copyOf(deltas.keySet());
+        List<Long> unapplied = jdbcTemplate.query(APPLY_STOCK_DELTAS_SQL, statement -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("bigint", productIds.toArray()));
+            statement.setArray(2, statement.getConnection().createArrayOf("integer",
+                    productIds.stream().map(productId -> deltas.get(productId).net()).toArray()));
+        }, (resultSet, rowNum) -> resultSet.getObject(2) == null ? resultSet.getLong(1) : null)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+        forgetLookups(productIds);
+        return unapplied;
+    }
+
+    /**
+     * Moves the stock of a product into the given number of buckets with the {@code shard_stock} routine.
+     *
+     * @param productId the ID of the product
+     * @param buckets   the number of buckets, or zero to keep the stock in the product row
+     * @return the stock quantity, or empty if the product does not exist
+     */
+    @Override
+    public Optional<Integer> shardStock(Long productId, int buckets) {
+        Integer stock = jdbcTemplate.queryForObject(SHARD_STOCK_SQL, Integer.class, productId, buckets);
+        forgetLookups(List.of(productId));
+        return Optional.ofNullable(stock);
+    }
+
+    /**
+     * Rebalances the sharded products having a bucket with less than half of their average bucket
+     * stock. Each product is rebalanced in its own statement, so the buckets of only one product
+     * are locked at a time.
+     *
+     * @return the number of rebalanced products
+     */
+    @Override
+    public int rebalanceStockBuckets() {
+        List<Long> productIds = jdbcTemplate.queryForList(FIND_SKEWED_SHARDED_PRODUCTS_SQL, Long.class);
+        productIds.forEach(productId -> jdbcTemplate.queryForObject(REBALANCE_STOCK_BUCKETS_SQL, Integer.class, productId));
+        forgetLookups(productIds);
+        return productIds.size();
+    }
+
+    /**
+     * Forgets the lookup of the product in flight once the current transaction has completed, as
+     * every other read goes to the database.
+     *
+     * @param productId the ID of the changed product
+     */
+    @Override
+    public void invalidate(Long productId) {
+        forgetLookups(List.of(productId));
     }
 
     /**
@@ -52,6 +375,16 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
     @Override
     public void deleteById(Long productId) {
         productJpaRepository.deleteById(productId);
+        forgetLookups(List.of(productId));
+    }
+
+    /**
+     * Captures the lookups in flight for the given products and forgets them once the current
+     * transaction has completed, or right away without a transaction.
+     */
+    private void forgetLookups(Collection<Long> productIds) {
+        List<Runnable> forgets = productIds.stream().map(productLookupSingleFlight::forgetting).toList();
+        TransactionHooks.afterCompletion(() -> forgets.forEach(Runnable::run));
     }
 
     /**
@@ -64,6 +397,205 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
         return productJpaRepository.findAll();
     }
 
+    /**
+     * Retrieves a page of product summaries whose ID is greater than the given one, ordered by ID.
+     *
+     * @param afterId the ID after which the page starts, or {@code null} for the first page
+     * @param limit   the maximum number of products to return
+     * @return a list of product summaries ordered by ID
+     */
+    @Override
+    public List<ProductSummary> findSummaryPageAfter(Long afterId, int limit) {
+        return productJpaRepository.findSummariesByIdGreaterThan(afterId == null ? 0L : afterId, Limit.of(limit));
+    }
+
+    /**
+     * Finds the summaries of the products with the given IDs, in chunks that keep the
+     * number of bind parameters per query bounded.
+     *
+     * @param productIds the IDs of the products
+     * @return a list of product summaries ordered by ID
+     */
+    @Override
+    public List<ProductSummary> findSummariesByIds(Collection<Long> productIds) {
+        List<Long> ids = productIds.stream().sorted().toList();
+        List<ProductSummary> summaries = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += SUMMARIES_BY_IDS_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + SUMMARIES_BY_IDS_CHUNK_SIZE, ids.size()));
+            summaries.addAll(productJpaRepository.findSummariesByIdIn(chunk));
+        }
+        return summaries;
+    }
+
+    /**
+     * Streams all products ordered by ID, detaching each product from the persistence
+     * context so that it does not grow with the number of rows read.
+     *
+     * @return a stream of detached products
+     */
+    @Override
+    public Stream<Product> streamAll() {
+        return productJpaRepository.streamAllByOrderById()
+                .peek(entityManager::detach);
+    }
+
+    /**
+     * Bulk loads product rows in chunks of {@code products.import.chunk-size}.
+     * <p>
+     * Names of existing products are first loaded into a {@link BloomFilter}. Rows whose name the
+     * filter has definitely never seen skip the uniqueness check entirely; only the rare possible
+     * matches are confirmed with one query per chunk. Each chunk is then streamed into a temporary
+     * staging table with the PostgreSQL {@code COPY} protocol and merged into {@code products} with
+     * {@code ON CONFLICT DO NOTHING}, which also catches names inserted concurrently by other writers.
+     *
+     * @param rows       the rows to load
+     * @param onImported receives each loaded product, with its generated ID set
+     * @return the number of loaded products and the rejected rows
+     */
+    @Override
+    public ProductImportReport importProducts(Stream<ProductImportRow> rows, Consumer<Product> onImported) {
+        BloomFilter knownNames = loadProductNames();
+        List<ProductImportReject> rejects = new ArrayList<>();
+        List<ProductImportRow> chunk = new ArrayList<>(importChunkSize);
+        long imported = 0;
+        Iterator<ProductImportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == importChunkSize) {
+                imported += importChunk(chunk, knownNames, rejects, onImported);
+                chunk.clear();
+            }
+        }
+        imported += importChunk(chunk, knownNames, rejects, onImported);
+        log.info("Imported {} products, rejected {} rows", imported, rejects.size());
+        return new ProductImportReport(imported, rejects);
+    }
+
+    /**
+     * Builds a Bloom filter over the names of all existing products, reading them through a cursor.
+     *
+     * @return the Bloom filter
+     */
+    private BloomFilter loadProductNames() {
+        long existing = productJpaRepository.count();
+        BloomFilter knownNames = new BloomFilter(Math.max(existing * 2, importChunkSize),
+                bloomFilterFalsePositiveProbability);
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT name FROM products");
+            statement.setFetchSize(10_000);
+            return statement;
+        }, resultSet -> {
+            knownNames.put(resultSet.getString(1));
+        }));
+        return knownNames;
+    }
+
+    /**
+     * Checks one chunk for duplicate names and loads the remaining rows with {@code COPY}.
+     *
+     * @param chunk      the rows of the chunk
+     * @param knownNames the Bloom filter of names already in the database
+     * @param rejects    collects the rejected rows
+     * @param onImported receives each loaded product, with its generated ID set
+     * @return the number of loaded products
+     */
+    private long importChunk(List<ProductImportRow> chunk, BloomFilter knownNames, List<ProductImportReject> rejects,
+                             Consumer<Product> onImported) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Set<String> chunkNames = new HashSet<>();
+        List<String> possibleDuplicates = new ArrayList<>();
+        for (ProductImportRow row : chunk) {
+            String name = row.product().getName();
+            if (chunkNames.add(name) && knownNames.mightContain(name)) {
+                possibleDuplicates.add(name);
+            }
+        }
+        Set<String> existingNames = possibleDuplicates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(jdbcTemplate.queryForList("SELECT name FROM products WHERE name = ANY(?)",
+                String.class, (Object) possibleDuplicates.toArray(String[]::new)));
+
+        Set<String> staged = new HashSet<>();
+        List<ProductImportRow> toLoad = new ArrayList<>(chunk.size());
+        for (ProductImportRow row : chunk) {
+            String name = row.product().getName();
+            if (existingNames.contains(name)) {
+                rejects.add(new ProductImportReject(row.rowNumber(), name, DUPLICATE_NAME));
+            } else if (!staged.add(name)) {
+                rejects.add(new ProductImportReject(row.rowNumber(), name, "Duplicate product name in import"));
+            } else {
+                toLoad.add(row);
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Long> inserted = transactionTemplate.execute(status ->
+                jdbcTemplate.execute((ConnectionCallback<Map<String, Long>>) connection -> {
+                    try (PreparedStatement createStaging = connection.prepareStatement(CREATE_IMPORT_STAGING_TABLE_SQL)) {
+                        createStaging.execute();
+                    }
+                    try {
+                        connection.unwrap(PGConnection.class).getCopyAPI()
+                                .copyIn(COPY_IMPORT_STAGING_SQL, new StringReader(toCsv(toLoad)));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    Map<String, Long> ids = new HashMap<>();
+                    try (PreparedStatement merge = connection.prepareStatement(MERGE_IMPORT_STAGING_SQL);
+                         ResultSet resultSet = merge.executeQuery()) {
+                        while (resultSet.next()) {
+                            ids.put(resultSet.getString(2), resultSet.getLong(1));
+                        }
+                    }
+                    return ids;
+                }));
+
+        for (ProductImportRow row : toLoad) {
+            Product product = row.product();
+            Long id = inserted.get(product.getName());
+            if (id != null) {
+                knownNames.put(product.getName());
+                product.setId(id);
+                product.setVersion(0L);
+                onImported.accept(product);
+            } else {
+                rejects.add(new ProductImportReject(row.rowNumber(), product.getName(), DUPLICATE_NAME));
+            }
+        }
+        return inserted.size();
+    }
+
+    /**
+     * Renders rows as CSV in the column order of the staging table.
+     *
+     * @param rows the rows to render
+     * @return the CSV text
+     */
+    private static String toCsv(List<ProductImportRow> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 64);
+        for (ProductImportRow row : rows) {
+            Product product = row.product();
+            csv.append(row.rowNumber()).append(',')
+                    .append(csvValue(product.getName())).append(',')
+                    .append(csvValue(product.getDescription())).append(',')
+                    .append(product.getPrice()).append(',')
+                    .append(product.getStockQuantity()).append(',')
+                    .append(csvValue(product.getCategory())).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Quotes a text value for CSV; {@code null} becomes an unquoted empty field, which {@code COPY} reads as NULL.
+     */
+    private static String csvValue(String value) {
+        return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
     /**
      * Searches products by their name and category.
      *
@@ -86,4 +618,30 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
     public List<Product> findAll(Specification<Product> specification) {
         return productJpaRepository.findAll(specification);
     }
+
+    /**
+     * Finds the summaries of the products matching a specification with a constructor projection,
+     * so only the summary columns are selected and no entity is materialized.
+     *
+     * @param specification the specification to filter products
+     * @return a list of matching product summaries ordered by ID
+     */
+    @Override
+    public List<ProductSummary> findSummaries(Specification<Product> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummary> query = criteriaBuilder.createQuery(ProductSummary.class);
+        Root<Product> product = query.from(Product.class);
+        query.select(criteriaBuilder.construct(ProductSummary.class,
+                product.get("id"),
+                product.get("name"),
+                product.get("price"),
+                criteriaBuilder.sum(product.<Integer>get("stockQuantity"), product.<Integer>get("bucketStockQuantity")),
+                product.get("category")));
+        Predicate predicate = specification.toPredicate(product, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(criteriaBuilder.asc(product.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,265 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.product;
+
+import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductSearchIndexPort;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trigram inverted index over product names and categories.
+ * <p>
+ * Every lower-cased name and category is split into overlapping three-character grams, and each
+ * gram maps to a compressed bitmap of the IDs of the products containing it. A substring query of
+ * at least three characters intersects the bitmaps of its own grams, smallest first, and confirms
+ * the few remaining candidates with a plain {@link String#contains} check, so the result matches
+ * a case-insensitive {@code LIKE '%term%'} exactly. Shorter queries have no grams to intersect and
+ * are answered by scanning the indexed strings, which is still far cheaper than a table scan.
+ * <p>
+ * Readers share a read lock; writers take the write lock for the few bitmap updates of one product.
+ */
+@Repository
+@Slf4j
+public class ProductSearchIndexAdapter implements ProductSearchIndexPort {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, String> names = new HashMap<>();
+    private final Map<Long, String> categories = new HashMap<>();
+    private final Map<Long, Roaring64Bitmap> namePostings = new HashMap<>();
+    private final Map<Long, Roaring64Bitmap> categoryPostings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Set<Long> writtenDuringRebuild;
+    private volatile boolean ready;
+
+    /**
+     * {@inheritDoc}
+     * The index is not ready, and searches should not use it, until the rebuild has completed.
+     */
+    @Override
+    public void rebuild(Stream<Product> products) {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            names.clear();
+            categories.clear();
+            namePostings.clear();
+            categoryPostings.clear();
+            writtenDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            products.forEach(product -> {
+                lock.writeLock().lock();
+                try {
+                    if (!writtenDuringRebuild.contains(product.getId())) {
+                        index(product);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                writtenDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            namePostings.values().forEach(Roaring64Bitmap::runOptimize);
+            categoryPostings.values().forEach(Roaring64Bitmap::runOptimize);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product search index built with {} products and {} name grams", names.size(), namePostings.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Product product) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.add(product.getId());
+            }
+            unindex(product.getId());
+            index(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.add(productId);
+            }
+            unindex(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> search(String name, String category) {
+        lock.readLock().lock();
+        try {
+            if (name == null && category == null) {
+                return names.keySet().stream().sorted().toList();
+            }
+            Roaring64Bitmap matches = null;
+            if (name != null) {
+                matches = find(normalize(name), names, namePostings);
+            }
+            if (category != null) {
+                Roaring64Bitmap categoryMatches = find(normalize(category), categories, categoryPostings);
+                if (matches == null) {
+                    matches = categoryMatches;
+                } else {
+                    matches.and(categoryMatches);
+                }
+            }
+            List<Long> ids = new ArrayList<>((int) matches.getLongCardinality());
+            LongIterator iterator = matches.getLongIterator();
+            while (iterator.hasNext()) {
+                ids.add(iterator.next());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the IDs of the indexed strings containing a term.
+     *
+     * @param term     the lower-cased term
+     * @param texts    the indexed strings by product ID
+     * @param postings the posting bitmaps by gram
+     * @return a new bitmap of the matching product IDs
+     */
+    private static Roaring64Bitmap find(String term, Map<Long, String> texts, Map<Long, Roaring64Bitmap> postings) {
+        Roaring64Bitmap matches = new Roaring64Bitmap();
+        if (term.length() < GRAM_LENGTH) {
+            texts.forEach((id, text) -> {
+                if (text.contains(term)) {
+                    matches.addLong(id);
+                }
+            });
+            return matches;
+        }
+        List<Roaring64Bitmap> lists = new ArrayList<>();
+        for (long gram : grams(term)) {
+            Roaring64Bitmap posting = postings.get(gram);
+            if (posting == null) {
+                return matches;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+        Roaring64Bitmap candidates = lists.get(0).clone();
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.and(lists.get(i));
+        }
+        candidates.forEach(id -> {
+            if (texts.get(id).contains(term)) {
+                matches.addLong(id);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Adds a product to the strings and postings; the caller holds the write lock.
+     */
+    private void index(Product product) {
+        Long id = product.getId();
+        add(id, product.getName(), names, namePostings);
+        add(id, product.getCategory(), categories, categoryPostings);
+    }
+
+    /**
+     * Removes a product from the strings and postings; the caller holds the write lock.
+     */
+    private void unindex(Long id) {
+        remove(id, names, namePostings);
+        remove(id, categories, categoryPostings);
+    }
+
+    private static void add(Long id, String value, Map<Long, String> texts, Map<Long, Roaring64Bitmap> postings) {
+        if (value == null) {
+            return;
+        }
+        String text = normalize(value);
+        texts.put(id, text);
+        for (long gram : grams(text)) {
+            postings.computeIfAbsent(gram, key -> new Roaring64Bitmap()).addLong(id);
+        }
+    }
+
+    private static void remove(Long id, Map<Long, String> texts, Map<Long, Roaring64Bitmap> postings) {
+        String text = texts.remove(id);
+        if (text == null) {
+            return;
+        }
+        for (long gram : grams(text)) {
+            Roaring64Bitmap posting = postings.get(gram);
+            posting.removeLong(id);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct grams of a string, each packed into a long as three 16-bit characters.
+     */
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,384 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.product;
+
+import com.doksanbir.productordermanagementpoc.application.port.out.product.StockDeltaBufferPort;
+import com.doksanbir.productordermanagementpoc.domain.StockDelta;
+import com.doksanbir.productordermanagementpoc.domain.StockDeltaBatch;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.stream.Stream;
+
+/**
+ * In-memory write-behind buffer of stock adjustments, optionally backed by an append-only log.
+ * <p>
+ * Additions are summed per product in {@link LongAdder}s, which stripe concurrent updates over
+ * several cells instead of contending on a single counter. Removals only take from the additions
+ * buffered since the last drain, with a compare-and-set of the removed total against them, so the
+ * net adjustment of every drained batch is never negative and applying it cannot be rejected for
+ * insufficient stock. The counters of a product are kept once created, so the buffer grows with
+ * the number of adjusted products, not adjustments.
+ * <p>
+ * A flush drains the counters into a batch and writes the pending batches in order, discarding
+ * each once written, while holding a batch lock exclusively. Stock reads hold the same lock
+ * shared, so they see the stored stock and the buffered adjustments either both before or both
+ * after a batch was written, never counting the batch twice or not at all. Adjustments are not
+ * blocked by a flush. A batch whose write failed stays pending unchanged and is written first by
+ * the next flush.
+ * <p>
+ * When a log directory is configured, every adjustment is also appended to the current log
+ * segment and forced to disk before it is counted, so an acknowledged adjustment survives a
+ * crash. Each segment starts with a random batch ID and holds exactly the adjustments of that
+ * batch: draining the buffer closes the segment and starts a new one, and the segment is deleted
+ * once its batch has been written. On startup, the segments left by a previous run are replayed
+ * as pending batches with their original IDs, so the repository skips a batch it already applied
+ * before a crash instead of applying it twice. Appending and counting share a read lock that
+ * draining takes exclusively, so an adjustment always lands in the same batch as its log record.
+ */
+@Repository
+@Slf4j
+public class StockDeltaBufferAdapter implements StockDeltaBufferPort {
+
+    private static final String SEGMENT_PREFIX = "stock-deltas-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_SIZE = 2 * Long.BYTES;
+    private static final int RECORD_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final ConcurrentMap<Long, LongAdder> added = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, AtomicLong> removed = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReadWriteLock batchLock = new ReentrantReadWriteLock();
+    private final List<StockDeltaBatch> batches = new ArrayList<>();
+    private final Map<UUID, Path> batchSegments = new HashMap<>();
+    private final Path logDirectory;
+
+    private FileChannel segment;
+    private UUID segmentBatchId;
+    private long segmentSequence;
+
+    public StockDeltaBufferAdapter(@Value("${products.stock.write-behind.log-directory:}") String logDirectory) {
+        this.logDirectory = logDirectory.isBlank() ? null : Path.of(logDirectory);
+        if (this.logDirectory != null) {
+            replay();
+            openSegment();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * With a log directory, the addition is appended to the log before it is counted.
+     */
+    @Override
+    public void add(Long productId, int quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("Stock additions must not be negative");
+        }
+        if (quantity == 0) {
+            return;
+        }
+        if (logDirectory == null) {
+            count(productId, quantity);
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            append(productId, quantity);
+            count(productId, quantity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The removed total of the product is advanced with a compare-and-set against the additions
+     * counted since the last drain. With a log directory, the taken quantity is appended to the
+     * log before it is returned, and given back if that fails.
+     */
+    @Override
+    public int take(Long productId, int quantity) {
+        if (quantity <= 0) {
+            return 0;
+        }
+        lock.readLock().lock();
+        try {
+            AtomicLong removedCounter = removed.computeIfAbsent(productId, id -> new AtomicLong());
+            while (true) {
+                long removedSoFar = removedCounter.get();
+                int taken = (int) Math.min(quantity, sum(added, productId) - removedSoFar);
+                if (taken <= 0) {
+                    return 0;
+                }
+                if (removedCounter.compareAndSet(removedSoFar, removedSoFar + taken)) {
+                    if (logDirectory != null) {
+                        try {
+                            append(productId, -taken);
+                        } catch (RuntimeException e) {
+                            removedCounter.addAndGet(-taken);
+                            throw e;
+                        }
+                    }
+                    return taken;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The stored stock is read while holding the batch lock shared.
+     */
+    @Override
+    public int stock(Long productId, IntSupplier storedStock) {
+        batchLock.readLock().lock();
+        try {
+            long pending = 0;
+            for (StockDeltaBatch batch : batches) {
+                StockDelta delta = batch.deltas().get(productId);
+                pending += delta == null ? 0 : delta.net();
+            }
+            AtomicLong removedCounter = removed.get(productId);
+            pending += sum(added, productId) - (removedCounter == null ? 0 : removedCounter.get());
+            return Math.toIntExact(storedStock.getAsInt() + pending);
+        } finally {
+            batchLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The whole flush holds the batch lock exclusively. With a log directory, the segment of a
+     * written batch is deleted before its ID is passed on.
+     */
+    @Override
+    public void flush(Consumer<StockDeltaBatch> writer, Consumer<UUID> forget) {
+        batchLock.writeLock().lock();
+        try {
+            StockDeltaBatch drained = drain();
+            if (drained != null) {
+                batches.add(drained);
+            }
+            while (!batches.isEmpty()) {
+                StockDeltaBatch batch = batches.get(0);
+                writer.accept(batch);
+                batches.remove(0);
+                deleteSegment(batch.id());
+                forget.accept(batch.id());
+            }
+        } finally {
+            batchLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Closes the current log segment. Its adjustments remain in the log until they are flushed.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        if (segment != null) {
+            segment.close();
+        }
+    }
+
+    /**
+     * Takes the accumulated adjustments out of the counters as a new batch; with a log directory,
+     * the batch takes the ID of the current log segment, which is closed and replaced by a new one.
+     *
+     * @return the batch, or {@code null} if nothing was adjusted since the last drain
+     */
+    private StockDeltaBatch drain() {
+        lock.writeLock().lock();
+        try {
+            Set<Long> productIds = new HashSet<>(added.keySet());
+            productIds.addAll(removed.keySet());
+            Map<Long, StockDelta> deltas = new HashMap<>();
+            for (Long productId : productIds) {
+                AtomicLong removedCounter = removed.get(productId);
+                StockDelta delta = new StockDelta(drain(added, productId),
+                        removedCounter == null ? 0 : Math.toIntExact(removedCounter.getAndSet(0)));
+                if (delta.added() != 0 || delta.removed() != 0) {
+                    deltas.put(productId, delta);
+                }
+            }
+            if (deltas.isEmpty()) {
+                return null;
+            }
+            if (logDirectory == null) {
+                return new StockDeltaBatch(UUID.randomUUID(), Map.copyOf(deltas));
+            }
+            StockDeltaBatch batch = new StockDeltaBatch(segmentBatchId, Map.copyOf(deltas));
+            rotateSegment();
+            return batch;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void count(Long productId, int delta) {
+        if (delta > 0) {
+            added.computeIfAbsent(productId, id -> new LongAdder()).add(delta);
+        } else if (delta < 0) {
+            removed.computeIfAbsent(productId, id -> new AtomicLong()).addAndGet(-(long) delta);
+        }
+    }
+
+    private static long sum(Map<Long, LongAdder> counters, Long productId) {
+        LongAdder counter = counters.get(productId);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    private static int drain(Map<Long, LongAdder> counters, Long productId) {
+        LongAdder counter = counters.get(productId);
+        return counter == null ? 0 : Math.toIntExact(counter.sumThenReset());
+    }
+
+    /**
+     * Appends one record to the current log segment and forces it to disk; concurrent appends are
+     * serialized by the channel.
+     */
+    private void append(Long productId, int delta) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).putLong(productId).putInt(delta).flip();
+        try {
+            while (record.hasRemaining()) {
+                segment.write(record);
+            }
+            segment.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the current log segment as the segment of the drained batch and opens the next one;
+     * the caller holds the write lock.
+     */
+    private void rotateSegment() {
+        try {
+            segment.close();
+            batchSegments.put(segmentBatchId, segmentPath(segmentSequence));
+            segmentSequence++;
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates the next log segment with a new batch ID as its header, and forces both the segment
+     * and its directory entry to disk.
+     */
+    private void openSegment() {
+        segmentBatchId = UUID.randomUUID();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putLong(segmentBatchId.getMostSignificantBits())
+                .putLong(segmentBatchId.getLeastSignificantBits())
+                .flip();
+        try {
+            segment = FileChannel.open(segmentPath(segmentSequence),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            while (header.hasRemaining()) {
+                segment.write(header);
+            }
+            segment.force(true);
+            try (FileChannel directory = FileChannel.open(logDirectory, StandardOpenOption.READ)) {
+                directory.force(true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteSegment(UUID batchId) {
+        Path batchSegment = batchSegments.remove(batchId);
+        if (batchSegment == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(batchSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the log segments left by a previous run, in sequence order, into one pending batch per
+     * segment, keeping the segments until their batches are written. Segments without adjustments
+     * are deleted, and a truncated trailing record, whose adjustment was never acknowledged, is
+     * ignored.
+     */
+    private void replay() {
+        try {
+            Files.createDirectories(logDirectory);
+            List<Path> segments;
+            try (Stream<Path> files = Files.list(logDirectory)) {
+                segments = files
+                        .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                        .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .sorted(Comparator.comparingLong(StockDeltaBufferAdapter::sequenceOf))
+                        .toList();
+            }
+            long records = 0;
+            for (Path file : segments) {
+                segmentSequence = Math.max(segmentSequence, sequenceOf(file) + 1);
+                ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+                Map<Long, StockDelta> deltas = new HashMap<>();
+                UUID batchId = content.remaining() >= HEADER_SIZE ? new UUID(content.getLong(), content.getLong()) : null;
+                while (content.remaining() >= RECORD_SIZE) {
+                    long productId = content.getLong();
+                    int delta = content.getInt();
+                    StockDelta sum = deltas.getOrDefault(productId, new StockDelta(0, 0));
+                    deltas.put(productId, delta > 0
+                            ? new StockDelta(sum.added() + delta, sum.removed())
+                            : new StockDelta(sum.added(), sum.removed() - delta));
+                    records++;
+                }
+                if (deltas.isEmpty()) {
+                    Files.delete(file);
+                    continue;
+                }
+                batches.add(new StockDeltaBatch(batchId, Map.copyOf(deltas)));
+                batchSegments.put(batchId, file);
+            }
+            if (records > 0) {
+                log.info("Replayed {} unflushed stock adjustments in {} batches", records, batches.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return logDirectory.resolve(SEGMENT_PREFIX + sequence + SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -1,11 +1,20 @@
 package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.product.persistence;
 
 import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for the {@link Product} entity.
@@ -32,4 +41,60 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long>, JpaS
      * @return a list of products matching the name and category criteria
      */
     List<Product> findByNameContainingAndCategoryContaining(String name, String category);
+
+    /**
+     * Finds which of the given IDs belong to existing products.
+     *
+     * @param ids the IDs to check
+     * @return the IDs that exist
+     */
+    @Query("select p.id from Product p where p.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Finds the summaries of products with an ID greater than the given one, ordered by ID.
+     * <p>
+     * Used for keyset pagination: the query is a range scan on the primary key index,
+     * so its cost does not depend on how many rows precede the page.
+     *
+     * @param id    the exclusive lower bound of the IDs
+     * @param limit the maximum number of products to return
+     * @return a list of product summaries ordered by ID
+     */
+    @Query("""
+            select new com.doksanbir.productordermanagementpoc.domain.ProductSummary(
+                p.id, p.name, p.price, p.stockQuantity + p.bucketStockQuantity, p.category)
+            from Product p
+            where p.id > :id
+            order by p.id""")
+    List<ProductSummary> findSummariesByIdGreaterThan(Long id, Limit limit);
+
+    /**
+     * Finds the summaries of the products with the given IDs, ordered by ID.
+     *
+     * @param ids the IDs of the products
+     * @return a list of product summaries ordered by ID
+     */
+    @Query("""
+            select new com.doksanbir.productordermanagementpoc.domain.ProductSummary(
+                p.id, p.name, p.price, p.stockQuantity + p.bucketStockQuantity, p.category)
+            from Product p
+            where p.id in :ids
+            order by p.id""")
+    List<ProductSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * Streams all products ordered by ID.
+     * <p>
+     * The fetch size hint makes the PostgreSQL driver read rows through a server-side cursor
+     * in chunks instead of materializing the whole result set in memory.
+     *
+     * @return a stream of products, to be consumed within a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Product p order by p.id")
+    Stream<Product> streamAllByOrderById();
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.doksanbir.productordermanagementpoc.shared;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,7 +11,7 @@ import java.time.LocalDateTime;
  * Base entity providing common audit fields and lifecycle callbacks.
  * <p>
  * This abstract class defines common properties and behaviors for entities,
- * such as ID, createdAt, and updatedAt fields. It also provides lifecycle
+ * such as ID, version, createdAt, and updatedAt fields. It also provides lifecycle
  * callback methods to automatically set timestamps during entity persistence
  * and updates.
  * </p>
@@ -30,6 +31,19 @@ public abstract class BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * The version of the entity, used for optimistic locking.
+     * <p>
+     * It is incremented by every update, which only applies if the stored version still equals the
+     * version that was read, so a write based on a stale read fails instead of overwriting a newer one.
+     * Clients cannot set it; they pass the version they expect in an {@code If-Match} header instead.
+     * </p>
+     */
+    @Version
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     /**
      * The timestamp when the entity was created.
      * <p>
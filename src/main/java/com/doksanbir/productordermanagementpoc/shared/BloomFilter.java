@@ -0,0 +1,97 @@
+package com.doksanbir.productordermanagementpoc.shared;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A compact, probabilistic set of strings.
+ * <p>
+ * A Bloom filter answers "definitely not present" or "possibly present" using a fixed number of bits,
+ * no matter how long the strings are. It is sized up front from the expected number of insertions and
+ * the acceptable false positive probability; a "possibly present" answer has to be confirmed against
+ * the authoritative source, while a "definitely not present" answer never has to be.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] bits;
+    private final long numBits;
+    private final int numHashFunctions;
+
+    /**
+     * Creates an empty Bloom filter.
+     *
+     * @param expectedInsertions       the number of values expected to be inserted
+     * @param falsePositiveProbability the desired false positive probability, between 0 and 1
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1");
+        }
+        long insertions = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.numBits = Math.max(64, optimalBits);
+        this.numHashFunctions = Math.max(1, (int) Math.round((double) numBits / insertions * Math.log(2)));
+        this.bits = new long[(int) ((numBits + 63) / 64)];
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value the value to add
+     */
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, numBits);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    /**
+     * Tests whether a value may have been added to the filter.
+     *
+     * @param value the value to test
+     * @return {@code false} if the value was definitely never added, {@code true} if it possibly was
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the 64-bit FNV-1a hash of the UTF-8 bytes of a value.
+     */
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Derives a second, independent hash using the SplitMix64 finalizer; forced odd so that
+     * the probe sequence {@code hash1 + i * hash2} never degenerates.
+     */
+    private static long mix(long hash) {
+        long z = hash + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return (z ^ (z >>> 31)) | 1L;
+    }
+}
@@ -0,0 +1,88 @@
+package com.doksanbir.productordermanagementpoc.shared;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses the data lines of a CSV document into rows keyed by the columns of its header line.
+ * <p>
+ * Fields are separated by commas and may be enclosed in double quotes, in which case they may
+ * contain commas and quotes escaped as {@code ""}. Quoted fields must not span lines. Empty
+ * unquoted fields are read as {@code null}, empty quoted fields as the empty string.
+ */
+public class CsvRowParser {
+
+    private final List<String> columns;
+
+    /**
+     * Creates a parser for the data lines following a header line.
+     *
+     * @param header the header line naming the columns
+     */
+    public CsvRowParser(String header) {
+        this.columns = parseLine(header).stream()
+                .map(column -> column == null ? "" : column.trim())
+                .toList();
+    }
+
+    /**
+     * Parses one data line.
+     *
+     * @param line the CSV line
+     * @return the fields of the line keyed by their column names
+     * @throws IllegalArgumentException if the line does not have one field per column or has an unterminated quoted field
+     */
+    public Map<String, String> parse(String line) {
+        List<String> fields = parseLine(line);
+        if (fields.size() != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " fields but found " + fields.size());
+        }
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            row.put(columns.get(i), fields.get(i));
+        }
+        return row;
+    }
+
+    /**
+     * Splits one CSV line into fields, honouring double-quoted fields with escaped {@code ""} quotes.
+     *
+     * @param line the CSV line
+     * @return the fields; empty unquoted fields are returned as {@code null}
+     */
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+        return fields;
+    }
+}
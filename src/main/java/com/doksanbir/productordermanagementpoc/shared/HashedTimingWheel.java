@@ -0,0 +1,136 @@
+package com.doksanbir.productordermanagementpoc.shared;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * A hashed timing wheel of {@code long} keys with deadlines.
+ * <p>
+ * Time is divided into ticks of a fixed duration, and a key is stored in the slot of the tick its
+ * deadline falls into, modulo the number of slots. Scheduling a key appends it to one slot, and
+ * advancing the wheel by one tick visits only the keys of one slot, keeping those whose deadline
+ * lies one or more revolutions ahead. Both are O(1) per key, however many keys are scheduled,
+ * and no thread or timer object is created per key. Keys expire at the first tick at or after
+ * their deadline, so a deadline is honoured with the precision of one tick.
+ * <p>
+ * Keys cannot be removed; callers that no longer care about a key ignore it when it expires.
+ * Each slot stores its keys and deadline ticks in two primitive arrays guarded by its own lock,
+ * so concurrent scheduling only contends within a slot. The wheel is advanced by one thread at a time.
+ */
+public class HashedTimingWheel {
+
+    private static final int INITIAL_SLOT_CAPACITY = 16;
+
+    private final long tickMillis;
+    private final int mask;
+    private final long[][] keys;
+    private final long[][] deadlineTicks;
+    private final int[] sizes;
+    private final ReentrantLock[] locks;
+
+    private volatile long processedTick;
+
+    /**
+     * Creates an empty timing wheel.
+     *
+     * @param tickMillis the duration of one tick in milliseconds
+     * @param slots      the number of slots, rounded up to a power of two; a wheel whose revolution
+     *                   spans the usual deadline distance visits each key only once
+     * @param nowMillis  the current time in milliseconds
+     */
+    public HashedTimingWheel(long tickMillis, int slots, long nowMillis) {
+        if (tickMillis <= 0 || slots <= 0) {
+            throw new IllegalArgumentException("Tick duration and number of slots must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.keys = new long[size][];
+        this.deadlineTicks = new long[size][];
+        this.sizes = new int[size];
+        this.locks = new ReentrantLock[size];
+        for (int slot = 0; slot < size; slot++) {
+            keys[slot] = new long[INITIAL_SLOT_CAPACITY];
+            deadlineTicks[slot] = new long[INITIAL_SLOT_CAPACITY];
+            locks[slot] = new ReentrantLock();
+        }
+        this.processedTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    /**
+     * Schedules a key to expire at a deadline. A deadline in the past expires at the next tick.
+     *
+     * @param key            the key
+     * @param deadlineMillis the deadline in milliseconds
+     */
+    public void schedule(long key, long deadlineMillis) {
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), processedTick + 1);
+        int slot = (int) (tick & mask);
+        ReentrantLock lock = locks[slot];
+        lock.lock();
+        try {
+            int size = sizes[slot];
+            if (size == keys[slot].length) {
+                keys[slot] = Arrays.copyOf(keys[slot], size * 2);
+                deadlineTicks[slot] = Arrays.copyOf(deadlineTicks[slot], size * 2);
+            }
+            keys[slot][size] = key;
+            deadlineTicks[slot][size] = tick;
+            sizes[slot] = size + 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time and removes the keys whose deadline has passed.
+     * <p>
+     * A key scheduled with a past deadline while the wheel advances may expire one revolution late.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @param expired   receives each expired key
+     * @return the number of expired keys
+     */
+    public synchronized int advance(long nowMillis, LongConsumer expired) {
+        long currentTick = Math.floorDiv(nowMillis, tickMillis);
+        long ticks = Math.min(currentTick - processedTick, mask + 1L);
+        int count = 0;
+        for (long tick = currentTick - ticks + 1; tick <= currentTick; tick++) {
+            count += expire((int) (tick & mask), currentTick, expired);
+        }
+        processedTick = Math.max(processedTick, currentTick);
+        return count;
+    }
+
+    /**
+     * Removes the keys of one slot that are due at the given tick, keeping the others in place.
+     */
+    private int expire(int slot, long currentTick, LongConsumer expired) {
+        ReentrantLock lock = locks[slot];
+        lock.lock();
+        try {
+            long[] slotKeys = keys[slot];
+            long[] slotDeadlineTicks = deadlineTicks[slot];
+            int kept = 0;
+            int size = sizes[slot];
+            for (int i = 0; i < size; i++) {
+                if (slotDeadlineTicks[i] <= currentTick) {
+                    expired.accept(slotKeys[i]);
+                } else {
+                    slotKeys[kept] = slotKeys[i];
+                    slotDeadlineTicks[kept] = slotDeadlineTicks[i];
+                    kept++;
+                }
+            }
+            sizes[slot] = kept;
+            if (kept == 0 && slotKeys.length > INITIAL_SLOT_CAPACITY) {
+                keys[slot] = new long[INITIAL_SLOT_CAPACITY];
+                deadlineTicks[slot] = new long[INITIAL_SLOT_CAPACITY];
+            }
+            return size - kept;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
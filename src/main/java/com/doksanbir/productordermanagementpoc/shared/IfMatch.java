@@ -0,0 +1,37 @@
+package com.doksanbir.productordermanagementpoc.shared;
+
+import org.springframework.http.ETag;
+
+import java.util.List;
+
+/**
+ * Reads {@code If-Match} headers of conditional updates, whose entity tags are entity versions.
+ */
+public final class IfMatch {
+
+    private static final long UNMATCHABLE_VERSION = -1;
+
+    private IfMatch() {
+    }
+
+    /**
+     * Reads the version expected by an {@code If-Match} header. Only a single strong tag can match,
+     * any other value fails the precondition.
+     *
+     * @param ifMatch the header value, or {@code null} if the header is absent
+     * @return the expected version, or {@code null} if the header is absent or {@code *}
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.size() == 1 && tags.get(0).isWildcard()) {
+            return null;
+        }
+        if (tags.size() == 1 && !tags.get(0).weak() && tags.get(0).tag().matches("\\d{1,18}")) {
+            return Long.valueOf(tags.get(0).tag());
+        }
+        return UNMATCHABLE_VERSION;
+    }
+}
@@ -0,0 +1,44 @@
+package com.doksanbir.productordermanagementpoc.shared;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Streams values to a response body as newline-delimited JSON.
+ * <p>
+ * Each value is serialized and written as soon as it is produced, so neither the values nor their
+ * JSON representation are ever held in memory all at once.
+ */
+public final class NdjsonResponseBody {
+
+    private NdjsonResponseBody() {
+    }
+
+    /**
+     * Creates a response body that writes every value a producer passes to its sink as one line.
+     *
+     * @param objectMapper the mapper serializing the values
+     * @param producer     passes the values to write to the given sink, in order
+     * @return the streaming response body
+     */
+    public static <T> StreamingResponseBody of(ObjectMapper objectMapper, Consumer<Consumer<T>> producer) {
+        return outputStream -> producer.accept(value -> writeLine(objectMapper, outputStream, value));
+    }
+
+    /**
+     * Writes a single value as one line of newline-delimited JSON.
+     */
+    private static void writeLine(ObjectMapper objectMapper, OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
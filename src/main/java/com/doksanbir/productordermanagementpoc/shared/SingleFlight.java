@@ -0,0 +1,162 @@
+package com.doksanbir.productordermanagementpoc.shared;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key into one.
+ * <p>
+ * The first caller of a key becomes the leader and runs the load; callers arriving while it is in
+ * flight wait for its result instead of loading the key again. A failed load is rethrown to every
+ * waiting caller. Nothing is cached: once the load completes, the next caller loads again. A
+ * load that may have read a value older than a write can be forgotten once the write is visible,
+ * so callers arriving afterwards start a load of their own instead of joining it.
+ * <p>
+ * Memory is bounded by the number of keys in flight; beyond the configured maximum, callers load
+ * without coalescing. A waiting caller gives up after the configured timeout and loads the key
+ * itself, so a stuck leader delays its followers by at most the timeout. The number of loaded,
+ * coalesced, timed out and uncoalesced calls is counted, from which the coalescing ratio follows.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded values
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+    private final long timeoutNanos;
+    private final LongAdder loaded = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    /**
+     * Creates a single-flight group with no loads in flight.
+     *
+     * @param maxInFlight the maximum number of keys in flight at once
+     * @param timeout     how long a caller waits for a load in flight before loading itself
+     */
+    public SingleFlight(int maxInFlight, Duration timeout) {
+        if (maxInFlight <= 0 || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Maximum number of keys in flight and timeout must be positive");
+        }
+        this.maxInFlight = maxInFlight;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * Loads the value of a key, sharing the result of a load of the same key already in flight.
+     *
+     * @param key    the key
+     * @param loader loads the value of the key
+     * @return the loaded value, possibly loaded by another caller
+     */
+    public V load(K key, Supplier<V> loader) {
+        if (inFlight.size() >= maxInFlight) {
+            overflowed.increment();
+            return loader.get();
+        }
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, call);
+        if (leader != null) {
+            return await(leader, loader);
+        }
+        loaded.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Captures the load of a key in flight, if any, and returns an action that forgets it, so that
+     * callers arriving afterwards load the key again instead of joining it. The action only removes
+     * the captured load: a load of the key started after this call is left in flight. Callers
+     * already waiting still receive the result of the forgotten load.
+     *
+     * @param key the key
+     * @return the action forgetting the load in flight at the time of this call
+     */
+    public Runnable forgetting(K key) {
+        CompletableFuture<V> call = inFlight.get(key);
+        if (call == null) {
+            return () -> {
+            };
+        }
+        return () -> inFlight.remove(key, call);
+    }
+
+    /**
+     * Waits for the load of a leader; loads the key itself when the leader takes longer than the timeout.
+     */
+    private V await(CompletableFuture<V> leader, Supplier<V> loader) {
+        try {
+            V value = leader.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return value;
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a load in flight", e);
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @return the number of keys currently in flight
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return the number of calls that ran a load as the leader
+     */
+    public long loaded() {
+        return loaded.sum();
+    }
+
+    /**
+     * @return the number of calls that shared the load of a leader
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the number of calls that stopped waiting for a leader and loaded themselves
+     */
+    public long timedOut() {
+        return timedOut.sum();
+    }
+
+    /**
+     * @return the number of calls that loaded without coalescing because too many keys were in flight
+     */
+    public long overflowed() {
+        return overflowed.sum();
+    }
+}
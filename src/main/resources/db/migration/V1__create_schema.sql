@@ -0,0 +1,24 @@
+-- Products and orders as mapped by the Product and Order entities.
+
+CREATE TABLE products (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name           VARCHAR(255)     NOT NULL,
+    description    VARCHAR(255),
+    price          DOUBLE PRECISION NOT NULL,
+    stock_quantity INTEGER          NOT NULL,
+    category       VARCHAR(255),
+    created_at     TIMESTAMP(6)     NOT NULL,
+    updated_at     TIMESTAMP(6)     NOT NULL,
+    CONSTRAINT uk_products_name UNIQUE (name)
+);
+
+CREATE TABLE orders (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id BIGINT       NOT NULL,
+    quantity   INTEGER      NOT NULL,
+    status     VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_orders_product FOREIGN KEY (product_id) REFERENCES products (id),
+    CONSTRAINT ck_orders_status CHECK (status IN ('PENDING', 'CONFIRMED', 'SHIPPED', 'DELIVERED', 'CANCELLED'))
+);
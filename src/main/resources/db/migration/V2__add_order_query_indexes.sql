@@ -0,0 +1,19 @@
+-- Indexes for the order read paths. Every order listing and search returns rows ordered by id,
+-- so id is the trailing column of each composite index: the equality filters select one
+-- contiguous index range that is already in result order and needs no sort.
+
+-- findByStatus, OrderSpecification.hasStatus
+CREATE INDEX idx_orders_status_id ON orders (status, id);
+
+-- OrderSpecification.hasProductId, and the foreign key lookups done when a product is deleted
+CREATE INDEX idx_orders_product_id_id ON orders (product_id, id);
+
+-- advanced search combining hasStatus and hasProductId
+CREATE INDEX idx_orders_product_id_status_id ON orders (product_id, status, id);
+
+-- time-range queries over all orders
+CREATE INDEX idx_orders_created_at ON orders (created_at);
+
+-- pending orders are the small, hot working set of order processing; a partial index keeps
+-- scanning them by age cheap without indexing the ever-growing history of finished orders
+CREATE INDEX idx_orders_pending_created_at ON orders (created_at, id) WHERE status = 'PENDING';
@@ -0,0 +1,9 @@
+-- Progress of the chunked order batch processor. One row per status being drained holds the
+-- highest order id processed so far; the row is written in the same transaction as each chunk,
+-- so a drain interrupted by a crash or shutdown resumes right after the last committed chunk.
+-- The row is removed once the status has been drained.
+CREATE TABLE order_batch_checkpoints (
+    status        VARCHAR(255) NOT NULL PRIMARY KEY,
+    last_order_id BIGINT       NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,129 @@
+-- Sharded inventory for hot products. A sharded product keeps its stock in stock_buckets rows of
+-- product_stock_buckets instead of its own stock_quantity, so concurrent adjustments spread their
+-- row locks over several rows. The stock of a product is always stock_quantity plus the sum of its
+-- buckets; stock_quantity is zero while the product is sharded.
+
+ALTER TABLE products ADD COLUMN stock_buckets INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE product_stock_buckets (
+    product_id BIGINT  NOT NULL,
+    bucket     INTEGER NOT NULL,
+    quantity   INTEGER NOT NULL,
+    CONSTRAINT pk_product_stock_buckets PRIMARY KEY (product_id, bucket),
+    CONSTRAINT fk_product_stock_buckets_product FOREIGN KEY (product_id) REFERENCES products (id) ON DELETE CASCADE,
+    CONSTRAINT ck_product_stock_buckets_quantity CHECK (quantity >= 0)
+);
+
+-- Spreads the stock of a sharded product evenly over its buckets. The buckets are locked in
+-- bucket order first, so concurrent rebalances of the same product cannot deadlock.
+-- Returns the stock held in the buckets, or NULL if the product has no buckets.
+CREATE FUNCTION rebalance_stock_buckets(p_product_id BIGINT) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_buckets INTEGER;
+    v_stock   INTEGER;
+BEGIN
+    PERFORM 1 FROM product_stock_buckets WHERE product_id = p_product_id ORDER BY bucket FOR UPDATE;
+    SELECT count(*), sum(quantity) INTO v_buckets, v_stock
+    FROM product_stock_buckets WHERE product_id = p_product_id;
+    IF v_buckets = 0 THEN
+        RETURN NULL;
+    END IF;
+    UPDATE product_stock_buckets
+    SET quantity = v_stock / v_buckets + CASE WHEN bucket < v_stock % v_buckets THEN 1 ELSE 0 END
+    WHERE product_id = p_product_id;
+    RETURN v_stock;
+END $$;
+
+-- Adds a delta to the stock of a product, unless that would make the stock negative.
+-- Returns the new stock, or NULL if the product does not exist or has insufficient stock.
+--
+-- An unsharded product is updated with a single guarded UPDATE of its row. A sharded product
+-- takes the delta from a random bucket that can absorb it, skipping buckets locked by concurrent
+-- adjustments, so parallel adjustments of one product rarely wait for each other. Only when no
+-- such bucket is free does it wait for all buckets, check the total and rebalance them.
+CREATE FUNCTION adjust_stock(p_product_id BIGINT, p_delta INTEGER) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_stock_buckets INTEGER;
+    v_stock         INTEGER;
+BEGIN
+    UPDATE products
+    SET stock_quantity = stock_quantity + p_delta, updated_at = now()
+    WHERE id = p_product_id AND stock_buckets = 0 AND stock_quantity + p_delta >= 0
+    RETURNING stock_quantity INTO v_stock;
+    IF FOUND THEN
+        RETURN v_stock;
+    END IF;
+
+    SELECT stock_buckets INTO v_stock_buckets FROM products WHERE id = p_product_id;
+    IF NOT FOUND OR v_stock_buckets = 0 THEN
+        RETURN NULL;
+    END IF;
+
+    UPDATE product_stock_buckets
+    SET quantity = quantity + p_delta
+    WHERE (product_id, bucket) = (
+        SELECT product_id, bucket
+        FROM product_stock_buckets
+        WHERE product_id = p_product_id AND quantity + p_delta >= 0
+        ORDER BY random()
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED);
+    IF NOT FOUND THEN
+        v_stock := rebalance_stock_buckets(p_product_id);
+        IF v_stock IS NULL THEN
+            -- the product was unsharded concurrently
+            RETURN adjust_stock(p_product_id, p_delta);
+        END IF;
+        IF v_stock + p_delta < 0 THEN
+            RETURN NULL;
+        END IF;
+        UPDATE product_stock_buckets
+        SET quantity = quantity + p_delta
+        WHERE (product_id, bucket) = (
+            SELECT product_id, bucket
+            FROM product_stock_buckets
+            WHERE product_id = p_product_id AND quantity + p_delta >= 0
+            ORDER BY quantity DESC
+            LIMIT 1);
+        IF NOT FOUND THEN
+            -- the delta exceeds every evenly filled bucket: collapse the stock into one bucket
+            UPDATE product_stock_buckets
+            SET quantity = CASE WHEN bucket = 0 THEN v_stock + p_delta ELSE 0 END
+            WHERE product_id = p_product_id;
+        END IF;
+    END IF;
+
+    SELECT stock_quantity
+               + coalesce((SELECT sum(quantity) FROM product_stock_buckets WHERE product_id = p_product_id), 0)
+    INTO v_stock
+    FROM products
+    WHERE id = p_product_id;
+    RETURN v_stock;
+END $$;
+
+-- Moves the stock of a product into the given number of buckets, or back into the product row
+-- when the number is zero. Returns the stock, or NULL if the product does not exist.
+CREATE FUNCTION shard_stock(p_product_id BIGINT, p_buckets INTEGER) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_stock INTEGER;
+BEGIN
+    SELECT stock_quantity INTO v_stock FROM products WHERE id = p_product_id FOR UPDATE;
+    IF NOT FOUND THEN
+        RETURN NULL;
+    END IF;
+    v_stock := v_stock + coalesce(rebalance_stock_buckets(p_product_id), 0);
+    DELETE FROM product_stock_buckets WHERE product_id = p_product_id;
+    INSERT INTO product_stock_buckets (product_id, bucket, quantity)
+    SELECT p_product_id, bucket, v_stock / p_buckets + CASE WHEN bucket < v_stock % p_buckets THEN 1 ELSE 0 END
+    FROM generate_series(0, p_buckets - 1) AS bucket
+    WHERE p_buckets > 0;
+    UPDATE products
+    SET stock_quantity = CASE WHEN p_buckets > 0 THEN 0 ELSE v_stock END,
+        stock_buckets = p_buckets,
+        updated_at = now()
+    WHERE id = p_product_id;
+    RETURN v_stock;
+END $$;
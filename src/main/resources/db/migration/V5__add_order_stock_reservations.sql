@@ -0,0 +1,9 @@
+-- Stock reservations. An order placed through the single-statement placement takes its quantity
+-- from the product stock up front; stock_reserved records that, so that cancelling the order, or
+-- the expiry of a pending reservation, gives the quantity back exactly once. Orders inserted
+-- without touching the stock, such as bulk-created orders, keep the default.
+
+ALTER TABLE orders ADD COLUMN stock_reserved BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- live reservations are reloaded into the expiry wheel on startup
+CREATE INDEX idx_orders_pending_reserved_id ON orders (id) WHERE status = 'PENDING' AND stock_reserved;
@@ -0,0 +1,16 @@
+-- Idempotency keys of created orders. A key is inserted by the same statement that places its
+-- order, so a retried request either finds the key and gets the order it created, or places the
+-- order itself; never both. Keys are removed with their order, and purged once they are older
+-- than the retention period.
+CREATE TABLE order_idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    order_id        BIGINT       NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_order_idempotency_keys_order FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
+);
+
+-- purge of expired keys
+CREATE INDEX idx_order_idempotency_keys_created_at ON order_idempotency_keys (created_at);
+
+-- foreign key lookups done when an order is deleted
+CREATE INDEX idx_order_idempotency_keys_order_id ON order_idempotency_keys (order_id);
@@ -0,0 +1,7 @@
+-- Optimistic locking. Every JPA update of an order or product checks and increments the row's
+-- version, so a write based on a stale read fails instead of silently overwriting a newer one.
+-- Set-based order updates increment the version as well; stock adjustments do not, since the
+-- stock columns are never written by an entity update.
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE products ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
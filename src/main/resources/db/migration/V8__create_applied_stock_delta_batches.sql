@@ -0,0 +1,8 @@
+-- Write-behind stock batches that have been applied. A batch ID is inserted in the same
+-- transaction that applies the batch, so a batch replayed from the delta log after a crash
+-- between applying it and deleting its log segment is recognized and skipped instead of being
+-- applied twice. The row is removed once the log segment of the batch has been deleted.
+CREATE TABLE applied_stock_delta_batches (
+    batch_id   UUID         NOT NULL PRIMARY KEY,
+    applied_at TIMESTAMP(6) NOT NULL
+);
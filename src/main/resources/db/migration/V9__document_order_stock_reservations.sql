@@ -0,0 +1,7 @@
+-- Every order placement now reserves its quantity from the product stock, bulk-created orders
+-- included, so stock_reserved is set on all orders placed since; only orders inserted before
+-- bulk creation reserved stock keep the FALSE default described in V5. Cancelling or deleting
+-- an order, or the expiry of a pending reservation, gives the quantity back exactly once.
+COMMENT ON COLUMN orders.stock_reserved IS
+    'Whether the quantity of the order was taken from the product stock when it was placed, '
+    'so cancelling, deleting or expiring the order gives it back; set by single and bulk placements';
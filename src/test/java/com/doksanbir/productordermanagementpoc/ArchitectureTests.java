@@ -82,8 +82,10 @@ public class ArchitectureTests {
 
     @Test
     void repositories_should_have_repository_annotation() {
+        // Unit tests of the adapters live in the adapter packages, next to the classes they test
         ArchRule rule = classes()
                 .that().resideInAPackage("..infrastructure.adapter.out..")
+                .and().haveSimpleNameNotEndingWith("Test")
                 .should().beAnnotatedWith(org.springframework.stereotype.Repository.class);
 
         rule.check(importedClasses);
@@ -0,0 +1,91 @@
+package com.doksanbir.productordermanagementpoc.application.strategy.order;
+
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that the order state machine compiles the legal transitions, runs the strategies
+ * as actions in memory and guards against strategies producing illegal transitions.
+ */
+class OrderStateMachineTest {
+
+    private final OrderStateMachine stateMachine = new OrderStateMachine(strategies(
+            new PendingOrderProcessingStrategy(),
+            new ConfirmedOrderProcessingStrategy(),
+            new ShippedOrderProcessingStrategy()));
+
+    @Test
+    void transitionTableMatchesOrderStatus() {
+        for (OrderStatus from : OrderStatus.values()) {
+            for (OrderStatus to : OrderStatus.values()) {
+                assertThat(stateMachine.canTransition(from, to))
+                        .as("%s -> %s", from, to)
+                        .isEqualTo(from == to || from.canTransitionTo(to));
+                assertThat(stateMachine.sourcesOf(to).contains(from))
+                        .as("%s in sources of %s", from, to)
+                        .isEqualTo(from.canTransitionTo(to));
+            }
+        }
+    }
+
+    @Test
+    void fireAppliesActionOfCurrentStatus() {
+        Order order = order(OrderStatus.PENDING);
+
+        assertThat(stateMachine.fire(order)).isTrue();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+
+        Order delivered = order(OrderStatus.DELIVERED);
+        assertThat(stateMachine.fire(delivered)).isFalse();
+        assertThat(delivered.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+    }
+
+    @Test
+    void strategiesWithIllegalTransitionsAreRejected() {
+        assertThatIllegalStateException().isThrownBy(() -> new OrderStateMachine(strategies(
+                strategy(OrderStatus.PENDING, OrderStatus.DELIVERED, Optional.of(OrderStatus.DELIVERED)))));
+
+        OrderStateMachine guarded = new OrderStateMachine(strategies(
+                strategy(OrderStatus.SHIPPED, OrderStatus.PENDING, Optional.empty())));
+        assertThatIllegalStateException().isThrownBy(() -> guarded.fire(order(OrderStatus.SHIPPED)));
+    }
+
+    private static Map<OrderStatus, OrderProcessingStrategy> strategies(OrderProcessingStrategy... strategies) {
+        Map<OrderStatus, OrderProcessingStrategy> map = new EnumMap<>(OrderStatus.class);
+        for (OrderProcessingStrategy strategy : List.of(strategies)) {
+            map.put(strategy.getHandledStatus(), strategy);
+        }
+        return map;
+    }
+
+    private static OrderProcessingStrategy strategy(OrderStatus handled, OrderStatus result, Optional<OrderStatus> target) {
+        OrderProcessingStrategy strategy = mock(OrderProcessingStrategy.class);
+        when(strategy.getHandledStatus()).thenReturn(handled);
+        when(strategy.getTargetStatus()).thenReturn(target);
+        doAnswer(invocation -> {
+            invocation.<Order>getArgument(0).setStatus(result);
+            return null;
+        }).when(strategy).process(any());
+        return strategy;
+    }
+
+    private static Order order(OrderStatus status) {
+        Order order = new Order();
+        order.setId(1L);
+        order.setStatus(status);
+        return order;
+    }
+}
@@ -0,0 +1,69 @@
+package com.doksanbir.productordermanagementpoc.configuration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the order processing pool pushes back on producers once its workers are busy and
+ * its queue is full, by running the rejected order on the submitting thread instead of dropping it.
+ */
+class OrderProcessingConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolTaskExecutor executor =
+            new OrderProcessingConfig().orderProcessingExecutor(1, 1, meterRegistry);
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void callerProcessesOrdersWhenThePoolIsFull() throws Exception {
+        executor.initialize();
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        executor.execute(() -> {
+            workerBusy.countDown();
+            await(release);
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        });
+        assertThat(workerBusy.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> {
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        });
+        assertThat(meterRegistry.get("orders.processing.queue.depth").gauge().value()).isEqualTo(1);
+
+        executor.execute(() -> {
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        });
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).hasSize(3).filteredOn(name -> name.startsWith("order-processing-")).hasSize(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
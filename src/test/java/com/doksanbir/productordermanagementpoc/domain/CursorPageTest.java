@@ -0,0 +1,40 @@
+package com.doksanbir.productordermanagementpoc.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Verifies that a page only carries a next cursor when more elements follow it, that the cursor
+ * points at the last element of the page, and that cursors survive the round trip.
+ */
+class CursorPageTest {
+
+    @Test
+    void pageWithoutExtraElementIsTheLastOne() {
+        assertThat(CursorPage.of(List.of(1L, 2L, 3L), 3, Function.identity()))
+                .isEqualTo(new CursorPage<>(List.of(1L, 2L, 3L), null));
+        assertThat(CursorPage.of(List.of(1L), 3, Function.identity()).nextCursor()).isNull();
+        assertThat(CursorPage.of(List.<Long>of(), 3, Function.identity()).items()).isEmpty();
+    }
+
+    @Test
+    void extraElementIsDroppedAndTheCursorPointsAtTheLastItem() {
+        CursorPage<Long> page = CursorPage.of(List.of(4L, 7L, 9L, 12L), 3, Function.identity());
+
+        assertThat(page.items()).containsExactly(4L, 7L, 9L);
+        assertThat(CursorPage.decodeCursor(page.nextCursor())).isEqualTo(9L);
+    }
+
+    @Test
+    void decodesOnlyCursorsItEncoded() {
+        assertThat(CursorPage.decodeCursor(CursorPage.encodeCursor(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+        assertThat(CursorPage.decodeCursor(null)).isNull();
+        assertThat(CursorPage.decodeCursor(" ")).isNull();
+        assertThatIllegalArgumentException().isThrownBy(() -> CursorPage.decodeCursor("MTIz"));
+    }
+}
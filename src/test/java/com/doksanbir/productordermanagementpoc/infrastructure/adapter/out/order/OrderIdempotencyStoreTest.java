@@ -0,0 +1,91 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.order;
+
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that the in-memory idempotency store creates an order once per key, makes concurrent
+ * duplicates wait for the first creation, hands every replay its own copy of the order, and
+ * forgets failed creations.
+ */
+class OrderIdempotencyStoreTest {
+
+    private final OrderIdempotencyAdapter store = new OrderIdempotencyAdapter(1_000, Duration.ofMinutes(1));
+
+    @Test
+    void concurrentDuplicatesWaitForTheFirstCreation() throws Exception {
+        AtomicInteger creations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Order>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> store.computeIfAbsent("key", () -> {
+                    creations.incrementAndGet();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return order(1L);
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            List<Order> orders = new ArrayList<>();
+            for (Future<Order> future : futures) {
+                orders.add(future.get(10, TimeUnit.SECONDS));
+            }
+            assertThat(orders).extracting(Order::getId).containsOnly(1L);
+            assertThat(orders).doesNotHaveDuplicates();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    void failedCreationsAreRetried() {
+        assertThatThrownBy(() -> store.computeIfAbsent("key", () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        Order order = order(2L);
+        assertThat(store.computeIfAbsent("key", () -> order)).isSameAs(order);
+        assertThat(store.computeIfAbsent("key", Order::new).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void changesOfAReturnedOrderDoNotLeakIntoReplays() {
+        Order created = store.computeIfAbsent("key", () -> order(3L));
+        created.setStatus(OrderStatus.SHIPPED);
+        Order replayed = store.computeIfAbsent("key", Order::new);
+        replayed.setQuantity(99);
+
+        Order replayedAgain = store.computeIfAbsent("key", Order::new);
+        assertThat(replayedAgain.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(replayedAgain.getQuantity()).isEqualTo(1);
+    }
+
+    private static Order order(Long id) {
+        Order order = new Order();
+        order.setId(id);
+        order.setQuantity(1);
+        order.setStatus(OrderStatus.PENDING);
+        return order;
+    }
+}
@@ -0,0 +1,103 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.order;
+
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the bitmap order index answers status and product filters exactly like
+ * filtering all orders would, including after writes.
+ */
+class OrderIndexTest {
+
+    private static final int ORDERS = 50_000;
+    private static final long PRODUCTS = 200;
+
+    private final Random random = new Random(7);
+    private final List<OrderSummary> orders = new ArrayList<>();
+    private OrderIndexAdapter index;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= ORDERS; id++) {
+            orders.add(summary(id, 1 + random.nextLong(PRODUCTS), randomStatus()));
+        }
+        index = new OrderIndexAdapter();
+        index.rebuild(orders.stream());
+    }
+
+    @Test
+    void searchMatchesFiltering() {
+        assertThat(index.isReady()).isTrue();
+        assertSearchMatches(null, null);
+        for (OrderStatus status : OrderStatus.values()) {
+            assertSearchMatches(status, null);
+            assertSearchMatches(status, 3L);
+        }
+        for (long productId = 1; productId <= PRODUCTS + 1; productId++) {
+            assertSearchMatches(null, productId);
+            assertSearchMatches(randomStatus(), productId);
+        }
+    }
+
+    @Test
+    void writesAreVisibleToSearches() {
+        OrderSummary moved = summary(1L, PRODUCTS + 5, OrderStatus.values()[0]);
+        orders.set(0, moved);
+        index.put(moved);
+        OrderSummary added = summary(ORDERS + 1L, PRODUCTS + 5, OrderStatus.values()[0]);
+        orders.add(added);
+        index.put(added);
+        orders.remove(1);
+        index.remove(2L);
+
+        assertThat(index.search(null, PRODUCTS + 5)).containsExactly(moved, added);
+        assertSearchMatches(null, null);
+        for (OrderStatus status : OrderStatus.values()) {
+            assertSearchMatches(status, null);
+        }
+    }
+
+    @Test
+    void writesDuringRebuildTakePrecedence() {
+        OrderIndexAdapter rebuilt = new OrderIndexAdapter();
+        OrderSummary updated = summary(5L, PRODUCTS + 9, OrderStatus.values()[1]);
+
+        rebuilt.rebuild(Stream.concat(Stream.of(orders.get(0)).peek(order -> {
+            rebuilt.put(updated);
+            rebuilt.remove(10L);
+        }), orders.stream().skip(1)));
+
+        assertThat(rebuilt.search(null, PRODUCTS + 9)).containsExactly(updated);
+        assertThat(rebuilt.search(null, null)).hasSize(ORDERS - 1)
+                .noneMatch(order -> order.id() == 10L);
+    }
+
+    private void assertSearchMatches(OrderStatus status, Long productId) {
+        List<OrderSummary> expected = orders.stream()
+                .filter(order -> status == null || order.status() == status)
+                .filter(order -> productId == null || order.productId().equals(productId))
+                .sorted((left, right) -> Long.compare(left.id(), right.id()))
+                .toList();
+        assertThat(index.search(status, productId)).as("status=%s, productId=%s", status, productId)
+                .isEqualTo(expected);
+    }
+
+    private OrderStatus randomStatus() {
+        return OrderStatus.values()[random.nextInt(OrderStatus.values().length)];
+    }
+
+    private static OrderSummary summary(Long id, Long productId, OrderStatus status) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        return new OrderSummary(id, productId, 1, status, now, now);
+    }
+}
@@ -0,0 +1,122 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.product;
+
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the trigram product search index returns exactly the products a
+ * case-insensitive {@code LIKE '%term%'} search would, including after writes.
+ */
+class ProductSearchIndexTest {
+
+    private static final int PRODUCTS = 20_000;
+    private static final String[] WORDS = {"Red", "green", "BLUE", "steel", "Wooden", "chair", "table", "lamp",
+            "desk", "Mug", "pen", "Cable", "USB-C", "charger", "bottle", "Ünïcode"};
+    private static final String[] CATEGORIES = {"Furniture", "Kitchen", "Electronics", "Office", "Outdoor"};
+
+    private final Random random = new Random(42);
+    private final List<Product> catalog = new ArrayList<>();
+    private ProductSearchIndexAdapter index;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= PRODUCTS; id++) {
+            catalog.add(product(id, randomName(), random.nextInt(10) == 0 ? null : randomCategory()));
+        }
+        index = new ProductSearchIndexAdapter();
+        index.rebuild(catalog.stream());
+    }
+
+    @Test
+    void searchMatchesSubstringSemantics() {
+        assertThat(index.isReady()).isTrue();
+        List<String> terms = List.of("", "r", "RE", "red", "ee", "steel ch", "USB", "b-c", "ünï", "lamp desk",
+                "absent", "chairs", "o", "ffice", "FURN");
+        for (String term : terms) {
+            assertSearchMatches(term, null);
+            assertSearchMatches(null, term);
+            assertSearchMatches(term, "o");
+        }
+        for (int i = 0; i < 200; i++) {
+            String name = randomName();
+            int from = random.nextInt(name.length());
+            String term = name.substring(from, Math.min(name.length(), from + 1 + random.nextInt(8)));
+            assertSearchMatches(term, null);
+            assertSearchMatches(term, randomCategory().substring(1, 4));
+        }
+    }
+
+    @Test
+    void writesAreVisibleToSearches() {
+        Product renamed = product(1L, "Brand new gadget", "Gadgets");
+        catalog.set(0, renamed);
+        index.put(renamed);
+        Product added = product(PRODUCTS + 1L, "Another GADGET", null);
+        catalog.add(added);
+        index.put(added);
+        catalog.remove(1);
+        index.remove(2L);
+
+        assertThat(index.search("gadget", null)).containsExactly(1L, PRODUCTS + 1L);
+        assertThat(index.search(null, "gadg")).containsExactly(1L);
+        assertSearchMatches("red", null);
+        assertSearchMatches(null, "kitchen");
+    }
+
+    @Test
+    void writesDuringRebuildTakePrecedence() {
+        ProductSearchIndexAdapter rebuilt = new ProductSearchIndexAdapter();
+        Product updated = product(5L, "Updated while rebuilding", "Live");
+
+        rebuilt.rebuild(catalog.stream().peek(product -> {
+            if (product.getId() == 1L) {
+                rebuilt.put(updated);
+                rebuilt.remove(10L);
+            }
+        }));
+
+        assertThat(rebuilt.search("while rebuilding", "live")).containsExactly(5L);
+        assertThat(rebuilt.search(null, null)).doesNotContain(10L).hasSize(PRODUCTS - 1);
+    }
+
+    private void assertSearchMatches(String name, String category) {
+        List<Long> expected = catalog.stream()
+                .filter(product -> name == null || contains(product.getName(), name))
+                .filter(product -> category == null || contains(product.getCategory(), category))
+                .map(Product::getId)
+                .sorted()
+                .toList();
+        assertThat(index.search(name, category)).as("name=%s, category=%s", name, category).isEqualTo(expected);
+    }
+
+    private static boolean contains(String value, String term) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(term.toLowerCase(Locale.ROOT));
+    }
+
+    private String randomName() {
+        return String.join(" ", LongStream.range(0, 2 + random.nextInt(3))
+                .mapToObj(i -> WORDS[random.nextInt(WORDS.length)])
+                .toList()) + " " + random.nextInt(1000);
+    }
+
+    private String randomCategory() {
+        return CATEGORIES[random.nextInt(CATEGORIES.length)];
+    }
+
+    private static Product product(Long id, String name, String category) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setCategory(category);
+        return product;
+    }
+}
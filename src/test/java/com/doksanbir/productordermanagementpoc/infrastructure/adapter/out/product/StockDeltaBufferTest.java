@@ -0,0 +1,206 @@
+package com.doksanbir.productordermanagementpoc.infrastructure.adapter.out.product;
+
+import com.doksanbir.productordermanagementpoc.domain.StockDelta;
+import com.doksanbir.productordermanagementpoc.domain.StockDeltaBatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Verifies that the write-behind stock buffer neither loses nor duplicates adjustments, across
+ * concurrent adds, takes and flushes, failed flushes and restarts from the delta log, that
+ * removals never exceed the buffered additions, that stock reads count every batch once, and
+ * that a replayed batch keeps its ID so that it is not applied twice.
+ */
+class StockDeltaBufferTest {
+
+    private static final int THREADS = 8;
+    private static final int ADDS_PER_THREAD = 20_000;
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    void concurrentAddsAreFlushedExactlyOnce() throws Exception {
+        StockDeltaBufferAdapter buffer = new StockDeltaBufferAdapter(logDirectory.toString());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                long taken = 0;
+                for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                    buffer.add(1L, 2);
+                    taken += buffer.take(1L, 3);
+                    taken += buffer.take(2L, 1);
+                }
+                return taken;
+            }));
+        }
+        List<StockDelta> flushed = new ArrayList<>();
+        Consumer<StockDeltaBatch> writer = batch -> {
+            assertThat(batch.deltas()).doesNotContainKey(2L);
+            flushed.add(batch.deltas().get(1L));
+        };
+        while (!futures.stream().allMatch(Future::isDone)) {
+            buffer.flush(writer, batchId -> {
+            });
+        }
+        executor.shutdown();
+        long taken = 0;
+        for (Future<Long> future : futures) {
+            taken += future.get();
+        }
+        buffer.flush(writer, batchId -> {
+        });
+
+        assertThat(flushed).allSatisfy(delta -> assertThat(delta.net()).isNotNegative());
+        assertThat(flushed.stream().mapToLong(StockDelta::added).sum()).isEqualTo(2L * THREADS * ADDS_PER_THREAD);
+        assertThat(flushed.stream().mapToLong(StockDelta::removed).sum()).isEqualTo(taken);
+    }
+
+    @Test
+    void stockCountsEveryBatchExactlyOnceDuringFlushes() throws Exception {
+        StockDeltaBufferAdapter buffer = new StockDeltaBufferAdapter("");
+        AtomicInteger stored = new AtomicInteger(10);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> flushes = executor.submit(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                buffer.add(1L, 1);
+                buffer.flush(batch -> stored.addAndGet(batch.deltas().get(1L).net()), batchId -> {
+                });
+            }
+        });
+        while (!flushes.isDone()) {
+            int before = stored.get();
+            int stock = buffer.stock(1L, stored::get);
+            assertThat(stock).isBetween(before, stored.get() + 1);
+        }
+        flushes.get();
+        executor.shutdown();
+
+        assertThat(buffer.stock(1L, stored::get)).isEqualTo(1_010);
+    }
+
+    @Test
+    void failedBatchIsWrittenAgainUnchanged() {
+        StockDeltaBufferAdapter buffer = new StockDeltaBufferAdapter("");
+        AtomicInteger stored = new AtomicInteger();
+        List<StockDeltaBatch> written = new ArrayList<>();
+        List<UUID> forgotten = new ArrayList<>();
+        buffer.add(1L, 5);
+        assertThat(buffer.take(1L, 2)).isEqualTo(2);
+
+        assertThatIllegalStateException().isThrownBy(() -> buffer.flush(batch -> {
+            written.add(batch);
+            buffer.add(1L, 1);
+            assertThat(buffer.take(1L, 2)).isEqualTo(1);
+            buffer.add(1L, 1);
+            assertThat(buffer.stock(1L, stored::get)).isEqualTo(4);
+            throw new IllegalStateException("write failed");
+        }, forgotten::add));
+
+        assertThat(buffer.stock(1L, stored::get)).isEqualTo(4);
+        buffer.flush(batch -> {
+            written.add(batch);
+            stored.addAndGet(batch.deltas().get(1L).net());
+        }, forgotten::add);
+
+        assertThat(written).extracting(StockDeltaBatch::deltas).containsExactly(
+                Map.of(1L, new StockDelta(5, 2)),
+                Map.of(1L, new StockDelta(5, 2)),
+                Map.of(1L, new StockDelta(2, 1)));
+        assertThat(written.get(1).id()).isEqualTo(written.get(0).id());
+        assertThat(forgotten).containsExactly(written.get(1).id(), written.get(2).id());
+        assertThat(buffer.stock(1L, stored::get)).isEqualTo(4);
+        assertThat(stored.get()).isEqualTo(4);
+    }
+
+    @Test
+    void unflushedAdjustmentsAreReplayedAfterRestart() throws Exception {
+        StockDeltaBufferAdapter buffer = new StockDeltaBufferAdapter(logDirectory.toString());
+        List<UUID> failed = new ArrayList<>();
+        buffer.add(1L, 3);
+        buffer.flush(batch -> {
+        }, batchId -> {
+        });
+        buffer.add(1L, 7);
+        buffer.add(2L, 5);
+        buffer.take(2L, 4);
+        assertThatIllegalStateException().isThrownBy(() -> buffer.flush(batch -> {
+            failed.add(batch.id());
+            throw new IllegalStateException("write failed");
+        }, batchId -> {
+        }));
+        buffer.add(2L, 1);
+        buffer.close();
+
+        StockDeltaBufferAdapter restarted = new StockDeltaBufferAdapter(logDirectory.toString());
+        List<StockDeltaBatch> written = new ArrayList<>();
+
+        assertThat(restarted.stock(1L, () -> 0)).isEqualTo(7);
+        assertThat(restarted.stock(2L, () -> 0)).isEqualTo(2);
+        restarted.flush(written::add, batchId -> {
+        });
+        restarted.close();
+
+        assertThat(written).extracting(StockDeltaBatch::deltas).containsExactly(
+                Map.of(1L, new StockDelta(7, 0), 2L, new StockDelta(5, 4)),
+                Map.of(2L, new StockDelta(1, 0)));
+        assertThat(written.get(0).id()).isEqualTo(failed.get(0));
+        assertThat(restarted.stock(2L, () -> 0)).isZero();
+        assertThat(loggedRecords()).isZero();
+    }
+
+    @Test
+    void batchAppliedBeforeACrashIsRecognizedWhenReplayed() throws Exception {
+        StockDeltaBufferAdapter buffer = new StockDeltaBufferAdapter(logDirectory.toString());
+        Set<UUID> applied = new HashSet<>();
+        AtomicInteger stored = new AtomicInteger();
+        Consumer<StockDeltaBatch> writer = batch -> {
+            if (applied.add(batch.id())) {
+                stored.addAndGet(batch.deltas().get(1L).net());
+            }
+        };
+        buffer.add(1L, 3);
+        assertThatIllegalStateException().isThrownBy(() -> buffer.flush(writer.andThen(batch -> {
+            throw new IllegalStateException("crashed before deleting the segment");
+        }), applied::remove));
+        buffer.close();
+
+        StockDeltaBufferAdapter restarted = new StockDeltaBufferAdapter(logDirectory.toString());
+        restarted.flush(writer, applied::remove);
+        restarted.close();
+
+        assertThat(stored.get()).isEqualTo(3);
+        assertThat(applied).isEmpty();
+        assertThat(loggedRecords()).isZero();
+    }
+
+    /**
+     * Counts the records in the log segments, each of which starts with a 16-byte batch ID.
+     */
+    private long loggedRecords() throws Exception {
+        try (Stream<Path> files = Files.list(logDirectory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("stock-deltas-"))
+                    .mapToLong(file -> (file.toFile().length() - 16) / 12)
+                    .sum();
+        }
+    }
+}
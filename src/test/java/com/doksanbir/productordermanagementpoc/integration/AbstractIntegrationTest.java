@@ -0,0 +1,26 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base class of the tests that run against a real PostgreSQL instance.
+ * <p>
+ * All subclasses share one container, started once per test run and stopped when the JVM exits;
+ * they are skipped when Docker is not available. Since every cached application context connects
+ * to the same database, tests must not assume it is empty and scope their assertions to the rows
+ * they create.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+abstract class AbstractIntegrationTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+}
@@ -0,0 +1,86 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkCreateOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.CreateOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that with asynchronous processing, single and bulk creations return pending orders
+ * and leave the processing to the order processing pool.
+ */
+@SpringBootTest(properties = "orders.processing.async.enabled=true")
+class AsyncOrderProcessingTest extends AbstractIntegrationTest {
+
+    private static final int ORDERS = 5;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private BulkCreateOrdersUseCase bulkCreateOrdersUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createdOrdersAreProcessedInTheBackground() throws Exception {
+        Long productId = createProduct();
+        Order created = createOrderUseCase.createOrder(order(productId));
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            orders.add(order(productId));
+        }
+        List<BulkOrderResult> results = bulkCreateOrdersUseCase.bulkCreateOrders(orders.iterator());
+
+        assertThat(created.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(results).hasSize(ORDERS).allSatisfy(result -> {
+            assertThat(result.success()).isTrue();
+            assertThat(result.status()).isEqualTo(OrderStatus.PENDING);
+        });
+        assertThat(awaitConfirmed(productId)).isEqualTo(ORDERS + 1);
+    }
+
+    private long awaitConfirmed(Long productId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        long confirmed = 0;
+        while (confirmed < ORDERS + 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            confirmed = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM orders WHERE product_id = ? AND status = 'CONFIRMED'", Long.class, productId);
+        }
+        return confirmed;
+    }
+
+    private Long createProduct() {
+        Product product = new Product();
+        product.setName("async-" + System.nanoTime());
+        product.setPrice(1.0);
+        product.setStockQuantity(100);
+        return createProductUseCase.createProduct(product).getId();
+    }
+
+    private static Order order(Long productId) {
+        Product product = new Product();
+        product.setId(productId);
+        Order order = new Order();
+        order.setProduct(product);
+        order.setQuantity(1);
+        return order;
+    }
+}
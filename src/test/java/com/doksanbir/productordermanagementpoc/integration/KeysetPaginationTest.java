@@ -0,0 +1,123 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkCreateOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.DeleteOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.ListOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.ListProductsUseCase;
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.domain.CursorPage;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the boundaries of keyset pagination: orders sharing a creation time are listed exactly
+ * once, a listing whose rows fill its last page exactly ends without an empty extra page, and
+ * deleting the row a cursor points at neither skips nor repeats rows.
+ */
+class KeysetPaginationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private ListProductsUseCase listProductsUseCase;
+
+    @Autowired
+    private BulkCreateOrdersUseCase bulkCreateOrdersUseCase;
+
+    @Autowired
+    private ListOrdersUseCase listOrdersUseCase;
+
+    @Autowired
+    private DeleteOrderUseCase deleteOrderUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void ordersSharingACreationTimeArePagedExactlyOnce() {
+        Long productId = createProduct("keyset-ties");
+        List<Long> orderIds = createOrders(productId, 7);
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE product_id = ?", LocalDateTime.now(), productId);
+
+        List<Long> listed = new ArrayList<>();
+        String cursor = CursorPage.encodeCursor(orderIds.get(0) - 1);
+        do {
+            CursorPage<OrderSummary> page = listOrdersUseCase.listOrders(cursor, 3);
+            if (page.nextCursor() != null) {
+                assertThat(page.items()).hasSize(3);
+            }
+            page.items().stream()
+                    .filter(order -> order.productId().equals(productId))
+                    .forEach(order -> listed.add(order.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(listed).containsExactlyElementsOf(orderIds);
+    }
+
+    @Test
+    void lastFullPageHasNoNextCursor() {
+        List<Long> productIds = IntStream.range(0, 6)
+                .mapToObj(i -> createProduct("keyset-last-page-" + i))
+                .toList();
+
+        CursorPage<ProductSummary> first = listProductsUseCase.listProducts(
+                CursorPage.encodeCursor(productIds.get(0) - 1), 3);
+        CursorPage<ProductSummary> second = listProductsUseCase.listProducts(first.nextCursor(), 3);
+
+        assertThat(first.items()).extracting(ProductSummary::id).containsExactlyElementsOf(productIds.subList(0, 3));
+        assertThat(second.items()).extracting(ProductSummary::id).containsExactlyElementsOf(productIds.subList(3, 6));
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void deletingTheCursorRowNeitherSkipsNorRepeatsRows() {
+        Long productId = createProduct("keyset-deleted-cursor");
+        List<Long> orderIds = createOrders(productId, 6);
+
+        CursorPage<OrderSummary> first = listOrdersUseCase.listOrders(CursorPage.encodeCursor(orderIds.get(0) - 1), 3);
+        deleteOrderUseCase.deleteOrder(orderIds.get(2));
+        CursorPage<OrderSummary> second = listOrdersUseCase.listOrders(first.nextCursor(), 3);
+
+        assertThat(first.items()).extracting(OrderSummary::id).containsExactlyElementsOf(orderIds.subList(0, 3));
+        assertThat(second.items()).extracting(OrderSummary::id).containsExactlyElementsOf(orderIds.subList(3, 6));
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    private Long createProduct(String name) {
+        Product product = new Product();
+        product.setName(name + "-" + System.nanoTime());
+        product.setPrice(1.0);
+        product.setStockQuantity(100);
+        return createProductUseCase.createProduct(product).getId();
+    }
+
+    private List<Long> createOrders(Long productId, int count) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Product product = new Product();
+            product.setId(productId);
+            Order order = new Order();
+            order.setProduct(product);
+            order.setQuantity(1);
+            orders.add(order);
+        }
+        return bulkCreateOrdersUseCase.bulkCreateOrders(orders.iterator()).stream()
+                .map(BulkOrderResult::orderId)
+                .toList();
+    }
+}
@@ -0,0 +1,133 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.CreateOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.PatchOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.PatchProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.RetrieveProductUseCase;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.InvalidOrderException;
+import com.doksanbir.productordermanagementpoc.exception.InvalidProductException;
+import com.doksanbir.productordermanagementpoc.exception.VersionMismatchException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that merge patches change only the fields they contain, clear optional fields set to
+ * {@code null}, and reject read-only fields, invalid values and stale versions.
+ */
+@AutoConfigureMockMvc
+class MergePatchTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private RetrieveProductUseCase retrieveProductUseCase;
+
+    @Autowired
+    private PatchProductUseCase patchProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private PatchOrderUseCase patchOrderUseCase;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void pricePatchLeavesOtherFieldsUnchanged() {
+        Product product = createProduct();
+
+        Product patched = patchProductUseCase.patchProduct(product.getId(), Map.of("price", 12), product.getVersion());
+
+        assertThat(patched.getPrice()).isEqualTo(12.0);
+        assertThat(patched.getVersion()).isEqualTo(product.getVersion() + 1);
+        Product stored = retrieveProductUseCase.retrieveProduct(product.getId());
+        assertThat(stored.getPrice()).isEqualTo(12.0);
+        assertThat(stored.getName()).isEqualTo(product.getName());
+        assertThat(stored.getDescription()).isEqualTo(product.getDescription());
+        assertThat(stored.getStockQuantity()).isEqualTo(product.getStockQuantity());
+    }
+
+    @Test
+    void nullClearsOptionalField() {
+        Product product = createProduct();
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("description", null);
+
+        Product patched = patchProductUseCase.patchProduct(product.getId(), patch, null);
+
+        assertThat(patched.getDescription()).isNull();
+        assertThat(patched.getName()).isEqualTo(product.getName());
+    }
+
+    @Test
+    void invalidPatchesAreRejected() {
+        Product product = createProduct();
+        Map<String, Object> clearName = new HashMap<>();
+        clearName.put("name", null);
+
+        assertThatThrownBy(() -> patchProductUseCase.patchProduct(product.getId(), Map.of("stockQuantity", 5), null))
+                .isInstanceOf(InvalidProductException.class);
+        assertThatThrownBy(() -> patchProductUseCase.patchProduct(product.getId(), clearName, null))
+                .isInstanceOf(InvalidProductException.class);
+        assertThatThrownBy(() -> patchProductUseCase.patchProduct(product.getId(), Map.of("price", 3), product.getVersion() + 1))
+                .isInstanceOf(VersionMismatchException.class);
+        assertThat(retrieveProductUseCase.retrieveProduct(product.getId()).getPrice()).isEqualTo(product.getPrice());
+    }
+
+    @Test
+    void invalidValuesAreRejectedWithBadRequest() throws Exception {
+        Product product = createProduct();
+
+        for (String body : new String[]{"{\"price\": -1}", "{\"name\": \"  \"}", "{\"category\": \"" + "x".repeat(256) + "\"}"}) {
+            mockMvc.perform(patch("/api/products/{id}", product.getId())
+                            .contentType("application/merge-patch+json")
+                            .content(body))
+                    .andExpect(status().isBadRequest());
+        }
+        Product stored = retrieveProductUseCase.retrieveProduct(product.getId());
+        assertThat(stored.getVersion()).isEqualTo(product.getVersion());
+        assertThat(stored.getPrice()).isEqualTo(product.getPrice());
+        assertThat(stored.getName()).isEqualTo(product.getName());
+    }
+
+    @Test
+    void orderPatchChangesQuantityOnly() {
+        Product product = createProduct();
+        Order order = new Order();
+        order.setProduct(product);
+        order.setQuantity(1);
+        Order created = createOrderUseCase.createOrder(order);
+
+        Order patched = patchOrderUseCase.patchOrder(created.getId(), Map.of("quantity", 3), null);
+
+        assertThat(patched.getQuantity()).isEqualTo(3);
+        assertThat(patched.getProduct().getId()).isEqualTo(product.getId());
+        assertThatThrownBy(() -> patchOrderUseCase.patchOrder(created.getId(), Map.of("status", "UNKNOWN"), null))
+                .isInstanceOf(InvalidOrderException.class);
+    }
+
+    private Product createProduct() {
+        Product product = new Product();
+        product.setName("patched-" + System.nanoTime());
+        product.setDescription("description");
+        product.setPrice(10.0);
+        product.setStockQuantity(10);
+        return createProductUseCase.createProduct(product);
+    }
+}
@@ -0,0 +1,144 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkCreateOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.RetrieveOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.RetrieveProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.RetrieveProductsUseCase;
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.domain.MultiGetResult;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.InvalidProductException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that multi-get lookups return the found elements in request order, report the missing
+ * IDs, and resolve all IDs with at most one statement, serving cached products without any.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "products.multi-get.max-ids=20"
+})
+class MultiGetTest extends AbstractIntegrationTest {
+
+    private static final int PRODUCTS = 10;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private RetrieveProductUseCase retrieveProductUseCase;
+
+    @Autowired
+    private RetrieveProductsUseCase retrieveProductsUseCase;
+
+    @Autowired
+    private BulkCreateOrdersUseCase bulkCreateOrdersUseCase;
+
+    @Autowired
+    private RetrieveOrdersUseCase retrieveOrdersUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.setName("multi-get-" + System.nanoTime() + "-" + i);
+            product.setPrice(1.0);
+            product.setStockQuantity(100);
+            productIds.add(createProductUseCase.createProduct(product).getId());
+        }
+    }
+
+    @Test
+    void productsAreReturnedInRequestOrderWithMissingIds() {
+        List<Long> requested = new ArrayList<>(productIds);
+        Collections.reverse(requested);
+        requested.add(2, Long.MAX_VALUE);
+        requested.add(productIds.get(0));
+
+        MultiGetResult<Product> result = retrieveProductsUseCase.retrieveProducts(requested);
+
+        List<Long> expected = new ArrayList<>(productIds);
+        Collections.reverse(expected);
+        assertThat(result.items()).extracting(Product::getId).containsExactlyElementsOf(expected);
+        assertThat(result.missingIds()).containsExactly(Long.MAX_VALUE);
+    }
+
+    @Test
+    void cachedProductsAreServedWithoutStatements() {
+        retrieveProductUseCase.retrieveProduct(productIds.get(0));
+        retrieveProductUseCase.retrieveProduct(productIds.get(1));
+
+        statistics.clear();
+        retrieveProductsUseCase.retrieveProducts(productIds.subList(0, 2));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        statistics.clear();
+        MultiGetResult<Product> result = retrieveProductsUseCase.retrieveProducts(productIds);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(result.items()).extracting(Product::getId).containsExactlyElementsOf(productIds);
+
+        statistics.clear();
+        retrieveProductsUseCase.retrieveProducts(productIds);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void tooManyProductIdsAreRejected() {
+        List<Long> requested = LongStream.rangeClosed(1, 21).boxed().toList();
+
+        assertThatThrownBy(() -> retrieveProductsUseCase.retrieveProducts(requested))
+                .isInstanceOf(InvalidProductException.class);
+    }
+
+    @Test
+    void ordersAreReturnedInRequestOrderWithOneStatement() {
+        List<Order> orders = new ArrayList<>();
+        for (Long productId : productIds) {
+            Product reference = new Product();
+            reference.setId(productId);
+            Order order = new Order();
+            order.setProduct(reference);
+            order.setQuantity(1);
+            orders.add(order);
+        }
+        List<Long> orderIds = new ArrayList<>(bulkCreateOrdersUseCase.bulkCreateOrders(orders.iterator()).stream()
+                .map(BulkOrderResult::orderId)
+                .toList());
+        Collections.reverse(orderIds);
+        orderIds.add(0, Long.MAX_VALUE);
+
+        statistics.clear();
+        MultiGetResult<OrderSummary> result = retrieveOrdersUseCase.retrieveOrders(orderIds);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(result.items()).extracting(OrderSummary::id)
+                .containsExactlyElementsOf(orderIds.subList(1, orderIds.size()));
+        assertThat(result.missingIds()).containsExactly(Long.MAX_VALUE);
+    }
+}
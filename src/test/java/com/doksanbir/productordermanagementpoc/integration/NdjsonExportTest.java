@@ -0,0 +1,130 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.CreateOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.ExportOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.ExportProductsUseCase;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the export endpoints stream one NDJSON line per row in ID order, and that the
+ * exported entities are detached as they stream, so the persistence context does not grow.
+ */
+@AutoConfigureMockMvc
+class NdjsonExportTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ExportProductsUseCase exportProductsUseCase;
+
+    @Autowired
+    private ExportOrdersUseCase exportOrdersUseCase;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Product product = new Product();
+            product.setName("export-" + System.nanoTime());
+            product.setPrice(1.0);
+            product.setStockQuantity(10);
+            Product created = createProductUseCase.createProduct(product);
+            Order order = new Order();
+            order.setProduct(created);
+            order.setQuantity(1);
+            order.setStatus(OrderStatus.PENDING);
+            createOrderUseCase.createOrder(order);
+        }
+    }
+
+    @Test
+    void exportsOneLinePerProductInIdOrder() throws Exception {
+        List<Long> ids = export("/api/products/export");
+
+        assertThat(ids).hasSize(count("products")).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void exportsOneLinePerOrderInIdOrder() throws Exception {
+        List<Long> ids = export("/api/orders/export");
+
+        assertThat(ids).hasSize(count("orders")).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void exportedEntitiesAreDetachedAsTheyStream() {
+        List<Integer> managedProducts = new ArrayList<>();
+        exportProductsUseCase.exportProducts(product -> managedProducts.add(managedEntities()));
+        List<Integer> managedOrders = new ArrayList<>();
+        exportOrdersUseCase.exportOrders(order -> managedOrders.add(managedEntities()));
+
+        assertThat(managedProducts).isNotEmpty().containsOnly(0);
+        assertThat(managedOrders).isNotEmpty().containsOnly(0);
+    }
+
+    private List<Long> export(String path) throws Exception {
+        MvcResult started = mockMvc.perform(get(path).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(MediaType.parseMediaType(result.getResponse().getContentType()))
+                .isEqualTo(MediaType.APPLICATION_NDJSON);
+        List<Long> ids = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            ids.add(objectMapper.readTree(line).get("id").asLong());
+        }
+        return ids;
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+
+    /**
+     * Counts the entities managed by the persistence context of the export transaction.
+     */
+    private int managedEntities() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+}
@@ -0,0 +1,122 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.CreateOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.RetrieveOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.UpdateOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.RetrieveProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.UpdateProductUseCase;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.VersionMismatchException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that concurrent updates of the same product are all applied through retries instead of
+ * overwriting each other, and that updates conditional on a stale version are rejected.
+ */
+@SpringBootTest(properties = "products.updates.max-attempts=50")
+class OptimisticLockingTest extends AbstractIntegrationTest {
+
+    private static final int WRITERS = 8;
+    private static final int UPDATES_PER_WRITER = 10;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private RetrieveProductUseCase retrieveProductUseCase;
+
+    @Autowired
+    private UpdateProductUseCase updateProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private RetrieveOrderUseCase retrieveOrderUseCase;
+
+    @Autowired
+    private UpdateOrderUseCase updateOrderUseCase;
+
+    @Test
+    void concurrentProductUpdatesAreAllApplied() throws Exception {
+        Product product = createProductUseCase.createProduct(product("versioned-" + System.nanoTime()));
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            int category = writer;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                    Product update = product(product.getName());
+                    update.setId(product.getId());
+                    update.setCategory("writer-" + category);
+                    updateProductUseCase.updateProduct(update);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Product updated = retrieveProductUseCase.retrieveProduct(product.getId());
+        assertThat(updated.getVersion()).isEqualTo(product.getVersion() + WRITERS * UPDATES_PER_WRITER);
+        assertThat(updated.getStockQuantity()).isEqualTo(product.getStockQuantity());
+    }
+
+    @Test
+    void updateWithStaleVersionIsRejected() {
+        Product product = createProductUseCase.createProduct(product("stale-" + System.nanoTime()));
+        Product update = product(product.getName());
+        update.setId(product.getId());
+        update.setDescription("first");
+        Product updated = updateProductUseCase.updateProduct(update, product.getVersion());
+
+        update.setDescription("second");
+        assertThatThrownBy(() -> updateProductUseCase.updateProduct(update, product.getVersion()))
+                .isInstanceOf(VersionMismatchException.class);
+        assertThat(retrieveProductUseCase.retrieveProduct(product.getId()).getDescription()).isEqualTo("first");
+        assertThat(updated.getVersion()).isEqualTo(product.getVersion() + 1);
+    }
+
+    @Test
+    void orderUpdateChecksVersionIncrementedBySetBasedUpdates() {
+        Product product = createProductUseCase.createProduct(product("order-version-" + System.nanoTime()));
+        Order order = new Order();
+        order.setProduct(product);
+        order.setQuantity(1);
+        order.setStatus(OrderStatus.PENDING);
+        Order created = createOrderUseCase.createOrder(order);
+        Long version = retrieveOrderUseCase.retrieveOrder(created.getId()).getVersion();
+
+        Order cancel = new Order();
+        cancel.setId(created.getId());
+        cancel.setStatus(OrderStatus.CANCELLED);
+        updateOrderUseCase.updateOrder(cancel, version);
+
+        assertThat(retrieveOrderUseCase.retrieveOrder(created.getId()).getVersion()).isEqualTo(version + 1);
+        assertThatThrownBy(() -> updateOrderUseCase.updateOrder(cancel, version))
+                .isInstanceOf(VersionMismatchException.class);
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(1.0);
+        product.setStockQuantity(100);
+        return product;
+    }
+}
@@ -0,0 +1,111 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.AdvancedSearchOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkCreateOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.ProcessOrderBatchesUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderBatchCheckpointPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderRepositoryPort;
+import com.doksanbir.productordermanagementpoc.application.specification.order.OrderSpecification;
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the chunked order batch processor advances every order by exactly one status,
+ * keeps the order index current and resumes an interrupted drain from its checkpoint.
+ */
+@SpringBootTest(properties = "orders.batch.chunk-size=7")
+class OrderBatchProcessingTest extends AbstractIntegrationTest {
+
+    private static final int ORDERS = 50;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private BulkCreateOrdersUseCase bulkCreateOrdersUseCase;
+
+    @Autowired
+    private ProcessOrderBatchesUseCase processOrderBatchesUseCase;
+
+    @Autowired
+    private AdvancedSearchOrdersUseCase advancedSearchOrdersUseCase;
+
+    @Autowired
+    private OrderRepositoryPort orderRepositoryPort;
+
+    @Autowired
+    private OrderBatchCheckpointPort orderBatchCheckpointPort;
+
+    private Long productId;
+    private List<Long> orderIds;
+
+    @BeforeEach
+    void setUp() {
+        long leftOver;
+        do {
+            leftOver = processOrderBatchesUseCase.processOrderBatches();
+        } while (leftOver > 0);
+        Product product = new Product();
+        product.setName("batch-" + System.nanoTime());
+        product.setPrice(1.0);
+        product.setStockQuantity(100);
+        productId = createProductUseCase.createProduct(product).getId();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Product reference = new Product();
+            reference.setId(productId);
+            Order order = new Order();
+            order.setProduct(reference);
+            order.setQuantity(1);
+            orders.add(order);
+        }
+        orderIds = bulkCreateOrdersUseCase.bulkCreateOrders(orders.iterator()).stream()
+                .map(BulkOrderResult::orderId)
+                .toList();
+    }
+
+    @Test
+    void everyOrderAdvancesOneStatusPerRun() {
+        assertThat(statuses()).containsOnly(OrderStatus.CONFIRMED);
+
+        assertThat(processOrderBatchesUseCase.processOrderBatches()).isEqualTo(ORDERS);
+
+        assertThat(statuses()).hasSize(ORDERS).containsOnly(OrderStatus.SHIPPED);
+        assertThat(advancedSearchOrdersUseCase.advancedSearchOrders(OrderStatus.SHIPPED, productId))
+                .extracting(OrderSummary::id)
+                .containsExactlyElementsOf(orderIds);
+        assertThat(orderBatchCheckpointPort.findCheckpoint(OrderStatus.CONFIRMED)).isEmpty();
+    }
+
+    @Test
+    void interruptedDrainResumesAfterCheckpoint() {
+        Long checkpoint = orderIds.get(ORDERS / 2);
+        orderBatchCheckpointPort.saveCheckpoint(OrderStatus.CONFIRMED, checkpoint);
+
+        processOrderBatchesUseCase.processOrderBatches();
+
+        assertThat(orderRepositoryPort.findAll(OrderSpecification.hasProductId(productId)))
+                .allSatisfy(order -> assertThat(order.getStatus())
+                        .isEqualTo(order.getId() <= checkpoint ? OrderStatus.CONFIRMED : OrderStatus.SHIPPED));
+        assertThat(orderBatchCheckpointPort.findCheckpoint(OrderStatus.CONFIRMED)).isEmpty();
+    }
+
+    private List<OrderStatus> statuses() {
+        return orderRepositoryPort.findAll(OrderSpecification.hasProductId(productId)).stream()
+                .map(Order::getStatus)
+                .toList();
+    }
+}
@@ -0,0 +1,106 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkCreateOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderRepositoryPort;
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+
+/**
+ * Verifies that a bulk creation fails items on their own: an item rejected inside a JDBC batch
+ * does not shift the generated IDs of the rows after it, and a batch whose insert fails as a whole
+ * fails only its own items, while the batches before and after it are placed.
+ */
+@SpringBootTest(properties = "orders.bulk.batch-size=3")
+class OrderBulkCreateTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private BulkCreateOrdersUseCase bulkCreateOrdersUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private OrderRepositoryPort orderRepositoryPort;
+
+    @Test
+    void failedItemsAndBatchesDoNotAffectTheOthers() {
+        Long stockedId = createProduct("bulk-create-stocked", 100);
+        Long scarceId = createProduct("bulk-create-scarce", 2);
+        doCallRealMethod()
+                .doThrow(new DataIntegrityViolationException("Simulated batch failure"))
+                .doCallRealMethod()
+                .when(orderRepositoryPort).placeAll(anyList());
+
+        List<Order> orders = new ArrayList<>();
+        orders.add(order(stockedId, 1));
+        orders.add(order(scarceId, 5));
+        orders.add(order(stockedId, 2));
+        orders.add(order(stockedId, 3));
+        orders.add(order(null, 1));
+        orders.add(order(stockedId, 4));
+        orders.add(order(stockedId, 5));
+        List<BulkOrderResult> results = bulkCreateOrdersUseCase.bulkCreateOrders(orders.iterator());
+
+        assertThat(results).extracting(BulkOrderResult::index, BulkOrderResult::success, BulkOrderResult::error)
+                .containsExactly(
+                        tuple(0, true, null),
+                        tuple(1, false, "Insufficient stock for product ID: " + scarceId),
+                        tuple(2, true, null),
+                        tuple(3, false, "Batch insert failed"),
+                        tuple(4, false, "Product ID is required"),
+                        tuple(5, false, "Batch insert failed"),
+                        tuple(6, true, null));
+        List<Map<String, Object>> placed = jdbcTemplate.queryForList(
+                "SELECT id, quantity FROM orders WHERE product_id = ? ORDER BY id", stockedId);
+        assertThat(placed).extracting(row -> row.get("id"), row -> row.get("quantity"))
+                .containsExactly(
+                        tuple(results.get(0).orderId(), 1),
+                        tuple(results.get(2).orderId(), 2),
+                        tuple(results.get(6).orderId(), 5));
+        assertThat(stock(stockedId)).isEqualTo(92);
+        assertThat(stock(scarceId)).isEqualTo(2);
+    }
+
+    private int stock(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT stock_quantity FROM products WHERE id = ?", Integer.class, productId);
+    }
+
+    private Long createProduct(String name, int stock) {
+        Product product = new Product();
+        product.setName(name + "-" + System.nanoTime());
+        product.setPrice(1.0);
+        product.setStockQuantity(stock);
+        return createProductUseCase.createProduct(product).getId();
+    }
+
+    private static Order order(Long productId, int quantity) {
+        Order order = new Order();
+        if (productId != null) {
+            Product product = new Product();
+            product.setId(productId);
+            order.setProduct(product);
+        }
+        order.setQuantity(quantity);
+        return order;
+    }
+}
@@ -0,0 +1,186 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.AdvancedSearchOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkCreateOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkDeleteOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.DeleteOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.TransitionOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderDeletionRequest;
+import com.doksanbir.productordermanagementpoc.domain.OrderDeletionResult;
+import com.doksanbir.productordermanagementpoc.domain.OrderDeletionStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import com.doksanbir.productordermanagementpoc.domain.OrderTransitionRequest;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.InvalidOrderException;
+import com.doksanbir.productordermanagementpoc.exception.OrderNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that a bulk deletion job removes exactly the orders matching its filters, chunk by
+ * chunk in the background, that orders locked while the job runs are reported as remaining, and
+ * that a dry run only counts them.
+ */
+@SpringBootTest(properties = {
+        "orders.bulk-delete.chunk-size=4",
+        "orders.bulk-delete.pause=PT0S"
+})
+class OrderBulkDeleteTest extends AbstractIntegrationTest {
+
+    private static final int ORDERS = 20;
+    private static final int CANCELLED = 10;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private BulkCreateOrdersUseCase bulkCreateOrdersUseCase;
+
+    @Autowired
+    private TransitionOrdersUseCase transitionOrdersUseCase;
+
+    @Autowired
+    private BulkDeleteOrdersUseCase bulkDeleteOrdersUseCase;
+
+    @Autowired
+    private DeleteOrderUseCase deleteOrderUseCase;
+
+    @Autowired
+    private AdvancedSearchOrdersUseCase advancedSearchOrdersUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long productId;
+    private List<Long> orderIds;
+
+    @BeforeEach
+    void setUp() {
+        Product product = new Product();
+        product.setName("bulk-delete-" + System.nanoTime());
+        product.setPrice(1.0);
+        product.setStockQuantity(100);
+        productId = createProductUseCase.createProduct(product).getId();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Product reference = new Product();
+            reference.setId(productId);
+            Order order = new Order();
+            order.setProduct(reference);
+            order.setQuantity(1);
+            orders.add(order);
+        }
+        orderIds = bulkCreateOrdersUseCase.bulkCreateOrders(orders.iterator()).stream()
+                .map(BulkOrderResult::orderId)
+                .toList();
+        transitionOrdersUseCase.transitionOrders(
+                new OrderTransitionRequest(orderIds.subList(0, CANCELLED), null, null, OrderStatus.CANCELLED));
+    }
+
+    @Test
+    void deletesMatchingOrdersInChunks() throws Exception {
+        OrderDeletionResult dryRun = bulkDeleteOrdersUseCase.bulkDeleteOrders(
+                new OrderDeletionRequest(OrderStatus.CANCELLED, productId, null, true));
+        assertThat(dryRun.orders()).isEqualTo(CANCELLED);
+        assertThat(advancedSearchOrdersUseCase.advancedSearchOrders(null, productId)).hasSize(ORDERS);
+
+        OrderDeletionResult started = bulkDeleteOrdersUseCase.bulkDeleteOrders(
+                new OrderDeletionRequest(OrderStatus.CANCELLED, productId, null, false));
+        assertThat(started.jobId()).isNotNull();
+        OrderDeletionResult result = awaitJob(started);
+
+        assertThat(result.status()).isEqualTo(OrderDeletionStatus.COMPLETED);
+        assertThat(result.orders()).isEqualTo(CANCELLED);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.remaining()).isZero();
+        assertThat(advancedSearchOrdersUseCase.advancedSearchOrders(null, productId))
+                .extracting(OrderSummary::id)
+                .containsExactlyElementsOf(orderIds.subList(CANCELLED, ORDERS));
+    }
+
+    @Test
+    void ordersLockedDuringTheJobAreReportedAsRemaining() throws Exception {
+        Long lockedId = orderIds.get(CANCELLED / 2);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread lockHolder = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM orders WHERE id = ? FOR UPDATE", Long.class, lockedId);
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        lockHolder.start();
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        OrderDeletionResult result;
+        try {
+            result = awaitJob(bulkDeleteOrdersUseCase.bulkDeleteOrders(
+                    new OrderDeletionRequest(OrderStatus.CANCELLED, productId, null, false)));
+        } finally {
+            release.countDown();
+            lockHolder.join();
+        }
+
+        assertThat(result.status()).isEqualTo(OrderDeletionStatus.COMPLETED);
+        assertThat(result.orders()).isEqualTo(CANCELLED - 1);
+        assertThat(result.remaining()).isEqualTo(1);
+        assertThat(advancedSearchOrdersUseCase.advancedSearchOrders(null, productId))
+                .extracting(OrderSummary::id)
+                .contains(lockedId)
+                .hasSize(ORDERS - CANCELLED + 1);
+    }
+
+    @Test
+    void ageFilterKeepsRecentOrders() throws Exception {
+        OrderDeletionResult result = awaitJob(bulkDeleteOrdersUseCase.bulkDeleteOrders(
+                new OrderDeletionRequest(null, productId, Duration.ofDays(1), false)));
+
+        assertThat(result.orders()).isZero();
+        assertThat(advancedSearchOrdersUseCase.advancedSearchOrders(null, productId)).hasSize(ORDERS);
+    }
+
+    @Test
+    void rejectsUnfilteredDeletionAndMissingOrders() {
+        assertThatThrownBy(() -> bulkDeleteOrdersUseCase.bulkDeleteOrders(new OrderDeletionRequest(null, null, null, false)))
+                .isInstanceOf(InvalidOrderException.class);
+
+        deleteOrderUseCase.deleteOrder(orderIds.get(0));
+        assertThatThrownBy(() -> deleteOrderUseCase.deleteOrder(orderIds.get(0)))
+                .isInstanceOf(OrderNotFoundException.class);
+        assertThat(bulkDeleteOrdersUseCase.retrieveBulkDeletion(UUID.randomUUID())).isEmpty();
+    }
+
+    private OrderDeletionResult awaitJob(OrderDeletionResult started) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        OrderDeletionResult progress = started;
+        while (progress.status() == OrderDeletionStatus.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            progress = bulkDeleteOrdersUseCase.retrieveBulkDeletion(started.jobId()).orElseThrow();
+        }
+        return progress;
+    }
+}
@@ -0,0 +1,104 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.AdvancedSearchOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.CreateOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.RetrieveProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.out.order.OrderRepositoryPort;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.InvalidOrderException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that retried order creations with the same idempotency key create one order and
+ * reserve its stock once, including when the retries race each other.
+ */
+class OrderIdempotencyTest extends AbstractIntegrationTest {
+
+    private static final int RETRIES = 50;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private RetrieveProductUseCase retrieveProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private AdvancedSearchOrdersUseCase advancedSearchOrdersUseCase;
+
+    @Autowired
+    private OrderRepositoryPort orderRepositoryPort;
+
+    @Test
+    void concurrentRetriesCreateOneOrder() throws Exception {
+        Long productId = createProduct("idempotent-sku", 100);
+        String key = "checkout-" + System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Order>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < RETRIES; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return createOrderUseCase.createOrder(order(productId, 3), key);
+                }));
+            }
+            start.countDown();
+            for (Future<Order> future : futures) {
+                assertThat(future.get(60, TimeUnit.SECONDS).getId()).isEqualTo(futures.get(0).get().getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(advancedSearchOrdersUseCase.advancedSearchOrders(null, productId)).hasSize(1);
+        assertThat(retrieveProductUseCase.retrieveProduct(productId).getStockQuantity()).isEqualTo(97);
+        assertThat(orderRepositoryPort.findOrderIdByIdempotencyKey(key)).contains(futures.get(0).get().getId());
+    }
+
+    @Test
+    void reusingAKeyForADifferentOrderIsRejected() {
+        Long productId = createProduct("idempotent-mismatch-sku", 10);
+        String key = "checkout-" + System.nanoTime();
+        createOrderUseCase.createOrder(order(productId, 1), key);
+
+        assertThatThrownBy(() -> createOrderUseCase.createOrder(order(productId, 2), key))
+                .isInstanceOf(InvalidOrderException.class);
+        assertThat(retrieveProductUseCase.retrieveProduct(productId).getStockQuantity()).isEqualTo(9);
+    }
+
+    private Long createProduct(String name, int stock) {
+        Product product = new Product();
+        product.setName(name + "-" + System.nanoTime());
+        product.setPrice(9.99);
+        product.setStockQuantity(stock);
+        product.setCategory("test");
+        return createProductUseCase.createProduct(product).getId();
+    }
+
+    private static Order order(Long productId, int quantity) {
+        Product product = new Product();
+        product.setId(productId);
+        Order order = new Order();
+        order.setProduct(product);
+        order.setQuantity(quantity);
+        return order;
+    }
+}
@@ -0,0 +1,113 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.AdvancedSearchOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.CreateOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.RetrieveProductUseCase;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.InvalidOrderException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that placing orders reserves stock atomically, so a hot product is never oversold.
+ */
+class OrderPlacementConcurrencyTest extends AbstractIntegrationTest {
+
+    private static final int PARALLEL_CALLERS = 400;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private RetrieveProductUseCase retrieveProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private AdvancedSearchOrdersUseCase advancedSearchOrdersUseCase;
+
+    /**
+     * Parallel orders beyond the available stock must be rejected, and every accepted order
+     * must have reserved its quantity.
+     */
+    @Test
+    void concurrentOrdersNeverOversell() throws Exception {
+        int initialStock = 100;
+        Long productId = createProduct("hot-sku", initialStock);
+
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < PARALLEL_CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        createOrderUseCase.createOrder(order(productId, 1));
+                    } catch (InvalidOrderException e) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(failures).hasValue(PARALLEL_CALLERS - initialStock);
+        assertThat(retrieveProductUseCase.retrieveProduct(productId).getStockQuantity()).isZero();
+        assertThat(advancedSearchOrdersUseCase.advancedSearchOrders(null, productId)).hasSize(initialStock);
+    }
+
+    /**
+     * An order exceeding the stock must be rejected without writing anything.
+     */
+    @Test
+    void insufficientStockLeavesNothingWritten() {
+        Long productId = createProduct("scarce-sku", 2);
+
+        assertThatThrownBy(() -> createOrderUseCase.createOrder(order(productId, 3)))
+                .isInstanceOf(InvalidOrderException.class);
+
+        assertThat(retrieveProductUseCase.retrieveProduct(productId).getStockQuantity()).isEqualTo(2);
+        assertThat(advancedSearchOrdersUseCase.advancedSearchOrders(null, productId)).isEmpty();
+    }
+
+    private Long createProduct(String name, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(9.99);
+        product.setStockQuantity(stock);
+        product.setCategory("test");
+        return createProductUseCase.createProduct(product).getId();
+    }
+
+    private static Order order(Long productId, int quantity) {
+        Product product = new Product();
+        product.setId(productId);
+        Order order = new Order();
+        order.setProduct(product);
+        order.setQuantity(quantity);
+        return order;
+    }
+}
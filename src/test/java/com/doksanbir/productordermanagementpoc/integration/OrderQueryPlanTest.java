@@ -0,0 +1,84 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the order search queries are planned as scans of the indexes created by the
+ * migrations rather than as sequential scans of the orders table.
+ */
+@SpringBootTest(properties = "orders.index.enabled=false")
+class OrderQueryPlanTest extends AbstractIntegrationTest {
+
+    private static final String SUMMARY_COLUMNS = "o.id, o.product_id, o.quantity, o.status, o.created_at, o.updated_at";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Seeds a data set large and skewed enough for the planner to prefer selective index scans:
+     * most orders are delivered, while every other status and every product is rare.
+     */
+    @BeforeEach
+    void seed() {
+        Integer seeded = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM products WHERE name = 'plan-product-1'", Integer.class);
+        if (seeded != null && seeded > 0) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO products (name, price, stock_quantity, created_at, updated_at)
+                SELECT 'plan-product-' || i, 1.0, 100, now(), now() FROM generate_series(1, 500) AS i""");
+        jdbcTemplate.update("""
+                INSERT INTO orders (product_id, quantity, status, created_at, updated_at)
+                SELECT p.id, 1,
+                       CASE i % 100 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'SHIPPED' WHEN 2 THEN 'CONFIRMED'
+                                    WHEN 3 THEN 'CANCELLED' ELSE 'DELIVERED' END,
+                       now() - i * interval '1 minute', now()
+                FROM generate_series(1, 200000) AS i
+                JOIN products p ON p.name = 'plan-product-' || (1 + i % 500)""");
+        jdbcTemplate.execute("ANALYZE products");
+        jdbcTemplate.execute("ANALYZE orders");
+    }
+
+    @Test
+    void statusSearchUsesStatusIndex() {
+        assertThat(plan("SELECT " + SUMMARY_COLUMNS + " FROM orders o WHERE o.status = 'SHIPPED' ORDER BY o.id"))
+                .contains("idx_orders_status_id")
+                .doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void productSearchUsesProductIndex() {
+        assertThat(plan("SELECT " + SUMMARY_COLUMNS + " FROM orders o WHERE o.product_id = 42 ORDER BY o.id"))
+                .contains("idx_orders_product_id_id")
+                .doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void combinedSearchUsesCompositeIndex() {
+        assertThat(plan("SELECT " + SUMMARY_COLUMNS
+                + " FROM orders o WHERE o.status = 'SHIPPED' AND o.product_id = 42 ORDER BY o.id"))
+                .contains("idx_orders_product_id_status_id")
+                .doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void oldestPendingOrdersUsePartialIndex() {
+        assertThat(plan("SELECT o.id FROM orders o WHERE o.status = 'PENDING' ORDER BY o.created_at, o.id LIMIT 100"))
+                .contains("idx_orders_pending_created_at")
+                .doesNotContain("Seq Scan");
+    }
+
+    /**
+     * Returns the text plan of a query.
+     */
+    private String plan(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,123 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.AdvancedSearchOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkCreateOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.ListOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.SearchOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that order read paths issue exactly one SQL statement per call, regardless of the
+ * number of orders and distinct products they return. The in-memory order index is disabled,
+ * so the searches exercise the database path.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "orders.index.enabled=false"
+})
+class OrderReadQueryCountTest extends AbstractIntegrationTest {
+
+    private static final int PRODUCTS = 10;
+    private static final int ORDERS_PER_PRODUCT = 3;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private BulkCreateOrdersUseCase bulkCreateOrdersUseCase;
+
+    @Autowired
+    private ListOrdersUseCase listOrdersUseCase;
+
+    @Autowired
+    private SearchOrdersUseCase searchOrdersUseCase;
+
+    @Autowired
+    private AdvancedSearchOrdersUseCase advancedSearchOrdersUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long firstProductId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.setName("query-count-" + System.nanoTime() + "-" + i);
+            product.setPrice(1.0);
+            product.setStockQuantity(100);
+            Long productId = createProductUseCase.createProduct(product).getId();
+            if (i == 0) {
+                firstProductId = productId;
+            }
+            for (int j = 0; j < ORDERS_PER_PRODUCT; j++) {
+                Product reference = new Product();
+                reference.setId(productId);
+                Order order = new Order();
+                order.setProduct(reference);
+                order.setQuantity(1);
+                orders.add(order);
+            }
+        }
+        bulkCreateOrdersUseCase.bulkCreateOrders(orders.iterator());
+    }
+
+    @Test
+    void listOrdersIssuesOneStatement() {
+        List<OrderSummary> orders = countStatements(() -> listOrdersUseCase.listOrders(null, 500).items());
+
+        assertThat(orders).hasSizeGreaterThanOrEqualTo(PRODUCTS * ORDERS_PER_PRODUCT);
+    }
+
+    @Test
+    void searchOrdersIssuesOneStatement() {
+        List<OrderSummary> all = countStatements(() -> searchOrdersUseCase.searchOrders(null));
+        List<OrderSummary> byStatus = countStatements(() -> searchOrdersUseCase.searchOrders(all.get(0).status()));
+
+        assertThat(byStatus).isNotEmpty();
+    }
+
+    @Test
+    void advancedSearchOrdersIssuesOneStatement() {
+        List<OrderSummary> byProduct = countStatements(() -> advancedSearchOrdersUseCase.advancedSearchOrders(null, firstProductId));
+        List<OrderSummary> byStatusAndProduct = countStatements(() ->
+                advancedSearchOrdersUseCase.advancedSearchOrders(byProduct.get(0).status(), firstProductId));
+
+        assertThat(byProduct).hasSize(ORDERS_PER_PRODUCT)
+                .allSatisfy(order -> assertThat(order.productId()).isEqualTo(firstProductId));
+        assertThat(byStatusAndProduct).isNotEmpty();
+    }
+
+    /**
+     * Runs a read and asserts that it issued exactly one statement.
+     */
+    private <T> List<T> countStatements(Supplier<List<T>> read) {
+        statistics.clear();
+
+        List<T> result = read.get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        return result;
+    }
+}
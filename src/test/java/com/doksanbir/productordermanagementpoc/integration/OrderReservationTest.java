@@ -0,0 +1,188 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkCreateOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.CreateOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.DeleteOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.PatchOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.RetrieveOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.TransitionOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.UpdateOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.RetrieveProductUseCase;
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderTransitionRequest;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.InvalidOrderException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that pending orders hold their quantity until they are confirmed, that cancelling
+ * them releases it immediately, and that reservations left unconfirmed expire and release it.
+ * Deleting an order releases its reservation like cancelling it, as long as it has not shipped.
+ * Changing the product or quantity of an order moves its reservation, and bulk-created orders
+ * reserve their quantities like single ones.
+ */
+@SpringBootTest(properties = {
+        "orders.reservations.enabled=true",
+        "orders.reservations.time-to-live=PT1S",
+        "orders.reservations.tick=PT0.1S"
+})
+class OrderReservationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private RetrieveProductUseCase retrieveProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private RetrieveOrderUseCase retrieveOrderUseCase;
+
+    @Autowired
+    private UpdateOrderUseCase updateOrderUseCase;
+
+    @Autowired
+    private PatchOrderUseCase patchOrderUseCase;
+
+    @Autowired
+    private BulkCreateOrdersUseCase bulkCreateOrdersUseCase;
+
+    @Autowired
+    private TransitionOrdersUseCase transitionOrdersUseCase;
+
+    @Autowired
+    private DeleteOrderUseCase deleteOrderUseCase;
+
+    @Test
+    void reservationsAreReleasedOnCancellationAndExpiry() throws Exception {
+        Long productId = createProduct("reserved-sku", 10);
+
+        Order confirmed = createOrderUseCase.createOrder(order(productId, 2));
+        Order cancelled = createOrderUseCase.createOrder(order(productId, 3));
+        Order abandoned = createOrderUseCase.createOrder(order(productId, 4));
+        assertThat(confirmed.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(stock(productId)).isEqualTo(1);
+
+        updateOrderUseCase.updateOrder(withStatus(confirmed, OrderStatus.CONFIRMED));
+        updateOrderUseCase.updateOrder(withStatus(cancelled, OrderStatus.CANCELLED));
+        assertThat(stock(productId)).isEqualTo(4);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (retrieveOrderUseCase.retrieveOrder(abandoned.getId()).getStatus() == OrderStatus.PENDING
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(retrieveOrderUseCase.retrieveOrder(abandoned.getId()).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(retrieveOrderUseCase.retrieveOrder(confirmed.getId()).getStatus()).isNotEqualTo(OrderStatus.CANCELLED);
+        assertThat(stock(productId)).isEqualTo(8);
+    }
+
+    @Test
+    void deletingAnOrderReleasesItsReservationUntilItShips() {
+        Long productId = createProduct("deleted-reservation-sku", 10);
+        Order confirmed = createOrderUseCase.createOrder(order(productId, 2));
+        Order shipped = createOrderUseCase.createOrder(order(productId, 3));
+        transitionOrdersUseCase.transitionOrders(new OrderTransitionRequest(
+                List.of(confirmed.getId(), shipped.getId()), null, null, OrderStatus.CONFIRMED));
+        transitionOrdersUseCase.transitionOrders(new OrderTransitionRequest(
+                List.of(shipped.getId()), null, null, OrderStatus.SHIPPED));
+        assertThat(stock(productId)).isEqualTo(5);
+
+        deleteOrderUseCase.deleteOrder(confirmed.getId());
+        assertThat(stock(productId)).isEqualTo(7);
+
+        deleteOrderUseCase.deleteOrder(shipped.getId());
+        assertThat(stock(productId)).isEqualTo(7);
+    }
+
+    @Test
+    void changingProductOrQuantityMovesTheReservation() {
+        Long firstProductId = createProduct("moved-reservation-first", 10);
+        Long secondProductId = createProduct("moved-reservation-second", 5);
+        Order placed = createOrderUseCase.createOrder(order(firstProductId, 3));
+        assertThat(stock(firstProductId)).isEqualTo(7);
+
+        // every update also runs the state machine, so the order moves on from PENDING and does not expire
+        Order grown = order(firstProductId, 5);
+        grown.setId(placed.getId());
+        updateOrderUseCase.updateOrder(grown);
+        assertThat(stock(firstProductId)).isEqualTo(5);
+
+        patchOrderUseCase.patchOrder(placed.getId(), Map.of("product", Map.of("id", secondProductId)), null);
+        assertThat(stock(firstProductId)).isEqualTo(10);
+        assertThat(stock(secondProductId)).isZero();
+
+        Order oversold = order(secondProductId, 6);
+        oversold.setId(placed.getId());
+        assertThatThrownBy(() -> updateOrderUseCase.updateOrder(oversold))
+                .isInstanceOf(InvalidOrderException.class);
+        assertThat(retrieveOrderUseCase.retrieveOrder(placed.getId()).getQuantity()).isEqualTo(5);
+        assertThat(stock(firstProductId)).isEqualTo(10);
+        assertThat(stock(secondProductId)).isZero();
+    }
+
+    @Test
+    void bulkCreatedOrdersReserveTheirQuantitiesUntilTheyExpire() throws Exception {
+        Long productId = createProduct("bulk-reserved-sku", 3);
+
+        List<BulkOrderResult> results = bulkCreateOrdersUseCase.bulkCreateOrders(
+                List.of(order(productId, 2), order(productId, 2)).iterator());
+
+        assertThat(results).extracting(BulkOrderResult::success).containsExactly(true, false);
+        assertThat(results.get(0).status()).isEqualTo(OrderStatus.PENDING);
+        assertThat(results.get(1).error()).isEqualTo("Insufficient stock for product ID: " + productId);
+        assertThat(stock(productId)).isEqualTo(1);
+
+        Long orderId = results.get(0).orderId();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (retrieveOrderUseCase.retrieveOrder(orderId).getStatus() == OrderStatus.PENDING
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(retrieveOrderUseCase.retrieveOrder(orderId).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(stock(productId)).isEqualTo(3);
+    }
+
+    private int stock(Long productId) {
+        return retrieveProductUseCase.retrieveProduct(productId).getStockQuantity();
+    }
+
+    private Long createProduct(String name, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(9.99);
+        product.setStockQuantity(stock);
+        product.setCategory("test");
+        return createProductUseCase.createProduct(product).getId();
+    }
+
+    private static Order withStatus(Order placed, OrderStatus status) {
+        Order order = order(placed.getProduct().getId(), placed.getQuantity());
+        order.setId(placed.getId());
+        order.setStatus(status);
+        return order;
+    }
+
+    private static Order order(Long productId, int quantity) {
+        Product product = new Product();
+        product.setId(productId);
+        Order order = new Order();
+        order.setProduct(product);
+        order.setQuantity(quantity);
+        return order;
+    }
+}
@@ -0,0 +1,128 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.order.AdvancedSearchOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.BulkCreateOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.RetrieveOrderUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.order.TransitionOrdersUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.domain.BulkOrderResult;
+import com.doksanbir.productordermanagementpoc.domain.Order;
+import com.doksanbir.productordermanagementpoc.domain.OrderStatus;
+import com.doksanbir.productordermanagementpoc.domain.OrderSummary;
+import com.doksanbir.productordermanagementpoc.domain.OrderTransitionRequest;
+import com.doksanbir.productordermanagementpoc.domain.OrderTransitionResult;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that bulk status transitions move only the orders whose status allows it
+ * and report every other selected order as skipped.
+ */
+@AutoConfigureMockMvc
+class OrderStatusTransitionTest extends AbstractIntegrationTest {
+
+    private static final int ORDERS = 20;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private BulkCreateOrdersUseCase bulkCreateOrdersUseCase;
+
+    @Autowired
+    private TransitionOrdersUseCase transitionOrdersUseCase;
+
+    @Autowired
+    private RetrieveOrderUseCase retrieveOrderUseCase;
+
+    @Autowired
+    private AdvancedSearchOrdersUseCase advancedSearchOrdersUseCase;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Value("${orders.bulk-transition.max-ids}")
+    private int bulkTransitionMaxIds;
+
+    private Long productId;
+    private List<Long> orderIds;
+
+    @BeforeEach
+    void setUp() {
+        Product product = new Product();
+        product.setName("transition-" + System.nanoTime());
+        product.setPrice(1.0);
+        product.setStockQuantity(100);
+        productId = createProductUseCase.createProduct(product).getId();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Product reference = new Product();
+            reference.setId(productId);
+            Order order = new Order();
+            order.setProduct(reference);
+            order.setQuantity(1);
+            orders.add(order);
+        }
+        orderIds = bulkCreateOrdersUseCase.bulkCreateOrders(orders.iterator()).stream()
+                .map(BulkOrderResult::orderId)
+                .toList();
+    }
+
+    @Test
+    void transitionsSelectedOrdersAndReportsSkipped() {
+        List<Long> shipped = orderIds.subList(0, 5);
+        transitionOrdersUseCase.transitionOrders(new OrderTransitionRequest(shipped, null, null, OrderStatus.SHIPPED));
+        List<Long> requested = new ArrayList<>(orderIds.subList(0, 10));
+        requested.add(-1L);
+
+        OrderTransitionResult result = transitionOrdersUseCase.transitionOrders(
+                new OrderTransitionRequest(requested, null, null, OrderStatus.CANCELLED));
+
+        assertThat(result.transitionedIds()).containsExactlyElementsOf(orderIds.subList(5, 10));
+        assertThat(result.skipped())
+                .extracting(OrderTransitionResult.Skipped::orderId)
+                .containsExactly(-1L, shipped.get(0), shipped.get(1), shipped.get(2), shipped.get(3), shipped.get(4));
+        assertThat(retrieveOrderUseCase.retrieveOrder(orderIds.get(5)).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(retrieveOrderUseCase.retrieveOrder(orderIds.get(0)).getStatus()).isEqualTo(OrderStatus.SHIPPED);
+    }
+
+    @Test
+    void transitionsOrdersMatchingFilter() {
+        OrderTransitionResult result = transitionOrdersUseCase.transitionOrders(
+                new OrderTransitionRequest(null, OrderStatus.CONFIRMED, productId, OrderStatus.SHIPPED));
+
+        assertThat(result.transitionedIds()).containsExactlyElementsOf(orderIds);
+        assertThat(result.skipped()).isEmpty();
+        assertThat(advancedSearchOrdersUseCase.advancedSearchOrders(OrderStatus.SHIPPED, productId))
+                .extracting(OrderSummary::id)
+                .containsExactlyElementsOf(orderIds);
+    }
+
+    @Test
+    void tooManyOrderIdsAreRejectedWithBadRequest() throws Exception {
+        String ids = LongStream.rangeClosed(1, bulkTransitionMaxIds + 1)
+                .mapToObj(offset -> Long.toString(orderIds.get(0) + offset))
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(post("/api/orders/bulk/status")
+                        .contentType("application/json")
+                        .content("{\"orderIds\": [" + orderIds.get(0) + "," + ids + "], \"targetStatus\": \"CANCELLED\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(retrieveOrderUseCase.retrieveOrder(orderIds.get(0)).getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+    }
+}
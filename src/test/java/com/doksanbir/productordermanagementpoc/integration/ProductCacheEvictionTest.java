@@ -0,0 +1,90 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.DeleteProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.RetrieveProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.UpdateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductRepositoryPort;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.ProductNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that the product cache never serves a product after it was updated or deleted, nor a
+ * value read inside a transaction that was rolled back afterwards.
+ */
+class ProductCacheEvictionTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private RetrieveProductUseCase retrieveProductUseCase;
+
+    @Autowired
+    private UpdateProductUseCase updateProductUseCase;
+
+    @Autowired
+    private DeleteProductUseCase deleteProductUseCase;
+
+    @Autowired
+    private ProductRepositoryPort productRepositoryPort;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void updatedProductIsReadAgain() {
+        Product product = createProductUseCase.createProduct(product("cache-update-" + System.nanoTime()));
+        assertThat(retrieveProductUseCase.retrieveProduct(product.getId()).getDescription()).isEqualTo("original");
+
+        Product update = product(product.getName());
+        update.setId(product.getId());
+        update.setDescription("updated");
+        updateProductUseCase.updateProduct(update);
+
+        assertThat(retrieveProductUseCase.retrieveProduct(product.getId()).getDescription()).isEqualTo("updated");
+    }
+
+    @Test
+    void deletedProductIsNotServedFromTheCache() {
+        Product product = createProductUseCase.createProduct(product("cache-delete-" + System.nanoTime()));
+        retrieveProductUseCase.retrieveProduct(product.getId());
+
+        deleteProductUseCase.deleteProduct(product.getId());
+
+        assertThatThrownBy(() -> retrieveProductUseCase.retrieveProduct(product.getId()))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    @Test
+    void valueReadInsideARolledBackTransactionIsEvicted() {
+        Product product = createProductUseCase.createProduct(product("cache-rollback-" + System.nanoTime()));
+        retrieveProductUseCase.retrieveProduct(product.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Product changed = productRepositoryPort.findById(product.getId()).orElseThrow();
+            changed.setDescription("rolled back");
+            productRepositoryPort.save(changed);
+            assertThat(productRepositoryPort.findById(product.getId()).orElseThrow().getDescription())
+                    .isEqualTo("rolled back");
+            status.setRollbackOnly();
+        });
+
+        assertThat(retrieveProductUseCase.retrieveProduct(product.getId()).getDescription()).isEqualTo("original");
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription("original");
+        product.setPrice(1.0);
+        product.setStockQuantity(10);
+        return product;
+    }
+}
@@ -0,0 +1,71 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportReject;
+import com.doksanbir.productordermanagementpoc.domain.ProductImportReport;
+import com.doksanbir.productordermanagementpoc.infrastructure.adapter.in.product.ProductController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Verifies that a CSV catalog import loads the valid rows with {@code COPY} and rejects rows that
+ * are malformed or whose names already exist in the database or earlier in the import.
+ */
+class ProductImportTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProductController productController;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void importsValidRowsAndRejectsDuplicateAndMalformedRows() throws Exception {
+        String prefix = "import-" + UUID.randomUUID() + "-";
+        Product existing = new Product();
+        existing.setName(prefix + "existing");
+        existing.setPrice(1.0);
+        existing.setStockQuantity(1);
+        createProductUseCase.createProduct(existing);
+
+        String csv = String.join("\n",
+                "name,description,price,stockQuantity,category",
+                prefix + "existing,Already there,2.0,1,Home",
+                "\"" + prefix + "lamp, large\",\"The \"\"Classic\"\" lamp\",12.5,3,Home",
+                "\"" + prefix + "lamp, large\",Again,13.0,1,Home",
+                prefix + "short,Missing columns",
+                prefix + "mug,,4.0,,Kitchen");
+        ProductImportReport report = productController.importProducts("text/csv",
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejects()).extracting(ProductImportReject::rowNumber, ProductImportReject::reason)
+                .containsExactly(
+                        tuple(1L, "Product name already exists"),
+                        tuple(3L, "Duplicate product name in import"),
+                        tuple(4L, "Malformed row: Expected 5 fields but found 2"));
+
+        Map<String, Object> lamp = jdbcTemplate.queryForMap(
+                "SELECT description, price, stock_quantity FROM products WHERE name = ?", prefix + "lamp, large");
+        assertThat(lamp).containsEntry("description", "The \"Classic\" lamp")
+                .containsEntry("price", 12.5)
+                .containsEntry("stock_quantity", 3);
+        assertThat(jdbcTemplate.queryForObject("SELECT stock_quantity FROM products WHERE name = ?",
+                Integer.class, prefix + "mug")).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM products WHERE name LIKE ?",
+                Long.class, prefix + "%")).isEqualTo(3);
+    }
+}
@@ -0,0 +1,104 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.product.ImportProductsUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.SearchProductsUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductRepositoryPort;
+import com.doksanbir.productordermanagementpoc.application.port.out.product.ProductSearchIndexPort;
+import com.doksanbir.productordermanagementpoc.application.specification.product.ProductSpecification;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.domain.ProductSummary;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares product searches answered by the trigram index with the same searches run as
+ * {@code LIKE '%term%'} queries, checking that both return the same products and logging
+ * the time each path takes.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class ProductSearchBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchBenchmarkTest.class);
+
+    private static final int PRODUCTS = 200_000;
+    private static final int ROUNDS = 20;
+    private static final String[] ADJECTIVES = {"red", "green", "blue", "steel", "wooden", "compact", "deluxe", "smart"};
+    private static final String[] NOUNS = {"chair", "table", "lamp", "desk", "mug", "cable", "charger", "bottle"};
+    private static final String[] CATEGORIES = {"Furniture", "Kitchen", "Electronics", "Office", "Outdoor"};
+
+    @Autowired
+    private ImportProductsUseCase importProductsUseCase;
+
+    @Autowired
+    private SearchProductsUseCase searchProductsUseCase;
+
+    @Autowired
+    private ProductRepositoryPort productRepositoryPort;
+
+    @Autowired
+    private ProductSearchIndexPort productSearchIndexPort;
+
+    @Test
+    void indexedSearchMatchesSqlSearch() {
+        importProductsUseCase.importProducts(IntStream.range(0, PRODUCTS).mapToObj(i ->
+                ADJECTIVES[i % ADJECTIVES.length] + " " + NOUNS[(i / ADJECTIVES.length) % NOUNS.length] + " " + i
+                        + "|" + CATEGORIES[i % CATEGORIES.length]), line -> {
+            String[] fields = line.split("\\|");
+            Product product = new Product();
+            product.setName(fields[0]);
+            product.setCategory(fields[1]);
+            product.setPrice(1.0);
+            return product;
+        });
+        assertThat(productSearchIndexPort.isReady()).isTrue();
+
+        List<String[]> queries = List.of(
+                new String[]{"steel desk 1999", null},
+                new String[]{"wooden lamp", "office"},
+                new String[]{"77777", null},
+                new String[]{null, "kitch"},
+                new String[]{"MUG 12", "kitchen"});
+        for (String[] query : queries) {
+            String name = query[0];
+            String category = query[1];
+            List<ProductSummary> indexed = time("index", name, category,
+                    () -> searchProductsUseCase.searchProducts(name, category));
+            List<ProductSummary> sql = time("sql", name, category,
+                    () -> productRepositoryPort.findSummaries(likeSpecification(name, category)));
+            assertThat(indexed).isEqualTo(sql);
+        }
+    }
+
+    private static Specification<Product> likeSpecification(String name, String category) {
+        Specification<Product> spec = Specification.where(null);
+        if (name != null) {
+            spec = spec.and(ProductSpecification.hasNameContaining(name));
+        }
+        if (category != null) {
+            spec = spec.and(ProductSpecification.hasCategoryContaining(category));
+        }
+        return spec;
+    }
+
+    private static <T> List<T> time(String path, String name, String category, Supplier<List<T>> search) {
+        List<T> result = search.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            search.get();
+        }
+        long averageMicros = (System.nanoTime() - start) / ROUNDS / 1_000;
+        log.info("{} search name={} category={}: {} results, {} us on average", path, name, category,
+                result.size(), averageMicros);
+        return result;
+    }
+}
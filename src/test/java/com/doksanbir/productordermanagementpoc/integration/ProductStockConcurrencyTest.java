@@ -0,0 +1,105 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.product.AdjustStockUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.RetrieveProductUseCase;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.InvalidProductException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that stock adjustments stay correct under heavy contention on a single product.
+ */
+class ProductStockConcurrencyTest extends AbstractIntegrationTest {
+
+    private static final int PARALLEL_CALLERS = 400;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private AdjustStockUseCase adjustStockUseCase;
+
+    @Autowired
+    private RetrieveProductUseCase retrieveProductUseCase;
+
+    /**
+     * Hundreds of parallel increments of the same product must all be applied.
+     */
+    @Test
+    void concurrentAdjustmentsDoNotLoseUpdates() throws Exception {
+        Long productId = createProduct("concurrent-increments", 0);
+
+        AtomicInteger failures = runConcurrently(() -> adjustStockUseCase.adjustStock(productId, 1));
+
+        assertThat(failures).hasValue(0);
+        assertThat(retrieveProductUseCase.retrieveProduct(productId).getStockQuantity()).isEqualTo(PARALLEL_CALLERS);
+    }
+
+    /**
+     * Parallel decrements beyond the available stock must be rejected instead of overselling.
+     */
+    @Test
+    void concurrentDecrementsNeverDriveStockNegative() throws Exception {
+        int initialStock = 100;
+        Long productId = createProduct("concurrent-decrements", initialStock);
+
+        AtomicInteger failures = runConcurrently(() -> adjustStockUseCase.adjustStock(productId, -1));
+
+        assertThat(failures).hasValue(PARALLEL_CALLERS - initialStock);
+        assertThat(retrieveProductUseCase.retrieveProduct(productId).getStockQuantity()).isZero();
+    }
+
+    private Long createProduct(String name, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(9.99);
+        product.setStockQuantity(stock);
+        product.setCategory("test");
+        return createProductUseCase.createProduct(product).getId();
+    }
+
+    /**
+     * Runs the action from {@link #PARALLEL_CALLERS} tasks released at the same moment.
+     *
+     * @return the number of calls rejected with {@link InvalidProductException}
+     */
+    private AtomicInteger runConcurrently(Runnable action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < PARALLEL_CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        action.run();
+                    } catch (InvalidProductException e) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return failures;
+    }
+}
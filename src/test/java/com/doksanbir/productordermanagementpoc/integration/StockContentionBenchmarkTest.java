@@ -0,0 +1,117 @@
+package com.doksanbir.productordermanagementpoc.integration;
+
+import com.doksanbir.productordermanagementpoc.application.port.in.product.AdjustStockUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.CreateProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.RetrieveProductUseCase;
+import com.doksanbir.productordermanagementpoc.application.port.in.product.ShardStockUseCase;
+import com.doksanbir.productordermanagementpoc.domain.Product;
+import com.doksanbir.productordermanagementpoc.exception.InvalidProductException;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares parallel stock decrements of a product kept in its own row with the same decrements
+ * of a product sharded over stock buckets, checking that neither path oversells or loses an
+ * adjustment and logging the throughput of each.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class StockContentionBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StockContentionBenchmarkTest.class);
+
+    private static final int THREADS = 32;
+    private static final int DECREMENTS = 4_000;
+    private static final int STOCK = 3_000;
+    private static final int BUCKETS = 8;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private RetrieveProductUseCase retrieveProductUseCase;
+
+    @Autowired
+    private AdjustStockUseCase adjustStockUseCase;
+
+    @Autowired
+    private ShardStockUseCase shardStockUseCase;
+
+    @Test
+    void shardedStockNeverOversells() throws Exception {
+        Long singleRow = createProduct("contention-single-row");
+        Long sharded = createProduct("contention-sharded");
+        assertThat(shardStockUseCase.shardStock(sharded, BUCKETS)).isEqualTo(STOCK);
+
+        int singleRowSold = decrementInParallel("single-row", singleRow);
+        int shardedSold = decrementInParallel("sharded", sharded);
+
+        assertThat(singleRowSold).isEqualTo(STOCK);
+        assertThat(shardedSold).isEqualTo(STOCK);
+        assertThat(retrieveProductUseCase.retrieveProduct(singleRow).getStockQuantity()).isZero();
+        assertThat(retrieveProductUseCase.retrieveProduct(sharded).getStockQuantity()).isZero();
+    }
+
+    @Test
+    void shardingKeepsTheStockQuantity() {
+        Long productId = createProduct("contention-reshard");
+
+        assertThat(shardStockUseCase.shardStock(productId, BUCKETS)).isEqualTo(STOCK);
+        adjustStockUseCase.adjustStock(productId, -(STOCK - 1));
+        adjustStockUseCase.adjustStock(productId, 10);
+        assertThat(retrieveProductUseCase.retrieveProduct(productId).getStockQuantity()).isEqualTo(11);
+        assertThat(shardStockUseCase.shardStock(productId, 0)).isEqualTo(11);
+        assertThat(retrieveProductUseCase.retrieveProduct(productId).getStockQuantity()).isEqualTo(11);
+    }
+
+    private Long createProduct(String name) {
+        Product product = new Product();
+        product.setName(name + "-" + System.nanoTime());
+        product.setPrice(1.0);
+        product.setStockQuantity(STOCK);
+        return createProductUseCase.createProduct(product).getId();
+    }
+
+    /**
+     * Issues more single-unit decrements than there is stock from many threads and returns how
+     * many of them succeeded.
+     */
+    private int decrementInParallel(String path, Long productId) throws Exception {
+        AtomicInteger sold = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < DECREMENTS; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        adjustStockUseCase.adjustStock(productId, -1);
+                        sold.incrementAndGet();
+                    } catch (InvalidProductException e) {
+                        // out of stock
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            log.info("{} stock: {} decrements from {} threads in {} ms, {} per second", path, DECREMENTS, THREADS,
+                    elapsedMillis, DECREMENTS * 1_000L / elapsedMillis);
+        } finally {
+            executor.shutdown();
+        }
+        return sold.get();
+    }
+}
@@ -0,0 +1,64 @@
+package com.doksanbir.productordermanagementpoc.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Verifies that CSV lines are split on unquoted commas only, that escaped quotes are unescaped,
+ * and that lines not matching the header are rejected.
+ */
+class CsvRowParserTest {
+
+    private final CsvRowParser parser = new CsvRowParser("name, description ,price");
+
+    @Test
+    void mapsFieldsByTrimmedHeaderColumns() {
+        assertThat(parser.parse("Lamp,Desk lamp,12.5"))
+                .isEqualTo(Map.of("name", "Lamp", "description", "Desk lamp", "price", "12.5"));
+    }
+
+    @Test
+    void keepsCommasInsideQuotedFields() {
+        Map<String, String> row = parser.parse("\"Lamp, large\",\"Brass, 40cm\",30");
+
+        assertThat(row.get("name")).isEqualTo("Lamp, large");
+        assertThat(row.get("description")).isEqualTo("Brass, 40cm");
+    }
+
+    @Test
+    void unescapesDoubledQuotes() {
+        Map<String, String> row = parser.parse("\"The \"\"Classic\"\" lamp\",\"\"\"\",1");
+
+        assertThat(row.get("name")).isEqualTo("The \"Classic\" lamp");
+        assertThat(row.get("description")).isEqualTo("\"");
+    }
+
+    @Test
+    void readsEmptyUnquotedFieldsAsNullAndEmptyQuotedFieldsAsEmpty() {
+        Map<String, String> row = parser.parse("Lamp,,\"\"");
+
+        assertThat(row).containsEntry("description", null);
+        assertThat(row.get("price")).isEmpty();
+    }
+
+    @Test
+    void rejectsLinesWithMissingOrExtraColumns() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parser.parse("Lamp,Desk lamp"))
+                .withMessage("Expected 3 fields but found 2");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parser.parse("Lamp,Desk lamp,12.5,4"))
+                .withMessage("Expected 3 fields but found 4");
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedFields() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parser.parse("\"Lamp,Desk lamp,12.5"))
+                .withMessage("Unterminated quoted field");
+    }
+}
@@ -0,0 +1,70 @@
+package com.doksanbir.productordermanagementpoc.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the hashed timing wheel expires every key exactly once, at the first tick at or
+ * after its deadline, including deadlines several revolutions ahead and in the past.
+ */
+class HashedTimingWheelTest {
+
+    private static final long TICK = 100;
+    private static final int SLOTS = 64;
+    private static final long START = 1_000_000;
+
+    @Test
+    void keysExpireAtTheirDeadlineTick() {
+        HashedTimingWheel wheel = new HashedTimingWheel(TICK, SLOTS, START);
+        Random random = new Random(42);
+        long[] deadlines = new long[100_000];
+        for (int key = 0; key < deadlines.length; key++) {
+            deadlines[key] = START + 1 + random.nextInt((int) (TICK * SLOTS * 5));
+            wheel.schedule(key, deadlines[key]);
+        }
+
+        Set<Long> expired = new HashSet<>();
+        for (long now = START; now <= START + TICK * SLOTS * 5 + TICK; now += TICK) {
+            long tickEnd = now;
+            List<Long> due = new ArrayList<>();
+            wheel.advance(now, due::add);
+            for (Long key : due) {
+                assertThat(deadlines[key.intValue()]).isLessThanOrEqualTo(tickEnd);
+                assertThat(deadlines[key.intValue()]).isGreaterThan(tickEnd - TICK);
+                assertThat(expired.add(key)).isTrue();
+            }
+        }
+        assertThat(expired).hasSize(deadlines.length);
+    }
+
+    @Test
+    void pastDeadlinesExpireAtTheNextTick() {
+        HashedTimingWheel wheel = new HashedTimingWheel(TICK, SLOTS, START);
+        wheel.schedule(1, START - 10 * TICK);
+        wheel.schedule(2, START + 3 * TICK);
+
+        List<Long> due = new ArrayList<>();
+        assertThat(wheel.advance(START + TICK, due::add)).isEqualTo(1);
+        assertThat(due).containsExactly(1L);
+    }
+
+    @Test
+    void longPausesExpireEverythingDue() {
+        HashedTimingWheel wheel = new HashedTimingWheel(TICK, SLOTS, START);
+        wheel.schedule(1, START + TICK);
+        wheel.schedule(2, START + TICK * SLOTS * 3);
+        wheel.schedule(3, START + TICK * SLOTS * 20);
+
+        List<Long> due = new ArrayList<>();
+        wheel.advance(START + TICK * SLOTS * 10, due::add);
+
+        assertThat(due).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
@@ -0,0 +1,216 @@
+package com.doksanbir.productordermanagementpoc.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that concurrent loads of the same key are coalesced into one, that waiting callers
+ * share failures and fall back to their own load after the timeout, and that the number of keys
+ * in flight is bounded.
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    @Test
+    void concurrentLoadsOfTheSameKeyShareOneLoad() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(100, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ConcurrentLinkedQueue<String> results = new ConcurrentLinkedQueue<>();
+
+        List<Thread> callers = start(CALLERS, () -> results.add(singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "product-1";
+        })));
+        awaitBlocked(callers);
+        release.countDown();
+        join(callers);
+
+        assertThat(loads).hasValue(1);
+        assertThat(results).hasSize(CALLERS).containsOnly("product-1");
+        assertThat(singleFlight.loaded()).isEqualTo(1);
+        assertThat(singleFlight.coalesced()).isEqualTo(CALLERS - 1);
+        assertThat(singleFlight.inFlight()).isZero();
+
+        assertThat(singleFlight.load(1L, () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void failedLoadIsRethrownToWaitingCallers() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(100, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        List<Thread> callers = start(CALLERS, () -> {
+            try {
+                singleFlight.load(1L, () -> {
+                    await(release);
+                    throw new IllegalStateException("database unavailable");
+                });
+            } catch (IllegalStateException e) {
+                failures.add(e);
+            }
+        });
+        awaitBlocked(callers);
+        release.countDown();
+        join(callers);
+
+        assertThat(failures).hasSize(CALLERS).allSatisfy(failure ->
+                assertThat(failure).hasMessage("database unavailable"));
+        assertThat(singleFlight.loaded()).isEqualTo(1);
+    }
+
+    @Test
+    void waitingCallerLoadsItselfAfterTimeout() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(100, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Thread> leader = start(1, () -> singleFlight.load(1L, () -> {
+            await(release);
+            return "slow";
+        }));
+        awaitBlocked(leader);
+
+        assertThat(singleFlight.load(1L, () -> "fast")).isEqualTo("fast");
+        assertThat(singleFlight.timedOut()).isEqualTo(1);
+        release.countDown();
+        join(leader);
+    }
+
+    @Test
+    void keysBeyondTheMaximumInFlightAreLoadedWithoutCoalescing() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(1, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Thread> leader = start(1, () -> singleFlight.load(1L, () -> {
+            await(release);
+            return "product-1";
+        }));
+        awaitBlocked(leader);
+
+        assertThat(singleFlight.load(2L, () -> "product-2")).isEqualTo("product-2");
+        assertThat(singleFlight.overflowed()).isEqualTo(1);
+        assertThat(singleFlight.inFlight()).isEqualTo(1);
+        release.countDown();
+        join(leader);
+    }
+
+    @Test
+    void forgottenLoadIsNotJoinedByLaterCallers() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(100, Duration.ofSeconds(10));
+        CountDownLatch releaseStale = new CountDownLatch(1);
+        CountDownLatch releaseFresh = new CountDownLatch(1);
+        ConcurrentLinkedQueue<String> results = new ConcurrentLinkedQueue<>();
+
+        List<Thread> staleLeader = start(1, () -> results.add(singleFlight.load(1L, () -> {
+            await(releaseStale);
+            return "stale";
+        })));
+        awaitBlocked(staleLeader);
+        singleFlight.forgetting(1L).run();
+        List<Thread> freshLeader = start(1, () -> results.add(singleFlight.load(1L, () -> {
+            await(releaseFresh);
+            return "fresh";
+        })));
+        awaitBlocked(freshLeader);
+
+        releaseStale.countDown();
+        join(staleLeader);
+        assertThat(singleFlight.inFlight()).isEqualTo(1);
+        releaseFresh.countDown();
+        join(freshLeader);
+
+        assertThat(results).containsExactly("stale", "fresh");
+        assertThat(singleFlight.loaded()).isEqualTo(2);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void loadStartedAfterTheWriteSurvivesTheForget() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(100, Duration.ofSeconds(10));
+        CountDownLatch releaseStale = new CountDownLatch(1);
+        CountDownLatch releaseFresh = new CountDownLatch(1);
+        ConcurrentLinkedQueue<String> results = new ConcurrentLinkedQueue<>();
+
+        List<Thread> staleLeader = start(1, () -> results.add(singleFlight.load(1L, () -> {
+            await(releaseStale);
+            return "stale";
+        })));
+        awaitBlocked(staleLeader);
+        Runnable forget = singleFlight.forgetting(1L);
+        releaseStale.countDown();
+        join(staleLeader);
+
+        List<Thread> freshLeader = start(1, () -> results.add(singleFlight.load(1L, () -> {
+            await(releaseFresh);
+            return "fresh";
+        })));
+        awaitBlocked(freshLeader);
+        forget.run();
+        assertThat(singleFlight.inFlight()).isEqualTo(1);
+
+        List<Thread> follower = start(1, () -> results.add(singleFlight.load(1L, () -> "reloaded")));
+        awaitBlocked(follower);
+        releaseFresh.countDown();
+        join(freshLeader);
+        join(follower);
+
+        assertThat(results).containsExactly("stale", "fresh", "fresh");
+        assertThat(singleFlight.loaded()).isEqualTo(2);
+        assertThat(singleFlight.coalesced()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidLimitsAreRejected() {
+        assertThatThrownBy(() -> new SingleFlight<>(0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SingleFlight<>(1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Thread> start(int count, Runnable task) {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Thread thread = new Thread(task);
+            thread.start();
+            threads.add(thread);
+        }
+        return threads;
+    }
+
+    /**
+     * Waits until every thread is parked, either loading behind the latch or waiting for the leader.
+     */
+    private static void awaitBlocked(List<Thread> threads) throws InterruptedException {
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING
+                || thread.getState() == Thread.State.TIMED_WAITING)) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void join(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}